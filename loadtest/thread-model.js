@@ -0,0 +1,52 @@
+// k6 load test comparing the platform-thread and virtual-thread execution modes.
+//
+// Run the app once per mode with the same pools and data:
+//   ./gradlew bootRun
+//   ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=vthreads'
+// then, for each run:
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<jwt> -e ACCOUNT_ID=<uuid> -e ACCOUNT_NUMBER=<number> \
+//          -e EMAIL=<login email> -e PASSWORD=<login password> loadtest/thread-model.js
+// Compare http_req_duration percentiles, http_reqs rate and the error rate per scenario, together with
+// hikaricp_connections_pending and jvm_threads_live from /actuator/metrics.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '400');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    reads: { executor: 'constant-vus', exec: 'reads', vus: VUS, duration: DURATION },
+    deposits: { executor: 'constant-vus', exec: 'deposits', vus: Math.ceil(VUS / 4), duration: DURATION },
+    logins: { executor: 'constant-vus', exec: 'logins', vus: Math.ceil(VUS / 20), duration: DURATION },
+  },
+  thresholds: {
+    'http_req_failed{scenario:reads}': ['rate<0.01'],
+    'http_req_failed{scenario:deposits}': ['rate<0.01'],
+  },
+};
+
+const headers = {
+  'Content-Type': 'application/json',
+  Authorization: `Bearer ${__ENV.TOKEN}`,
+};
+
+export function reads() {
+  const res = http.get(`${BASE_URL}/api/accounts/${__ENV.ACCOUNT_NUMBER}`, { headers });
+  check(res, { 'read 200': (r) => r.status === 200 });
+}
+
+export function deposits() {
+  const res = http.post(`${BASE_URL}/api/accounts/${__ENV.ACCOUNT_ID}/deposit`,
+      JSON.stringify({ amount: 1, currency: 'USD' }), { headers });
+  check(res, { 'deposit 204': (r) => r.status === 204 });
+}
+
+export function logins() {
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+      JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+      { headers: { 'Content-Type': 'application/json' } });
+  check(res, { 'login 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,44 @@
+package com.mycorp.finance;
+
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.customer.domain.model.Customer;
+import com.mycorp.finance.customer.domain.model.vo.Address;
+import com.mycorp.finance.customer.domain.model.vo.Email;
+import com.mycorp.finance.customer.domain.model.vo.Name;
+import com.mycorp.finance.customer.domain.model.vo.Password;
+import com.mycorp.finance.customer.domain.model.vo.PhoneNumber;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Representative aggregates shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    public static final Clock CLOCK = Clock.systemUTC();
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Account account() {
+        return Account.createNewAccount(
+                UUID.randomUUID(),
+                AccountNumber.fromSequence(123_456_789L),
+                MinorMoney.ofMinor(1_234_567L, "USD"),
+                CLOCK);
+    }
+
+    public static Customer customer() {
+        return Customer.register(
+                new Name("Jane", null, "Doe"),
+                new Email("jane.doe@example.com"),
+                new Address("US", "CA", "San Francisco", "1 Market St", "94105"),
+                new PhoneNumber("+14155550123"),
+                Password.fromHashed("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3sA1r6p0x/0rD3yV6XIu0ZC"),
+                LocalDate.of(1990, 1, 31));
+    }
+}
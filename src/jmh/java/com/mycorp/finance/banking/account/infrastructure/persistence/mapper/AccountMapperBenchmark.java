@@ -0,0 +1,43 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.mapper;
+
+import com.mycorp.finance.BenchmarkFixtures;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain/entity conversion done on every account command: load (toDomain) and save (toEntity),
+ * for a single balance row and for a sharded account whose slot totals are folded in.
+ *
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountMapperBenchmark {
+
+    private final Account account = BenchmarkFixtures.account();
+    private final AccountEntity entity = AccountMapper.toEntity(account);
+
+    @Benchmark
+    public AccountEntity toEntity() {
+        return AccountMapper.toEntity(account);
+    }
+
+    @Benchmark
+    public Account toDomain() {
+        return AccountMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Account toDomainSharded() {
+        return AccountMapper.toDomain(entity, 5_000L, 7L);
+    }
+}
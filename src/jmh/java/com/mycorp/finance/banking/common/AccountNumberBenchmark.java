@@ -0,0 +1,64 @@
+package com.mycorp.finance.banking.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of account number issuing and parsing, against the former UUID + regex implementation.
+ * The sequence variant excludes the nextval round trip, which is paid once per reserved block.
+ *
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountNumberBenchmark {
+
+    private static final String SEQUENCE_ISSUED = AccountNumber.fromSequence(123_456_789L).value();
+    private static final String LEGACY_ISSUED = "ACCT-1A2B3C4D";
+
+    private long sequence;
+
+    @Benchmark
+    public String generateLegacy() {
+        String raw = "ACCT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return validateLegacy(raw);
+    }
+
+    @Benchmark
+    public AccountNumber generateFromSequence() {
+        return AccountNumber.fromSequence(sequence++ % AccountNumber.SEQUENCE_CAPACITY);
+    }
+
+    @Benchmark
+    public String parseLegacy() {
+        return validateLegacy(LEGACY_ISSUED);
+    }
+
+    @Benchmark
+    public AccountNumber parse() {
+        return AccountNumber.of(LEGACY_ISSUED);
+    }
+
+    @Benchmark
+    public boolean parseAndVerifyCheckCharacter() {
+        return AccountNumber.of(SEQUENCE_ISSUED).isSequenceIssued();
+    }
+
+    private static String validateLegacy(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Account number cannot be null or blank");
+        }
+        if (!value.matches("ACCT-[A-Z0-9]{8}")) {
+            throw new IllegalArgumentException("Invalid account number format: " + value);
+        }
+        return value;
+    }
+}
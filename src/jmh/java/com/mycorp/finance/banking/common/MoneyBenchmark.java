@@ -0,0 +1,57 @@
+package com.mycorp.finance.banking.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a balance change on the domain path: BigDecimal Money versus long based MinorMoney,
+ * including the conversion to and from the cents stored in accounts.balance_amount.
+ *
+ * Run with ./gradlew jmh and compare gc.alloc.rate.norm (bytes per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final CurrencyUnit USD_UNIT = CurrencyUnit.of(USD);
+
+    private final long storedBalance = 1_234_567L;
+    private final Money moneyDelta = Money.of(new BigDecimal("12.34"), USD);
+    private final MinorMoney minorDelta = MinorMoney.ofMinor(1_234L, USD_UNIT);
+
+    @Benchmark
+    public long depositMoney() {
+        Money balance = new Money(BigDecimal.valueOf(storedBalance).divide(BigDecimal.valueOf(100)), USD);
+        Money updated = balance.add(moneyDelta);
+        return updated.getAmount().multiply(BigDecimal.valueOf(100)).longValue();
+    }
+
+    @Benchmark
+    public long depositMinorMoney() {
+        MinorMoney balance = MinorMoney.ofMinor(storedBalance, USD_UNIT);
+        MinorMoney updated = balance.add(minorDelta);
+        return updated.getMinorUnits();
+    }
+
+    @Benchmark
+    public boolean withdrawalCheckMoney() {
+        Money balance = new Money(BigDecimal.valueOf(storedBalance).divide(BigDecimal.valueOf(100)), USD);
+        return balance.isLessThan(moneyDelta) || balance.subtract(moneyDelta).isNegative();
+    }
+
+    @Benchmark
+    public boolean withdrawalCheckMinorMoney() {
+        MinorMoney balance = MinorMoney.ofMinor(storedBalance, USD_UNIT);
+        return balance.isLessThan(minorDelta) || balance.subtract(minorDelta).isNegative();
+    }
+}
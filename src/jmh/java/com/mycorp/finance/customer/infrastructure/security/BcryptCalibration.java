@@ -0,0 +1,59 @@
+package com.mycorp.finance.customer.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Measures BCrypt on the current machine and recommends the cost factor for a target latency.
+ *
+ * For each cost from 8 upward, hashes a sample password a few times after a warm-up and takes the median;
+ * stops once the median exceeds the target. The recommended cost is the highest one within the target.
+ * Run on hardware like production with ./gradlew calibrateBcrypt -PtargetMs=250 and set the result as
+ * security.password-hashing.bcrypt-strength; existing hashes are upgraded on login.
+ */
+public final class BcryptCalibration {
+
+    private static final int MIN_COST = 8;
+    private static final int MAX_COST = 16;
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "Calibrate-Password-1!";
+
+    private BcryptCalibration() {
+    }
+
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : 250L;
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Target %d ms per hash, %d processors%n", targetMs, processors);
+
+        int recommended = MIN_COST;
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            double medianMs = medianMs(cost);
+            boolean withinTarget = medianMs <= targetMs;
+            System.out.printf("cost %2d: %8.1f ms/hash, %6.1f logins/s per core%s%n",
+                    cost, medianMs, 1000 / medianMs, withinTarget ? "" : "  (over target)");
+            if (!withinTarget) {
+                break;
+            }
+            recommended = cost;
+        }
+
+        System.out.printf("%nsecurity.password-hashing.bcrypt-strength=%d%n", recommended);
+    }
+
+    private static double medianMs(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        String hash = encoder.encode(SAMPLE_PASSWORD); // warm-up
+        encoder.matches(SAMPLE_PASSWORD, hash);
+
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[SAMPLES / 2] / 1_000_000.0;
+    }
+}
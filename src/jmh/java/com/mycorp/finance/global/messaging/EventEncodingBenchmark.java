@@ -0,0 +1,96 @@
+package com.mycorp.finance.global.messaging;
+
+import com.mycorp.finance.BenchmarkFixtures;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.infrastructure.messaging.AccountEventMapper;
+import com.mycorp.finance.customer.domain.model.Customer;
+import com.mycorp.finance.customer.infrastructure.messaging.CustomerEventMapper;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avro binary size and serialize/deserialize cost of every event, version 1 (string ids and timestamps)
+ * against version 2 (fixed(16) ids, timestamp-millis), without the registry framing.
+ * Events are built by the production mappers from the shared fixtures.
+ * The encoded size of each event is printed during setup.
+ *
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventEncodingBenchmark {
+
+    @Param({
+            "account-created-v1", "account-created-v2", "account-updated-v1", "account-updated-v2",
+            "account-deleted-v1", "account-deleted-v2", "customer-created-v1", "customer-created-v2",
+            "customer-updated-v1", "customer-updated-v2", "customer-deleted-v1", "customer-deleted-v2"})
+    private String event;
+
+    private SpecificRecord record;
+    private SpecificDatumWriter<SpecificRecord> writer;
+    private SpecificDatumReader<SpecificRecord> reader;
+    private byte[] encoded;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        AccountEventMapper accounts = new AccountEventMapper(BenchmarkFixtures.CLOCK);
+        CustomerEventMapper customers = new CustomerEventMapper(BenchmarkFixtures.CLOCK);
+        Account account = BenchmarkFixtures.account();
+        Customer customer = BenchmarkFixtures.customer();
+        record = switch (event) {
+            case "account-created-v1" -> accounts.toAccountCreatedEvent(account);
+            case "account-created-v2" -> accounts.toAccountCreatedEventV2(account);
+            case "account-updated-v1" -> accounts.toAccountUpdatedEvent(account);
+            case "account-updated-v2" -> accounts.toAccountUpdatedEventV2(account);
+            case "account-deleted-v1" -> accounts.toAccountDeletedEvent(account);
+            case "account-deleted-v2" -> accounts.toAccountDeletedEventV2(account);
+            case "customer-created-v1" -> customers.toCustomerCreatedEvent(customer);
+            case "customer-created-v2" -> customers.toCustomerCreatedEventV2(customer);
+            case "customer-updated-v1" -> customers.toCustomerUpdatedEvent(customer);
+            case "customer-updated-v2" -> customers.toCustomerUpdatedEventV2(customer);
+            case "customer-deleted-v1" -> customers.toCustomerDeletedEvent(customer);
+            case "customer-deleted-v2" -> customers.toCustomerDeletedEventV2(customer);
+            default -> throw new IllegalArgumentException(event);
+        };
+        writer = new SpecificDatumWriter<>(record.getSchema());
+        reader = new SpecificDatumReader<>(record.getSchema());
+        encoded = serialize();
+        System.out.printf("%n%s: %d bytes per event%n", event, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        out.reset();
+        encoder = EncoderFactory.get().binaryEncoder(out, encoder);
+        writer.write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public SpecificRecord deserialize() throws IOException {
+        decoder = DecoderFactory.get().binaryDecoder(encoded, decoder);
+        return reader.read(null, decoder);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mycorp.finance.global.messaging;
+
+import com.mycorp.finance.BenchmarkFixtures;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.infrastructure.messaging.AccountEventMapper;
+import com.mycorp.finance.customer.domain.model.Customer;
+import com.mycorp.finance.customer.infrastructure.messaging.CustomerEventMapper;
+import org.apache.avro.specific.SpecificRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregate to Avro event mapping done for every outbox write, version 1 against version 2 schemas.
+ * Version 1 formats ids and timestamps as strings; version 2 writes them as bytes and instants.
+ *
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventMappingBenchmark {
+
+    private final AccountEventMapper accountEventMapper = new AccountEventMapper(BenchmarkFixtures.CLOCK);
+    private final CustomerEventMapper customerEventMapper = new CustomerEventMapper(BenchmarkFixtures.CLOCK);
+    private final Account account = BenchmarkFixtures.account();
+    private final Customer customer = BenchmarkFixtures.customer();
+
+    @Benchmark
+    public SpecificRecord accountUpdated() {
+        return accountEventMapper.toAccountUpdatedEvent(account);
+    }
+
+    @Benchmark
+    public SpecificRecord accountUpdatedV2() {
+        return accountEventMapper.toAccountUpdatedEventV2(account);
+    }
+
+    @Benchmark
+    public SpecificRecord customerCreated() {
+        return customerEventMapper.toCustomerCreatedEvent(customer);
+    }
+
+    @Benchmark
+    public SpecificRecord customerCreatedV2() {
+        return customerEventMapper.toCustomerCreatedEventV2(customer);
+    }
+}
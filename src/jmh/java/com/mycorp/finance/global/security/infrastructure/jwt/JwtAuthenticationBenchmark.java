@@ -0,0 +1,72 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token handling of JwtAuthenticationFilter: the former validate-then-extract path,
+ * which parsed and verified every token twice, against a single verification and a cache hit.
+ * A tampered token measures the rejection path.
+ *
+ * Run with ./gradlew jmh -PjmhIncludes=JwtAuthentication
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "F9DJ93dj39sdf@93djf9sdD393djf!D3jfdfsl";
+    private static final long VALIDITY_MS = 3_600_000L;
+
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final JwtVerificationCache noCache = new JwtVerificationCache(new SimpleMeterRegistry(), 0, Duration.ZERO);
+    private final JwtKeyRing keyRing = new JwtKeyRing("HS256", SECRET, new JwtKeyRingProperties(), noCache);
+    private final JwtTokenProvider uncached = new JwtTokenProvider(keyRing, VALIDITY_MS, noCache);
+    private final JwtTokenProvider cached = new JwtTokenProvider(keyRing, VALIDITY_MS,
+            new JwtVerificationCache(new SimpleMeterRegistry(), 10_000, Duration.ofMillis(VALIDITY_MS)));
+
+    private final String token = uncached.createToken(UUID.randomUUID(), AuthRole.CUSTOMER);
+    private final String tampered = token.substring(0, token.length() - 2) + "xx";
+
+    @Benchmark
+    public UUID validateThenExtract() {
+        try {
+            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        } catch (Exception e) {
+            return null;
+        }
+        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> verifyOnce() {
+        return uncached.authenticate(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> cacheHit() {
+        return cached.authenticate(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> rejectTampered() {
+        return uncached.authenticate(tampered);
+    }
+}
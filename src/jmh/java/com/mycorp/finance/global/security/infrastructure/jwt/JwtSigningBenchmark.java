@@ -0,0 +1,59 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing (login) and uncached verification (first request of a token on a node) per algorithm:
+ * HS256 shared secret, RS256 with a 2048 bit key and ES256 on P-256. Asymmetric keys are generated at setup.
+ * RSA signs slowly and verifies fast; ECDSA signs fast and verifies slower.
+ *
+ * Run with ./gradlew jmh -PjmhIncludes=JwtSigning
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET = "F9DJ93dj39sdf@93djf9sdD393djf!D3jfdfsl";
+
+    @Param({"HS256", "RS256", "ES256"})
+    private String algorithm;
+
+    private JwtTokenProvider provider;
+    private UUID customerId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtVerificationCache noCache = new JwtVerificationCache(new SimpleMeterRegistry(), 0, Duration.ZERO);
+        JwtKeyRing keyRing = new JwtKeyRing(algorithm, SECRET, new JwtKeyRingProperties(), noCache);
+        provider = new JwtTokenProvider(keyRing, 3_600_000L, noCache);
+        customerId = UUID.randomUUID();
+        token = provider.createToken(customerId, AuthRole.CUSTOMER);
+        System.out.printf("%n%s: %d characters per token%n", algorithm, token.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.createToken(customerId, AuthRole.CUSTOMER);
+    }
+
+    @Benchmark
+    public Optional<VerifiedJwt> verify() {
+        return provider.authenticate(token);
+    }
+}
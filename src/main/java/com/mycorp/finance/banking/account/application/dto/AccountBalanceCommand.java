@@ -0,0 +1,18 @@
+package com.mycorp.finance.banking.account.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Command DTO used to credit or debit the balance of an existing Account aggregate.
+ * The amount is always positive; the operation (deposit or withdrawal) determines the sign.
+ * customerId is the authenticated requester, who must own the account.
+ * Immutable and designed for write-only operations within the command model.
+ */
+public record AccountBalanceCommand(
+        UUID customerId,
+        UUID accountId,
+        BigDecimal amount,
+        Currency currency
+) {}
@@ -0,0 +1,14 @@
+package com.mycorp.finance.banking.account.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Command DTO for splitting an account balance into sub-balance slots.
+ *
+ * @param accountId Target account's unique identifier
+ * @param slotCount Number of slots, 0 to go back to a single balance row
+ */
+public record AccountBalanceShardingCommand(
+        UUID accountId,
+        int slotCount
+) {}
@@ -81,4 +81,24 @@ public class AccountReadDto {
                 entity.getUpdatedAt()
         );
     }
+
+    /**
+     * Returns a copy carrying the balance and status of a newer projection state.
+     *
+     * @param balanceAmount balance in minor units
+     * @param status        account status
+     * @param updatedAt     time the projection row was updated
+     * @return new AccountReadDto instance
+     */
+    public AccountReadDto withState(long balanceAmount, AccountStatus status, LocalDateTime updatedAt) {
+        return new AccountReadDto(
+                this.accountId,
+                this.accountNumber,
+                balanceAmount,
+                this.currencyCode,
+                status,
+                this.createdAt,
+                updatedAt
+        );
+    }
 }
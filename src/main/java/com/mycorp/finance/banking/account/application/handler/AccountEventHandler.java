@@ -1,36 +1,186 @@
 package com.mycorp.finance.banking.account.application.handler;
 
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.*;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.*;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountNumberFilter;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountReadCache;
 import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
-import com.mycorp.finance.banking.account.infrastructure.persistence.repository.query.AccountQueryJpaRepository;
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.query.AccountReadBulkRepository;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Handler for processing Kafka account events and updating the query projection.
  * Part of the CQRS query-side update mechanism.
+ * Works on version 2 events only; consumers upcast version 1 events before handing them over.
+ * Every projection write is conditional on the aggregate version, so redelivered and reordered events
+ * are dropped, and written rows are mirrored into AccountReadCache once committed.
+ * Account numbers are added to AccountNumberFilter before their row is written, never after.
  */
 @Component
 @RequiredArgsConstructor
 public class AccountEventHandler {
-    private final AccountQueryJpaRepository accountQueryJpaRepository;
+    private final AccountReadBulkRepository accountReadBulkRepository;
+    private final AccountReadCache accountReadCache;
+    private final AccountNumberFilter accountNumberFilter;
+    private final Clock clock;
 
+    @Transactional("queryTransactionManager")
     public void handle(AccountCreatedEvent event) {
-        AccountReadEntity entity = AccountReadEntity.from(event);
-        accountQueryJpaRepository.save(entity);
+        apply(AccountReadEntity.from(event));
     }
 
+    /**
+     * Updated events carry the full account state, so an update for a row that is not projected yet is inserted.
+     */
+    @Transactional("queryTransactionManager")
     public void handle(AccountUpdatedEvent event) {
-        accountQueryJpaRepository.findById(UUID.fromString(event.getAccountId()))
-                .ifPresent(existing -> {
-                    AccountReadEntity updated = existing.withUpdated(event);
-                    accountQueryJpaRepository.save(updated);
-                });
+        apply(AccountReadEntity.from(event));
     }
 
+    @Transactional("queryTransactionManager")
     public void handle(AccountDeletedEvent event) {
-        accountQueryJpaRepository.deleteById(UUID.fromString(event.getAccountId()));
+        accountReadBulkRepository.deleteAll(Map.of(AvroUuids.fromAvro(event.getAccountId()), event.getVersion()));
+        accountReadCache.evict(event.getAccountNumber());
+    }
+
+    /**
+     * Applies one event of the per-aggregate account stream, where all event types share a topic.
+     *
+     * @param event version 2 account event
+     */
+    @Transactional("queryTransactionManager")
+    public void handle(SpecificRecord event) {
+        if (event instanceof AccountCreatedEvent created) {
+            handle(created);
+        } else if (event instanceof AccountUpdatedEvent updated) {
+            handle(updated);
+        } else if (event instanceof AccountDeletedEvent deleted) {
+            handle(deleted);
+        } else {
+            throw new IllegalArgumentException("Unsupported account event: " + event.getClass().getName());
+        }
+    }
+
+    /**
+     * Applies a whole poll of account events in one query DB transaction.
+     * Events are collapsed to the highest version per accountId, then written with one batched upsert
+     * and one batched delete, each conditional on the stored version. Created and updated events both
+     * carry the full account state, so an update for a row that is not projected yet is inserted rather than dropped.
+     *
+     * @param events account events in consumption order
+     * @return number of distinct accounts written
+     */
+    @Transactional("queryTransactionManager")
+    public int handleBatch(List<SpecificRecord> events) {
+        Map<UUID, SpecificRecord> latest = new LinkedHashMap<>();
+        for (SpecificRecord event : events) {
+            latest.merge(accountIdOf(event), event,
+                    (previous, next) -> supersedes(next, previous) ? next : previous);
+        }
+
+        List<AccountReadEntity> upserts = new ArrayList<>(latest.size());
+        Map<UUID, Long> deletes = new LinkedHashMap<>();
+        List<String> deletedNumbers = new ArrayList<>();
+        latest.forEach((accountId, event) -> {
+            if (event instanceof AccountCreatedEvent created) {
+                upserts.add(AccountReadEntity.from(created));
+            } else if (event instanceof AccountUpdatedEvent updated) {
+                upserts.add(AccountReadEntity.from(updated));
+            } else {
+                AccountDeletedEvent deleted = (AccountDeletedEvent) event;
+                deletes.put(accountId, deleted.getVersion());
+                deletedNumbers.add(deleted.getAccountNumber());
+            }
+        });
+
+        upserts.forEach(account -> accountNumberFilter.add(account.getAccountNumber()));
+        LocalDateTime now = LocalDateTime.now(clock);
+        int[] counts = accountReadBulkRepository.upsertAll(upserts, now);
+        accountReadBulkRepository.deleteAll(deletes);
+
+        for (int i = 0; i < upserts.size(); i++) {
+            mirror(upserts.get(i), counts[i], now);
+        }
+        deletedNumbers.forEach(accountReadCache::evict);
+        return latest.size();
+    }
+
+    private static UUID accountIdOf(SpecificRecord event) {
+        if (event instanceof AccountCreatedEvent created) {
+            return AvroUuids.fromAvro(created.getAccountId());
+        }
+        if (event instanceof AccountUpdatedEvent updated) {
+            return AvroUuids.fromAvro(updated.getAccountId());
+        }
+        if (event instanceof AccountDeletedEvent deleted) {
+            return AvroUuids.fromAvro(deleted.getAccountId());
+        }
+        throw new IllegalArgumentException("Unsupported account event: " + event.getClass().getName());
+    }
+
+    /**
+     * Writes one projection row unless the stored row is already at the same or a newer version.
+     */
+    private void apply(AccountReadEntity account) {
+        accountNumberFilter.add(account.getAccountNumber());
+        LocalDateTime now = LocalDateTime.now(clock);
+        mirror(account, accountReadBulkRepository.upsertAll(List.of(account), now)[0], now);
+    }
+
+    /**
+     * Refreshes the cached row of a written upsert. Rows skipped as stale are left alone, and rows whose
+     * outcome the driver did not report are evicted rather than risk caching stale state.
+     */
+    private void mirror(AccountReadEntity account, int count, LocalDateTime now) {
+        if (count > 0) {
+            accountReadCache.refresh(account.getAccountNumber(), account.getBalanceAmount(), account.getStatus(),
+                    account.getVersion(), now);
+        } else if (count != 0) {
+            accountReadCache.evict(account.getAccountNumber());
+        }
+    }
+
+    /**
+     * Higher version wins; events without a version fall back to event time, the later one winning ties.
+     */
+    private static boolean supersedes(SpecificRecord event, SpecificRecord other) {
+        long version = versionOf(event);
+        long otherVersion = versionOf(other);
+        if (version != otherVersion) {
+            return version > otherVersion;
+        }
+        return !occurredAtOf(event).isBefore(occurredAtOf(other));
+    }
+
+    private static long versionOf(SpecificRecord event) {
+        if (event instanceof AccountCreatedEvent created) {
+            return created.getVersion();
+        }
+        if (event instanceof AccountUpdatedEvent updated) {
+            return updated.getVersion();
+        }
+        return ((AccountDeletedEvent) event).getVersion();
+    }
+
+    private static Instant occurredAtOf(SpecificRecord event) {
+        if (event instanceof AccountCreatedEvent created) {
+            return created.getCreatedAt();
+        }
+        if (event instanceof AccountUpdatedEvent updated) {
+            return updated.getUpdatedAt();
+        }
+        return ((AccountDeletedEvent) event).getDeletedAt();
     }
 }
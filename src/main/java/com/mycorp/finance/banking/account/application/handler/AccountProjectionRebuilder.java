@@ -0,0 +1,115 @@
+package com.mycorp.finance.banking.account.application.handler;
+
+import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import com.mycorp.finance.banking.account.infrastructure.messaging.AccountEventMapper;
+import com.mycorp.finance.banking.account.infrastructure.messaging.AccountEventUpcaster;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountReadCache;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.query.AccountReadBulkRepository;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.projection.ProjectionRebuilder;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds account_read from the accounts table.
+ * Rows go through AccountEventMapper and AccountReadEntity.from, the same path as projected events.
+ * The in-process AccountReadCache is dropped once the new table is live; other nodes follow within its TTL.
+ */
+@Component
+public class AccountProjectionRebuilder implements ProjectionRebuilder<AccountReadEntity> {
+
+    private final AccountCommandRepository accountCommandRepository;
+    private final AccountEventMapper eventMapper;
+    private final AccountReadBulkRepository accountReadBulkRepository;
+    private final AccountEventHandler accountEventHandler;
+    private final AccountReadCache accountReadCache;
+    private final EventTopics eventTopics;
+    private final Clock clock;
+
+    @Value("${spring.kafka.consumer-groups.account}")
+    private String consumerGroup;
+
+    public AccountProjectionRebuilder(
+            AccountCommandRepository accountCommandRepository,
+            AccountEventMapper eventMapper,
+            AccountReadBulkRepository accountReadBulkRepository,
+            AccountEventHandler accountEventHandler,
+            AccountReadCache accountReadCache,
+            EventTopics eventTopics,
+            Clock clock
+    ) {
+        this.accountCommandRepository = accountCommandRepository;
+        this.eventMapper = eventMapper;
+        this.accountReadBulkRepository = accountReadBulkRepository;
+        this.accountEventHandler = accountEventHandler;
+        this.accountReadCache = accountReadCache;
+        this.eventTopics = eventTopics;
+        this.clock = clock;
+    }
+
+    @Override
+    public String name() {
+        return "account";
+    }
+
+    @Override
+    public String readTable() {
+        return "account_read";
+    }
+
+    @Override
+    public String consumerGroup() {
+        return consumerGroup;
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of(eventTopics.topicsOf(name()));
+    }
+
+    @Override
+    @Transactional(value = "commandTransactionManager", readOnly = true)
+    public long countSourceRows() {
+        return accountCommandRepository.count();
+    }
+
+    @Override
+    @Transactional(value = "commandTransactionManager", readOnly = true)
+    public List<AccountReadEntity> loadChunk(UUID afterId, int limit) {
+        return accountCommandRepository.findAllAfter(afterId, limit).stream()
+                .map(eventMapper::toAccountCreatedEventV2)
+                .map(AccountReadEntity::from)
+                .toList();
+    }
+
+    @Override
+    public UUID idOf(AccountReadEntity row) {
+        return row.getId();
+    }
+
+    @Override
+    @Transactional("queryTransactionManager")
+    public void insertChunk(String table, List<AccountReadEntity> rows) {
+        accountReadBulkRepository.insertAll(table, rows, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public void afterSwap() {
+        accountReadCache.invalidateAll();
+    }
+
+    @Override
+    public int replay(List<SpecificRecord> events) {
+        return accountEventHandler.handleBatch(events.stream()
+                .map(AccountEventUpcaster::upcast)
+                .toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.mycorp.finance.banking.account.application.service;
+
+import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Periodically folds the sub-balance slots of sharded accounts into their main balance,
+ * so that withdrawals usually find the funds on the main row and skip the fold on their own path.
+ * Slot credits carry no version of their own, so the read model of a sharded account catches up
+ * with them at the latest one fold interval later.
+ * Each account is folded in its own transaction to keep the account lock short.
+ */
+@Slf4j
+@Component
+public class AccountBalanceFoldScheduler {
+
+    private final AccountCommandRepository accountCommandRepository;
+    private final AccountCommandService accountCommandService;
+
+    public AccountBalanceFoldScheduler(
+            AccountCommandRepository accountCommandRepository,
+            AccountCommandService accountCommandService
+    ) {
+        this.accountCommandRepository = accountCommandRepository;
+        this.accountCommandService = accountCommandService;
+    }
+
+    @Scheduled(fixedDelayString = "${account.balance-sharding.fold-interval-ms:5000}")
+    public void foldShardedAccounts() {
+        for (UUID accountId : accountCommandRepository.findBalanceShardedAccountIds()) {
+            try {
+                accountCommandService.foldBalanceSlots(accountId);
+            } catch (Exception e) {
+                log.warn("Failed to fold balance slots of account {}", accountId, e);
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.mycorp.finance.banking.account.application.service;
 
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceCommand;
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceShardingCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountCreateCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountUpdateCommand;
 
+import java.util.UUID;
+
 /**
  * Service interface defining command operations for Account aggregate.
- * Handles creation and update of accounts.
+ * Handles creation, update and balance changes of accounts.
  */
 public interface AccountCommandService {
 
@@ -22,4 +26,33 @@ public interface AccountCommandService {
      * @param command DTO containing account update information
      */
     void updateAccount(AccountUpdateCommand command);
+
+    /**
+     * Credits the account balance with the provided amount.
+     *
+     * @param command DTO containing the account id and amount to deposit
+     */
+    void deposit(AccountBalanceCommand command);
+
+    /**
+     * Debits the account balance by the provided amount.
+     *
+     * @param command DTO containing the account id and amount to withdraw
+     */
+    void withdraw(AccountBalanceCommand command);
+
+    /**
+     * Switches a high-contention account to N sub-balance slots, or back to a single balance row.
+     *
+     * @param command DTO containing the account id and the slot count
+     */
+    void changeBalanceSharding(AccountBalanceShardingCommand command);
+
+    /**
+     * Folds the sub-balance slots of a sharded account into its main balance and emits an update event
+     * if any amount was moved.
+     *
+     * @param accountId the account to fold
+     */
+    void foldBalanceSlots(UUID accountId);
 }
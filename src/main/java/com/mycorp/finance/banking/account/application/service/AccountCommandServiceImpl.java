@@ -1,23 +1,32 @@
 package com.mycorp.finance.banking.account.application.service;
 
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceCommand;
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceShardingCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountCreateCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountUpdateCommand;
 import com.mycorp.finance.banking.account.domain.model.Account;
 import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
 import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import com.mycorp.finance.banking.account.domain.service.AccountNumberGenerator;
 import com.mycorp.finance.banking.account.domain.service.AccountValidationService;
 import com.mycorp.finance.banking.account.domain.event.AccountEventPublisher;
-import com.mycorp.finance.banking.common.Money;
+import com.mycorp.finance.banking.common.CurrencyUnit;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.global.exception.BalanceUpdateConflictException;
+import com.mycorp.finance.global.exception.InvalidAmountException;
+import com.mycorp.finance.global.exception.UnauthorizedAccountAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Application service handling account-related commands.
  * Applies business validation and emits domain events upon state changes.
  * Injects Clock for consistent time management.
+ * Status and sharding changes lock the account row, so each change gets its own aggregate version.
  */
 @Service
 @Transactional
@@ -25,17 +34,20 @@ public class AccountCommandServiceImpl implements AccountCommandService {
 
     private final AccountCommandRepository accountCommandRepository;
     private final AccountValidationService accountValidationService;
+    private final AccountNumberGenerator accountNumberGenerator;
     private final AccountEventPublisher eventPublisher;
     private final Clock clock;
 
     public AccountCommandServiceImpl(
             AccountCommandRepository accountCommandRepository,
             AccountValidationService accountValidationService,
+            AccountNumberGenerator accountNumberGenerator,
             AccountEventPublisher eventPublisher,
             Clock clock
     ) {
         this.accountCommandRepository = accountCommandRepository;
         this.accountValidationService = accountValidationService;
+        this.accountNumberGenerator = accountNumberGenerator;
         this.eventPublisher = eventPublisher;
         this.clock = clock;
     }
@@ -51,7 +63,8 @@ public class AccountCommandServiceImpl implements AccountCommandService {
 
         Account account = Account.createNewAccount(
                 command.customerId(),
-                Money.of(command.initialBalance(), command.currency()),
+                accountNumberGenerator.next(),
+                MinorMoney.ofMajor(command.initialBalance(), CurrencyUnit.of(command.currency())),
                 clock
         );
 
@@ -67,7 +80,7 @@ public class AccountCommandServiceImpl implements AccountCommandService {
      */
     @Override
     public void updateAccount(AccountUpdateCommand command) {
-        Account account = accountCommandRepository.findById(command.accountId())
+        Account account = accountCommandRepository.findByIdForUpdate(command.accountId())
                 .orElseThrow(() -> new IllegalArgumentException("Account not found: " + command.accountId()));
 
         AccountStatus newStatus = AccountStatus.valueOf(command.status());
@@ -85,4 +98,112 @@ public class AccountCommandServiceImpl implements AccountCommandService {
 
         eventPublisher.publishAccountUpdated(account);
     }
+
+    /**
+     * Credits the account with a single guarded UPDATE and emits an update event.
+     * A customer other than the owner is refused; the surrounding transaction undoes the credit.
+     *
+     * @param command DTO with requester, account id and positive amount
+     */
+    @Override
+    public void deposit(AccountBalanceCommand command) {
+        MinorMoney amount = MinorMoney.ofMajor(command.amount(), CurrencyUnit.of(command.currency()));
+        if (!amount.isPositive()) {
+            throw new InvalidAmountException("Deposit amount must be positive");
+        }
+
+        Account account = applyBalanceDelta(command, amount);
+
+        eventPublisher.publishAccountUpdated(account);
+    }
+
+    /**
+     * Debits the account with a single guarded UPDATE and emits an update event.
+     * A customer other than the owner is refused; the surrounding transaction undoes the debit.
+     *
+     * @param command DTO with requester, account id and positive amount
+     */
+    @Override
+    public void withdraw(AccountBalanceCommand command) {
+        MinorMoney amount = MinorMoney.ofMajor(command.amount(), CurrencyUnit.of(command.currency()));
+        if (!amount.isPositive()) {
+            throw new InvalidAmountException("Withdrawal amount must be positive");
+        }
+
+        Account account = applyBalanceDelta(command, amount.negate());
+
+        eventPublisher.publishAccountUpdated(account);
+    }
+
+    /**
+     * Changes the number of sub-balance slots of an account and emits an update event.
+     * Funds parked on the old slots are folded into the main balance first, so the
+     * consolidated balance is unchanged; the event brings the read model up to date with the slot credits.
+     *
+     * @param command DTO with account id and slot count
+     */
+    @Override
+    public void changeBalanceSharding(AccountBalanceShardingCommand command) {
+        Account account = accountCommandRepository.findByIdForUpdate(command.accountId())
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + command.accountId()));
+
+        account.changeBalanceSlotCount(command.slotCount(), clock);
+
+        accountCommandRepository.resizeBalanceSlots(account.getAccountId(), command.slotCount(), account.getUpdatedAt());
+        accountCommandRepository.save(account);
+
+        eventPublisher.publishAccountUpdated(account);
+    }
+
+    /**
+     * Folds the sub-balance slots of an account. Slot credits do not advance the version, so their events
+     * are not newer than what the read model already holds; the fold advances it once and emits an update
+     * event that carries them all.
+     *
+     * @param accountId the account to fold
+     */
+    @Override
+    public void foldBalanceSlots(UUID accountId) {
+        if (!accountCommandRepository.foldBalanceSlots(accountId, LocalDateTime.now(clock))) {
+            return;
+        }
+
+        Account account = accountCommandRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+
+        eventPublisher.publishAccountUpdated(account);
+    }
+
+    /**
+     * Applies the delta through the repository fast path. The account is only loaded
+     * when the guard rejects the change, to report the precise reason.
+     * The owner is checked on the account the update returns, so an accepted change costs no extra read.
+     */
+    private Account applyBalanceDelta(AccountBalanceCommand command, MinorMoney delta) {
+        Account account = accountCommandRepository.applyBalanceDelta(command.accountId(), delta, LocalDateTime.now(clock))
+                .orElseThrow(() -> rejectedBalanceChange(command, delta));
+        checkOwner(command, account);
+        return account;
+    }
+
+    private RuntimeException rejectedBalanceChange(AccountBalanceCommand command, MinorMoney delta) {
+        UUID accountId = command.accountId();
+        Account account = accountCommandRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+        checkOwner(command, account); // before revealing why someone else's account was rejected
+
+        if (delta.isPositive()) {
+            accountValidationService.validateDeposit(account);
+        } else {
+            accountValidationService.validateWithdrawal(account, delta.negate());
+        }
+        // The account passed validation after the guard rejected it, so it changed in between
+        return new BalanceUpdateConflictException("Balance update rejected for account: " + accountId);
+    }
+
+    private void checkOwner(AccountBalanceCommand command, Account account) {
+        if (!account.getCustomerId().equals(command.customerId())) {
+            throw new UnauthorizedAccountAccessException("Account does not belong to the customer: " + command.accountId());
+        }
+    }
 }
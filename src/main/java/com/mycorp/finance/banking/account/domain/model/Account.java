@@ -1,7 +1,7 @@
 package com.mycorp.finance.banking.account.domain.model;
 
 import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
-import com.mycorp.finance.banking.common.Money;
+import com.mycorp.finance.banking.common.MinorMoney;
 import com.mycorp.finance.banking.common.AccountNumber;
 
 import java.time.Clock;
@@ -13,14 +13,23 @@ import java.util.UUID;
  * Aggregate root representing a bank account.
  * Encapsulates business rules related to account lifecycle and state transitions.
  * Manages balance, status, and consistent creation/update timestamps.
+ * The version starts at 1 and grows with every state change; events carry it so projections
+ * can ignore stale or redelivered events.
  */
 public class Account {
 
+    /**
+     * Upper bound of sub-balance slots a hot account can be split into.
+     */
+    public static final int MAX_BALANCE_SLOTS = 64;
+
     private final UUID accountId;
     private final AccountNumber accountNumber;
     private final UUID customerId;
-    private Money balance;
+    private MinorMoney balance;
     private AccountStatus status;
+    private int balanceSlotCount; // 0 = single balance row, N = credits spread over N sub-balance slots
+    private long version;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -29,8 +38,10 @@ public class Account {
     private Account(UUID accountId,
                     AccountNumber accountNumber,
                     UUID customerId,
-                    Money balance,
+                    MinorMoney balance,
                     AccountStatus status,
+                    int balanceSlotCount,
+                    long version,
                     LocalDateTime createdAt,
                     LocalDateTime updatedAt) {
         this.accountId = accountId;
@@ -38,6 +49,8 @@ public class Account {
         this.customerId = customerId;
         this.balance = balance;
         this.status = status;
+        this.balanceSlotCount = balanceSlotCount;
+        this.version = version;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -46,18 +59,21 @@ public class Account {
      * Factory method to create a new active account with consistent timestamps.
      *
      * @param customerId     Owner customer UUID
-     * @param initialBalance Initial deposit amount wrapped in Money
+     * @param accountNumber  Freshly issued account number
+     * @param initialBalance Initial deposit amount in minor units
      * @param clock          Clock instance to provide consistent timestamps
      * @return Newly created Account aggregate
      */
-    public static Account createNewAccount(UUID customerId, Money initialBalance, Clock clock) {
+    public static Account createNewAccount(UUID customerId, AccountNumber accountNumber, MinorMoney initialBalance, Clock clock) {
         LocalDateTime now = LocalDateTime.now(clock);
         return new Account(
                 UUID.randomUUID(),
-                AccountNumber.generate(),
+                accountNumber,
                 customerId,
                 initialBalance,
                 AccountStatus.ACTIVE,
+                0,
+                1L,
                 now,
                 now
         );
@@ -70,8 +86,10 @@ public class Account {
      * @param accountId     Account UUID
      * @param accountNumber AccountNumber value object
      * @param customerId    Owner customer UUID
-     * @param balance       Account balance wrapped in Money
+     * @param balance       Consolidated account balance in minor units
      * @param status        AccountStatus enum
+     * @param balanceSlotCount Number of sub-balance slots, 0 if the account is not sharded
+     * @param version       Aggregate version
      * @param createdAt     Creation timestamp
      * @param updatedAt     Last updated timestamp
      * @return Reconstructed Account aggregate
@@ -79,11 +97,13 @@ public class Account {
     public static Account reconstruct(UUID accountId,
                                       AccountNumber accountNumber,
                                       UUID customerId,
-                                      Money balance,
+                                      MinorMoney balance,
                                       AccountStatus status,
+                                      int balanceSlotCount,
+                                      long version,
                                       LocalDateTime createdAt,
                                       LocalDateTime updatedAt) {
-        return new Account(accountId, accountNumber, customerId, balance, status, createdAt, updatedAt);
+        return new Account(accountId, accountNumber, customerId, balance, status, balanceSlotCount, version, createdAt, updatedAt);
     }
 
     /**
@@ -97,37 +117,62 @@ public class Account {
             throw new IllegalStateException("Account is already in status: " + newStatus);
         }
         this.status = newStatus;
+        this.version++;
+        this.updatedAt = LocalDateTime.now(clock);
+    }
+
+    /**
+     * Split the balance of a high-contention account into sub-balance slots, or merge it back.
+     * Credits to a sharded account are spread over the slots; withdrawals consult the consolidated sum.
+     *
+     * @param slotCount Number of slots, 0 to return to a single balance row
+     * @param clock     Clock instance for timestamping
+     */
+    public void changeBalanceSlotCount(int slotCount, Clock clock) {
+        if (slotCount < 0 || slotCount > MAX_BALANCE_SLOTS) {
+            throw new IllegalArgumentException("Balance slot count must be between 0 and " + MAX_BALANCE_SLOTS);
+        }
+        if (this.status != AccountStatus.ACTIVE) {
+            throw new IllegalStateException("Only active accounts can change balance sharding.");
+        }
+        if (this.balanceSlotCount == slotCount) {
+            throw new IllegalStateException("Account already uses " + slotCount + " balance slots");
+        }
+        this.balanceSlotCount = slotCount;
+        this.version++;
         this.updatedAt = LocalDateTime.now(clock);
     }
 
     /**
      * Deposit money into the account.
      *
-     * @param amount Money to deposit
+     * @param amount amount to deposit
      * @param clock  Clock instance for timestamping
      */
-    public void deposit(Money amount, Clock clock) {
-        if (amount == null || amount.getAmount().signum() <= 0) {
+    public void deposit(MinorMoney amount, Clock clock) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Deposit amount must be positive");
         }
         this.balance = this.balance.add(amount);
+        this.version++;
         this.updatedAt = LocalDateTime.now(clock);
     }
 
     /**
      * Withdraw money from the account.
      *
-     * @param amount Money to withdraw
+     * @param amount amount to withdraw
      * @param clock  Clock instance for timestamping
      */
-    public void withdraw(Money amount, Clock clock) {
-        if (amount == null || amount.getAmount().signum() <= 0) {
+    public void withdraw(MinorMoney amount, Clock clock) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Withdrawal amount must be positive");
         }
         if (this.balance.isLessThan(amount)) {
             throw new IllegalStateException("Insufficient funds");
         }
         this.balance = this.balance.subtract(amount);
+        this.version++;
         this.updatedAt = LocalDateTime.now(clock);
     }
 
@@ -145,7 +190,7 @@ public class Account {
         return customerId;
     }
 
-    public Money getBalance() {
+    public MinorMoney getBalance() {
         return balance;
     }
 
@@ -153,6 +198,12 @@ public class Account {
 
     public AccountStatus getStatus() {return status;}
 
+    public int getBalanceSlotCount() {return balanceSlotCount;}
+
+    public boolean isBalanceSharded() {return balanceSlotCount > 0;}
+
+    public long getVersion() {return version;}
+
     public LocalDateTime getCreatedAt() {return createdAt;}
 
     public LocalDateTime getUpdatedAt() {return updatedAt;}
@@ -1,7 +1,10 @@
 package com.mycorp.finance.banking.account.domain.repository;
 
 import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.common.MinorMoney;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +22,74 @@ public interface AccountCommandRepository {
      */
     Optional<Account> findById(UUID accountId);
 
+    /**
+     * Finds an Account by its unique identifier and locks it for the rest of the current transaction.
+     * Callers locking several accounts must do so in a deterministic order to avoid deadlocks.
+     *
+     * @param accountId the UUID of the Account to lock
+     * @return an Optional containing the locked Account if found, or empty if not found
+     */
+    Optional<Account> findByIdForUpdate(UUID accountId);
+
+    /**
+     * Atomically adds a signed delta to the account balance without loading the aggregate first.
+     * The change is applied only if the account is ACTIVE, uses the delta's currency,
+     * and the resulting balance is not negative.
+     * For a sharded account, credits land on a sub-balance slot and debits fold the slots
+     * into the main balance before giving up, so the consolidated balance is what counts.
+     * A slot credit leaves the version unchanged; the next fold advances it.
+     *
+     * @param accountId the UUID of the Account to update
+     * @param delta     signed amount to add (negative for debits)
+     * @param updatedAt timestamp of the change
+     * @return the Account as it is after the update, or empty if the guard rejected the change
+     */
+    Optional<Account> applyBalanceDelta(UUID accountId, MinorMoney delta, LocalDateTime updatedAt);
+
+    /**
+     * Moves the funds parked on the sub-balance slots of an account into its main balance.
+     * Locks the account, then its slots; the consolidated balance does not change, but the version
+     * advances once for all slot credits folded.
+     *
+     * @param accountId the UUID of the Account to fold
+     * @param updatedAt timestamp of the change
+     * @return true if any amount was moved
+     */
+    boolean foldBalanceSlots(UUID accountId, LocalDateTime updatedAt);
+
+    /**
+     * Folds the sub-balance slots of an account and recreates them empty.
+     * The new slot count itself is persisted by {@link #save(Account)}.
+     *
+     * @param accountId the UUID of the Account
+     * @param slotCount number of slots to create, 0 to remove all slots
+     * @param updatedAt timestamp of the change
+     */
+    void resizeBalanceSlots(UUID accountId, int slotCount, LocalDateTime updatedAt);
+
+    /**
+     * Lists the ids of all accounts whose balance is split into sub-balance slots.
+     *
+     * @return ids of sharded accounts
+     */
+    List<UUID> findBalanceShardedAccountIds();
+
+    /**
+     * Loads a page of accounts in id order for bulk processing (keyset pagination).
+     *
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   page size
+     * @return accounts with an id greater than afterId, ordered by id
+     */
+    List<Account> findAllAfter(UUID afterId, int limit);
+
+    /**
+     * Counts all accounts.
+     *
+     * @return number of accounts
+     */
+    long count();
+
     /**
      * Saves a new or updated account to the repository.
      *
@@ -0,0 +1,15 @@
+package com.mycorp.finance.banking.account.domain.service;
+
+import com.mycorp.finance.banking.common.AccountNumber;
+
+/**
+ * Issues account numbers for new accounts.
+ * Implementations are selected with account.number-generator.
+ */
+public interface AccountNumberGenerator {
+
+    /**
+     * @return an account number not issued before
+     */
+    AccountNumber next();
+}
@@ -4,7 +4,9 @@ import com.mycorp.finance.banking.account.application.dto.AccountCreateCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountUpdateCommand;
 import com.mycorp.finance.banking.account.domain.model.Account;
 import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
-import com.mycorp.finance.banking.common.Money;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.global.exception.BalanceUpdateConflictException;
+import com.mycorp.finance.global.exception.InsufficientBalanceException;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -90,12 +92,12 @@ public class AccountValidationService {
      * @param account the account to check
      * @param amount  amount to withdraw
      */
-    public void validateWithdrawal(Account account, Money amount) {
+    public void validateWithdrawal(Account account, MinorMoney amount) {
         if (account.getStatus() != AccountStatus.ACTIVE) {
-            throw new IllegalStateException("Only active accounts can withdraw.");
+            throw new BalanceUpdateConflictException("Only active accounts can withdraw.");
         }
         if (account.getBalance().isLessThan(amount)) {
-            throw new IllegalStateException("Insufficient balance.");
+            throw new InsufficientBalanceException("Insufficient balance.");
         }
     }
 
@@ -106,7 +108,7 @@ public class AccountValidationService {
      */
     public void validateDeposit(Account account) {
         if (account.getStatus() != AccountStatus.ACTIVE) {
-            throw new IllegalStateException("Only active accounts can receive deposits.");
+            throw new BalanceUpdateConflictException("Only active accounts can receive deposits.");
         }
     }
 }
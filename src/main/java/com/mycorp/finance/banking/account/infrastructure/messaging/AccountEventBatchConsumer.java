@@ -0,0 +1,56 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.application.handler.AccountEventHandler;
+import com.mycorp.finance.global.messaging.KeyOrderedExecutor;
+import com.mycorp.finance.global.messaging.ProjectionMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch Kafka consumer for account domain events, active with projection.account.listener-mode=batch.
+ * Receives a whole poll across the account topics of messaging.topology and hands it to AccountEventHandler as one unit;
+ * offsets are committed after the batch has been written. Version 1 events are upcast to version 2.
+ * With projection.account.workers above 1 the poll is applied on that many lanes keyed by account id,
+ * one transaction per lane, keeping the order of each account's events.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "projection.account.listener-mode", havingValue = "batch")
+public class AccountEventBatchConsumer {
+
+    private final AccountEventHandler handler;
+    private final ProjectionMetrics metrics;
+    private final KeyOrderedExecutor workers;
+
+    public AccountEventBatchConsumer(
+            AccountEventHandler handler,
+            ProjectionMetrics metrics,
+            @Qualifier("accountProjectionWorkers") KeyOrderedExecutor workers
+    ) {
+        this.handler = handler;
+        this.metrics = metrics;
+        this.workers = workers;
+    }
+
+    @KafkaListener(
+            topics = "#{@eventTopics.topicsOf('account')}",
+            groupId = "${spring.kafka.consumer-groups.account}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency = "${projection.account.concurrency:1}"
+    )
+    public void onAccountEvents(List<ConsumerRecord<String, SpecificRecord>> records) {
+        long start = System.nanoTime();
+        int written = workers.process(records, ConsumerRecord::key, lane -> handler.handleBatch(lane.stream()
+                .map(record -> AccountEventUpcaster.upcast(record.value()))
+                .toList()));
+        metrics.recordBatch("account", records, written, start);
+        log.debug("Applied {} account events to {} projection rows", records.size(), written);
+    }
+}
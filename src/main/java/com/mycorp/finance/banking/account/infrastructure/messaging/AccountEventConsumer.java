@@ -1,47 +1,55 @@
 package com.mycorp.finance.banking.account.infrastructure.messaging;
 
 import com.mycorp.finance.banking.account.application.handler.AccountEventHandler;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Kafka consumer for account domain events.
+ * Kafka consumer for account domain events, one record per invocation.
  * Delegates actual processing to AccountEventHandler.
+ * Topics may carry version 1 and version 2 events during a schema rollout; both are upcast to version 2.
+ * Default mode; replaced by AccountEventBatchConsumer when projection.account.listener-mode=batch,
+ * and by AccountEventStreamConsumer when messaging.topology=per-aggregate.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnExpression("'${projection.account.listener-mode:record}' == 'record' and '${messaging.topology:per-event-type}' == 'per-event-type'")
 public class AccountEventConsumer {
 
     private final AccountEventHandler handler;
 
     @KafkaListener(
             topics = "${spring.kafka.topics.account-created}",
-            groupId = "${spring.kafka.consumer-groups.account}"
+            groupId = "${spring.kafka.consumer-groups.account}",
+            concurrency = "${projection.account.concurrency:1}"
     )
-    public void onAccountCreated(AccountCreatedEvent event) {
-        log.info("Received AccountCreatedEvent: {}", event);
-        handler.handle(event);
+    public void onAccountCreated(SpecificRecord event) {
+        log.debug("Received {}", event.getSchema().getFullName());
+        handler.handle(AccountEventUpcaster.created(event));
     }
 
     @KafkaListener(
             topics = "${spring.kafka.topics.account-updated}",
-            groupId = "${spring.kafka.consumer-groups.account}"
+            groupId = "${spring.kafka.consumer-groups.account}",
+            concurrency = "${projection.account.concurrency:1}"
     )
-    public void onAccountUpdated(AccountUpdatedEvent event) {
-        log.info("Received AccountUpdatedEvent: {}", event);
-        handler.handle(event);
+    public void onAccountUpdated(SpecificRecord event) {
+        log.debug("Received {}", event.getSchema().getFullName());
+        handler.handle(AccountEventUpcaster.updated(event));
     }
 
     @KafkaListener(
             topics = "${spring.kafka.topics.account-deleted}",
-            groupId = "${spring.kafka.consumer-groups.account}"
+            groupId = "${spring.kafka.consumer-groups.account}",
+            concurrency = "${projection.account.concurrency:1}"
     )
-    public void onAccountDeleted(AccountDeletedEvent event) {
-        log.info("Received AccountDeletedEvent: {}", event);
-        handler.handle(event);
+    public void onAccountDeleted(SpecificRecord event) {
+        log.debug("Received {}", event.getSchema().getFullName());
+        handler.handle(AccountEventUpcaster.deleted(event));
     }
 }
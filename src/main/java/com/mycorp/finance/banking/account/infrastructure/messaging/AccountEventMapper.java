@@ -4,6 +4,7 @@ import com.mycorp.finance.banking.account.domain.model.Account;
 import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountCreatedEvent;
 import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountUpdatedEvent;
 import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountDeletedEvent;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
@@ -11,6 +12,10 @@ import java.time.Clock;
 /**
  * Maps Account domain model to Avro-based event schemas.
  * Injected Clock ensures consistent timestamp generation.
+ * Version 2 events carry ids as 16 byte fixed and timestamps as timestamp-millis;
+ * they are referenced by their qualified names next to the version 1 classes.
+ * Every event carries the aggregate version after the change. A deletion is the last change of
+ * an account and is published as one past its stored version.
  */
 @Component
 public class AccountEventMapper {
@@ -29,10 +34,13 @@ public class AccountEventMapper {
                 .setAccountId(account.getAccountId().toString())
                 .setAccountNumber(account.getAccountNumber().value())
                 .setCustomerId(account.getCustomerId().toString())
-                .setInitialBalance(account.getBalance().getAmount().doubleValue())
+                .setInitialBalance(account.getBalance().toMajor().doubleValue())
+                .setInitialBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
                 .setCurrency(account.getCurrencyCode())
                 .setStatus(account.getStatus().name())
                 .setCreatedAt(account.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli())
+                .setVersion(account.getVersion())
                 .build();
     }
 
@@ -44,10 +52,13 @@ public class AccountEventMapper {
                 .setAccountId(account.getAccountId().toString())
                 .setAccountNumber(account.getAccountNumber().value())
                 .setCustomerId(account.getCustomerId().toString())
-                .setBalance(account.getBalance().getAmount().doubleValue())
+                .setBalance(account.getBalance().toMajor().doubleValue())
+                .setBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
                 .setCurrency(account.getCurrencyCode())
                 .setStatus(account.getStatus().name())
                 .setUpdatedAt(account.getUpdatedAt().atZone(clock.getZone()).toInstant().toEpochMilli())
+                .setVersion(account.getVersion())
                 .build();
     }
 
@@ -57,7 +68,66 @@ public class AccountEventMapper {
     public AccountDeletedEvent toAccountDeletedEvent(Account account) {
         return AccountDeletedEvent.newBuilder()
                 .setAccountId(account.getAccountId().toString())
+                .setAccountNumber(account.getAccountNumber().value())
+                .setCustomerId(account.getCustomerId().toString())
+                .setBalance(account.getBalance().toMajor().doubleValue())
+                .setBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
+                .setCurrency(account.getCurrencyCode())
+                .setStatus(account.getStatus().name())
                 .setDeletedAt(clock.instant().toEpochMilli())
+                .setVersion(account.getVersion() + 1)
+                .build();
+    }
+
+    /**
+     * Maps Account to the version 2 AccountCreatedEvent.
+     */
+    public com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountCreatedEvent toAccountCreatedEventV2(Account account) {
+        return com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountCreatedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(account.getAccountId()))
+                .setAccountNumber(account.getAccountNumber().value())
+                .setCustomerId(AvroUuids.toAvro(account.getCustomerId()))
+                .setInitialBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
+                .setCurrency(account.getCurrencyCode())
+                .setStatus(account.getStatus().name())
+                .setCreatedAt(account.getCreatedAt().atZone(clock.getZone()).toInstant())
+                .setVersion(account.getVersion())
+                .build();
+    }
+
+    /**
+     * Maps Account to the version 2 AccountUpdatedEvent.
+     */
+    public com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent toAccountUpdatedEventV2(Account account) {
+        return com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(account.getAccountId()))
+                .setAccountNumber(account.getAccountNumber().value())
+                .setCustomerId(AvroUuids.toAvro(account.getCustomerId()))
+                .setBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
+                .setCurrency(account.getCurrencyCode())
+                .setStatus(account.getStatus().name())
+                .setUpdatedAt(account.getUpdatedAt().atZone(clock.getZone()).toInstant())
+                .setVersion(account.getVersion())
+                .build();
+    }
+
+    /**
+     * Maps Account to the version 2 AccountDeletedEvent.
+     */
+    public com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountDeletedEvent toAccountDeletedEventV2(Account account) {
+        return com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountDeletedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(account.getAccountId()))
+                .setAccountNumber(account.getAccountNumber().value())
+                .setCustomerId(AvroUuids.toAvro(account.getCustomerId()))
+                .setBalanceMinorUnits(account.getBalance().getMinorUnits())
+                .setCurrencyExponent(account.getBalance().getCurrency().getExponent())
+                .setCurrency(account.getCurrencyCode())
+                .setStatus(account.getStatus().name())
+                .setDeletedAt(clock.instant())
+                .setVersion(account.getVersion() + 1)
                 .build();
     }
 }
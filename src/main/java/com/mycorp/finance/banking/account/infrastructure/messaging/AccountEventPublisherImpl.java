@@ -2,53 +2,61 @@ package com.mycorp.finance.banking.account.infrastructure.messaging;
 
 import com.mycorp.finance.banking.account.domain.event.AccountEventPublisher;
 import com.mycorp.finance.banking.account.domain.model.Account;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountCreatedEvent;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountUpdatedEvent;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountDeletedEvent;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.messaging.outbox.OutboxEventWriter;
 import org.apache.avro.specific.SpecificRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
- * Implementation of AccountEventPublisher that publishes Avro events via Kafka.
+ * Implementation of AccountEventPublisher that records Avro events in the transactional outbox.
+ * Events reach Kafka through the outbox relay after the command transaction commits.
+ * messaging.event-schema-version selects the schema version written; switch it to 2 only once
+ * every consumer accepts version 2.
+ * Topics follow messaging.topology; events are keyed by account id either way.
  */
 @Component
 public class AccountEventPublisherImpl implements AccountEventPublisher {
 
-    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
     private final AccountEventMapper mapper;
 
-    @Value("${spring.kafka.topics.account-created}")
-    private String accountCreatedTopic;
+    private final String accountCreatedTopic;
+    private final String accountUpdatedTopic;
+    private final String accountDeletedTopic;
 
-    @Value("${spring.kafka.topics.account-updated}")
-    private String accountUpdatedTopic;
+    @Value("${messaging.event-schema-version:1}")
+    private int schemaVersion;
 
-    @Value("${spring.kafka.topics.account-deleted}")
-    private String accountDeletedTopic;
-
-
-    public AccountEventPublisherImpl(KafkaTemplate<String, SpecificRecord> kafkaTemplate, AccountEventMapper mapper) {
-        this.kafkaTemplate = kafkaTemplate;
+    public AccountEventPublisherImpl(OutboxEventWriter outboxEventWriter, AccountEventMapper mapper, EventTopics eventTopics) {
+        this.outboxEventWriter = outboxEventWriter;
         this.mapper = mapper;
+        this.accountCreatedTopic = eventTopics.topicFor("account", "created");
+        this.accountUpdatedTopic = eventTopics.topicFor("account", "updated");
+        this.accountDeletedTopic = eventTopics.topicFor("account", "deleted");
     }
 
     @Override
     public void publishAccountCreated(Account account) {
-        AccountCreatedEvent event = mapper.toAccountCreatedEvent(account);
-        kafkaTemplate.send(accountCreatedTopic, account.getAccountId().toString(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? mapper.toAccountCreatedEventV2(account)
+                : mapper.toAccountCreatedEvent(account);
+        outboxEventWriter.append(accountCreatedTopic, account.getAccountId().toString(), event);
     }
 
     @Override
     public void publishAccountUpdated(Account account) {
-        AccountUpdatedEvent event = mapper.toAccountUpdatedEvent(account);
-        kafkaTemplate.send(accountUpdatedTopic, account.getAccountId().toString(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? mapper.toAccountUpdatedEventV2(account)
+                : mapper.toAccountUpdatedEvent(account);
+        outboxEventWriter.append(accountUpdatedTopic, account.getAccountId().toString(), event);
     }
 
     @Override
     public void publishAccountDeleted(Account account) {
-        AccountDeletedEvent event = mapper.toAccountDeletedEvent(account);
-        kafkaTemplate.send(accountDeletedTopic, account.getAccountId().toString(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? mapper.toAccountDeletedEventV2(account)
+                : mapper.toAccountDeletedEvent(account);
+        outboxEventWriter.append(accountDeletedTopic, account.getAccountId().toString(), event);
     }
 }
@@ -0,0 +1,35 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.application.handler.AccountEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer for the single account event topic of messaging.topology=per-aggregate, one record per invocation.
+ * Events are keyed by account id, so all events of an account arrive on one partition in publish order
+ * and an update can no longer overtake the create of its account. Partitions and listener concurrency
+ * can be raised freely without losing that order.
+ * Used instead of AccountEventConsumer when projection.account.listener-mode=record.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${projection.account.listener-mode:record}' == 'record' and '${messaging.topology:per-event-type}' == 'per-aggregate'")
+public class AccountEventStreamConsumer {
+
+    private final AccountEventHandler handler;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.account-events}",
+            groupId = "${spring.kafka.consumer-groups.account}",
+            concurrency = "${projection.account.concurrency:1}"
+    )
+    public void onAccountEvent(SpecificRecord event) {
+        log.debug("Received {}", event.getSchema().getFullName());
+        handler.handle(AccountEventUpcaster.upcast(event));
+    }
+}
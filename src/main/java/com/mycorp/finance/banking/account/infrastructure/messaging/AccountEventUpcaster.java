@@ -0,0 +1,117 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountCreatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountDeletedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent;
+import com.mycorp.finance.banking.common.CurrencyUnit;
+import com.mycorp.finance.global.messaging.AvroUuids;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Converts version 1 account events to version 2 at the consumer boundary, so the projection
+ * only handles version 2. Version 2 events pass through unchanged.
+ * Version 1 classes are referenced by their qualified names to keep them apart from version 2.
+ */
+public final class AccountEventUpcaster {
+
+    private AccountEventUpcaster() {
+    }
+
+    /**
+     * @param event version 1 or version 2 account event
+     * @return the same event as version 2
+     */
+    public static SpecificRecord upcast(SpecificRecord event) {
+        if (event instanceof com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountCreatedEvent v1) {
+            return created(v1);
+        }
+        if (event instanceof com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountUpdatedEvent v1) {
+            return updated(v1);
+        }
+        if (event instanceof com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountDeletedEvent v1) {
+            return deleted(v1);
+        }
+        if (event instanceof AccountCreatedEvent || event instanceof AccountUpdatedEvent || event instanceof AccountDeletedEvent) {
+            return event;
+        }
+        throw new IllegalArgumentException("Unsupported account event: " + event.getClass().getName());
+    }
+
+    public static AccountCreatedEvent created(SpecificRecord event) {
+        return (AccountCreatedEvent) upcast(event);
+    }
+
+    public static AccountUpdatedEvent updated(SpecificRecord event) {
+        return (AccountUpdatedEvent) upcast(event);
+    }
+
+    public static AccountDeletedEvent deleted(SpecificRecord event) {
+        return (AccountDeletedEvent) upcast(event);
+    }
+
+    private static AccountCreatedEvent created(com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountCreatedEvent v1) {
+        CurrencyUnit currency = CurrencyUnit.of(v1.getCurrency());
+        return AccountCreatedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(UUID.fromString(v1.getAccountId())))
+                .setAccountNumber(v1.getAccountNumber())
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setInitialBalanceMinorUnits(minorUnits(v1.getInitialBalanceMinorUnits(), v1.getCurrencyExponent(), v1.getInitialBalance(), currency))
+                .setCurrencyExponent(currency.getExponent())
+                .setCurrency(v1.getCurrency())
+                .setStatus(v1.getStatus())
+                .setCreatedAt(Instant.ofEpochMilli(v1.getCreatedAt()))
+                .setVersion(versionOf(v1.getVersion()))
+                .build();
+    }
+
+    private static AccountUpdatedEvent updated(com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountUpdatedEvent v1) {
+        CurrencyUnit currency = CurrencyUnit.of(v1.getCurrency());
+        return AccountUpdatedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(UUID.fromString(v1.getAccountId())))
+                .setAccountNumber(v1.getAccountNumber())
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setBalanceMinorUnits(minorUnits(v1.getBalanceMinorUnits(), v1.getCurrencyExponent(), v1.getBalance(), currency))
+                .setCurrencyExponent(currency.getExponent())
+                .setCurrency(v1.getCurrency())
+                .setStatus(v1.getStatus())
+                .setUpdatedAt(Instant.ofEpochMilli(v1.getUpdatedAt()))
+                .setVersion(versionOf(v1.getVersion()))
+                .build();
+    }
+
+    private static AccountDeletedEvent deleted(com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountDeletedEvent v1) {
+        CurrencyUnit currency = CurrencyUnit.of(v1.getCurrency());
+        return AccountDeletedEvent.newBuilder()
+                .setAccountId(AvroUuids.toAvro(UUID.fromString(v1.getAccountId())))
+                .setAccountNumber(v1.getAccountNumber())
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setBalanceMinorUnits(minorUnits(v1.getBalanceMinorUnits(), v1.getCurrencyExponent(), v1.getBalance(), currency))
+                .setCurrencyExponent(currency.getExponent())
+                .setCurrency(v1.getCurrency())
+                .setStatus(v1.getStatus())
+                .setDeletedAt(Instant.ofEpochMilli(v1.getDeletedAt()))
+                .setVersion(versionOf(v1.getVersion()))
+                .build();
+    }
+
+    /**
+     * Exact minor units when the event has them, otherwise the rounded double of events
+     * written before the minor unit fields existed.
+     */
+    private static long minorUnits(Long minorUnits, Integer exponent, double legacyAmount, CurrencyUnit currency) {
+        if (minorUnits != null && exponent != null) {
+            return currency.toMinorUnits(minorUnits, exponent);
+        }
+        return Math.round(legacyAmount * currency.getMinorPerMajor());
+    }
+
+    /**
+     * Events published before versioning carry no version; 0 lets projections apply them unconditionally.
+     */
+    private static long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+}
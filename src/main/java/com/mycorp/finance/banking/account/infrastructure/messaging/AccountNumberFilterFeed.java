@@ -0,0 +1,58 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountCreatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountNumberFilter;
+import com.mycorp.finance.global.bloom.NegativeLookupFilterFeed;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.projection.ProjectionEventReplayer;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds the account numbers of all account events, from every partition, to AccountNumberFilter,
+ * so the filter also knows the accounts projected by other instances. See NegativeLookupFilterFeed.
+ */
+@Component
+public class AccountNumberFilterFeed extends NegativeLookupFilterFeed {
+
+    static final String LISTENER_ID = "accountNumberFilterFeed";
+
+    public AccountNumberFilterFeed(
+            AccountNumberFilter accountNumberFilter,
+            ProjectionEventReplayer replayer,
+            KafkaListenerEndpointRegistry registry,
+            EventTopics eventTopics,
+            @Value("${spring.kafka.consumer-groups.account}") String projectionGroup
+    ) {
+        super(accountNumberFilter, replayer, registry, LISTENER_ID, projectionGroup, List.of(eventTopics.topicsOf("account")));
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            autoStartup = "false",
+            topics = "#{@eventTopics.topicsOf('account')}",
+            groupId = "${spring.kafka.consumer-groups.account}-number-filter-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "instanceFeedKafkaListenerContainerFactory"
+    )
+    public void onAccountEvents(List<ConsumerRecord<String, SpecificRecord>> records) {
+        for (ConsumerRecord<String, SpecificRecord> record : records) {
+            // Records the deserializer could not read arrive with a null value; the projection listeners report them
+            if (record.value() == null) {
+                continue;
+            }
+            SpecificRecord event = AccountEventUpcaster.upcast(record.value());
+            if (event instanceof AccountCreatedEvent created) {
+                add(created.getAccountNumber());
+            } else if (event instanceof AccountUpdatedEvent updated) {
+                add(updated.getAccountNumber());
+            }
+        }
+    }
+}
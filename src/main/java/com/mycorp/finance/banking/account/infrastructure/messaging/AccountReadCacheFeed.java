@@ -0,0 +1,68 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountDeletedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountReadCache;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies the account events of every partition to this instance's AccountReadCache, so cached rows also follow
+ * the accounts projected by other instances. The projection group hands each partition to one instance only,
+ * whose AccountEventHandler refreshes just its own cache.
+ * Reads from the end of the topics: only cached rows matter, and those were loaded after the feed started.
+ * Refreshes of the instance's own partitions repeat a version it already applied and are ignored.
+ * A row loaded from the query DB before another instance committed the event the feed already passed on
+ * stays stale until its next event or the cache TTL.
+ */
+@Component
+public class AccountReadCacheFeed implements ConsumerSeekAware {
+
+    private final AccountReadCache accountReadCache;
+    private final Clock clock;
+
+    public AccountReadCacheFeed(AccountReadCache accountReadCache, Clock clock) {
+        this.accountReadCache = accountReadCache;
+        this.clock = clock;
+    }
+
+    @KafkaListener(
+            id = "accountReadCacheFeed",
+            topics = "#{@eventTopics.topicsOf('account')}",
+            groupId = "${spring.kafka.consumer-groups.account}-read-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "instanceFeedKafkaListenerContainerFactory"
+    )
+    public void onAccountEvents(List<ConsumerRecord<String, SpecificRecord>> records) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (ConsumerRecord<String, SpecificRecord> record : records) {
+            // Records the deserializer could not read arrive with a null value; the projection listeners report them
+            if (record.value() == null) {
+                continue;
+            }
+            // Created accounts are not cached yet: absent accounts are never cached
+            SpecificRecord event = AccountEventUpcaster.upcast(record.value());
+            if (event instanceof AccountUpdatedEvent updated) {
+                AccountReadEntity account = AccountReadEntity.from(updated);
+                accountReadCache.refresh(account.getAccountNumber(), account.getBalanceAmount(), account.getStatus(),
+                        account.getVersion(), now);
+            } else if (event instanceof AccountDeletedEvent deleted) {
+                accountReadCache.evict(deleted.getAccountNumber());
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+}
@@ -0,0 +1,23 @@
+package com.mycorp.finance.banking.account.infrastructure.numbering;
+
+import com.mycorp.finance.banking.account.domain.service.AccountNumberGenerator;
+import com.mycorp.finance.banking.common.AccountNumber;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues uniformly random account numbers without any coordination.
+ * Not collision-free: at n accounts the chance that a new number is taken is n / AccountNumber.SEQUENCE_CAPACITY,
+ * surfacing as a unique constraint violation. Meant for tests and local setups without the sequence.
+ */
+@Component
+@ConditionalOnProperty(name = "account.number-generator.type", havingValue = "random")
+public class RandomAccountNumberGenerator implements AccountNumberGenerator {
+
+    @Override
+    public AccountNumber next() {
+        return AccountNumber.fromSequence(ThreadLocalRandom.current().nextLong(AccountNumber.SEQUENCE_CAPACITY));
+    }
+}
@@ -0,0 +1,86 @@
+package com.mycorp.finance.banking.account.infrastructure.numbering;
+
+import com.mycorp.finance.banking.account.domain.service.AccountNumberGenerator;
+import com.mycorp.finance.banking.common.AccountNumber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues account numbers from blocks reserved on the command DB sequence account_number_seq.
+ *
+ * Each nextval reserves a whole block: the returned value is the exclusive end of the block and
+ * the sequence increment is its size, so instances never hand out the same value and the DB is
+ * touched once per block. Unused values of a block are lost on restart.
+ * The block size is read from the sequence itself; account.number-generator.block-size only
+ * applies when the sequence is created.
+ * Guarded by a lock rather than synchronized, so a virtual thread waiting on nextval does not pin its carrier.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.number-generator.type", havingValue = "sequence", matchIfMissing = true)
+public class SequenceAccountNumberGenerator implements AccountNumberGenerator {
+
+    private static final String SEQUENCE = "account_number_seq";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int configuredBlockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long blockSize;
+    private long next;
+    private long end;
+
+    public SequenceAccountNumberGenerator(
+            @Qualifier("commandJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${account.number-generator.block-size:100}") int configuredBlockSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.configuredBlockSize = configuredBlockSize;
+    }
+
+    @Override
+    public AccountNumber next() {
+        lock.lock();
+        try {
+            if (next == end) {
+                reserveBlock();
+            }
+            return AccountNumber.fromSequence(next++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserveBlock() {
+        if (blockSize == 0) {
+            blockSize = ensureSequence();
+        }
+        Long blockEnd = jdbcTemplate.queryForObject("SELECT nextval('" + SEQUENCE + "')",
+                EmptySqlParameterSource.INSTANCE, Long.class);
+        if (blockEnd > AccountNumber.SEQUENCE_CAPACITY) {
+            throw new IllegalStateException("Account number sequence exhausted");
+        }
+        end = blockEnd;
+        next = blockEnd - blockSize;
+    }
+
+    private long ensureSequence() {
+        jdbcTemplate.getJdbcTemplate().execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE
+                + " START WITH " + configuredBlockSize + " INCREMENT BY " + configuredBlockSize);
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = '" + SEQUENCE + "'",
+                EmptySqlParameterSource.INSTANCE, Long.class);
+        if (increment != configuredBlockSize) {
+            log.warn("{} reserves blocks of {} account numbers, ignoring configured block size {}",
+                    SEQUENCE, increment, configuredBlockSize);
+        }
+        return increment;
+    }
+}
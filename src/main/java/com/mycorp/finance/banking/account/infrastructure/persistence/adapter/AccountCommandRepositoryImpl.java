@@ -3,18 +3,27 @@ package com.mycorp.finance.banking.account.infrastructure.persistence.adapter;
 import com.mycorp.finance.banking.account.domain.model.Account;
 import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
 import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountEntity;
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.command.AccountBalanceSlotJpaRepository;
 import com.mycorp.finance.banking.account.infrastructure.persistence.repository.command.AccountCommandJpaRepository;
 import com.mycorp.finance.banking.account.infrastructure.persistence.mapper.AccountMapper;
+import com.mycorp.finance.banking.common.MinorMoney;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of AccountCommandRepository.
  * Responsible for handling command operations (create, update, delete) on Account aggregates.
+ * Accounts with sub-balance slots are always returned with their consolidated balance.
+ * Slot credits do not advance the aggregate version; the fold that moves them into the main row does.
+ * Lock order is always the accounts row, then slots.
  */
 @Repository
 @Transactional("commandTransactionManager")
@@ -22,22 +31,125 @@ import java.util.UUID;
 public class AccountCommandRepositoryImpl implements AccountCommandRepository {
 
     private final AccountCommandJpaRepository accountJpaRepository;
+    private final AccountBalanceSlotJpaRepository balanceSlotJpaRepository;
+
+    // Round-robin ticket for slot credits; masked to stay non-negative on overflow
+    private final AtomicLong slotTicket = new AtomicLong();
 
     @Override
     public Optional<Account> findById(UUID accountId) {
         return accountJpaRepository.findById(accountId)
-                .map(AccountMapper::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<Account> findByIdForUpdate(UUID accountId) {
+        return accountJpaRepository.findByIdForUpdate(accountId)
+                .map(this::toDomain);
+    }
+
+    /**
+     * Single round trip: UPDATE ... RETURNING, so no row lock is held across Java code.
+     * A rejected change costs one more scalar read of balance_slot_count; only sharded accounts go on from there:
+     * credits go to a slot, rejected debits fold the slots and retry once.
+     * A slot credit returns the account with its consolidated balance but an unchanged version: concurrent credits
+     * share the accounts row lock and touch different slots, so neither can claim a version of its own.
+     */
+    @Override
+    public Optional<Account> applyBalanceDelta(UUID accountId, MinorMoney delta, LocalDateTime updatedAt) {
+        long minorUnits = delta.getMinorUnits();
+        Optional<Account> updated = updateMainBalance(accountId, minorUnits, delta.getCurrencyCode(), updatedAt);
+        if (updated.isPresent() || accountJpaRepository.findBalanceSlotCount(accountId).orElse(0) == 0) {
+            return updated;
+        }
+
+        if (minorUnits > 0) {
+            long ticket = slotTicket.getAndIncrement() & Long.MAX_VALUE;
+            if (balanceSlotJpaRepository.creditSlot(accountId, ticket, minorUnits, delta.getCurrencyCode()) > 0) {
+                return findById(accountId);
+            }
+            // Sharding may have been switched off since the slot count was read
+            return updateMainBalance(accountId, minorUnits, delta.getCurrencyCode(), updatedAt);
+        }
+
+        if (foldBalanceSlots(accountId, updatedAt)) {
+            return updateMainBalance(accountId, minorUnits, delta.getCurrencyCode(), updatedAt);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Lock order is accounts row first, then slots in slot order; credits only ever lock a single slot.
+     * All reads are scalar so no stale AccountEntity is cached before the native update.
+     */
+    @Override
+    public boolean foldBalanceSlots(UUID accountId, LocalDateTime updatedAt) {
+        int slotCount = accountJpaRepository.lockBalanceSlotCount(accountId).orElse(0);
+        if (slotCount == 0) {
+            return false;
+        }
+
+        long parked = balanceSlotJpaRepository.lockBalances(accountId).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        if (parked == 0) {
+            return false;
+        }
+
+        balanceSlotJpaRepository.resetBalances(accountId);
+        accountJpaRepository.addToBalance(accountId, parked, updatedAt);
+        return true;
+    }
+
+    @Override
+    public void resizeBalanceSlots(UUID accountId, int slotCount, LocalDateTime updatedAt) {
+        foldBalanceSlots(accountId, updatedAt);
+        balanceSlotJpaRepository.deleteSlots(accountId);
+        if (slotCount > 0) {
+            balanceSlotJpaRepository.createSlots(accountId, slotCount);
+        }
+    }
+
+    @Override
+    public List<UUID> findBalanceShardedAccountIds() {
+        return accountJpaRepository.findBalanceShardedIds();
+    }
+
+    @Override
+    public List<Account> findAllAfter(UUID afterId, int limit) {
+        List<AccountEntity> page = afterId == null
+                ? accountJpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : accountJpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return page.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public long count() {
+        return accountJpaRepository.count();
     }
 
     @Override
     public Account save(Account account) {
         AccountEntity entity = AccountMapper.toEntity(account);
         AccountEntity savedEntity = accountJpaRepository.save(entity);
-        return AccountMapper.toDomain(savedEntity);
+        return toDomain(savedEntity);
     }
 
     @Override
     public void deleteById(UUID accountId) {
+        balanceSlotJpaRepository.deleteSlots(accountId);
         accountJpaRepository.deleteById(accountId);
     }
+
+    private Optional<Account> updateMainBalance(UUID accountId, long minorUnits, String currencyCode, LocalDateTime updatedAt) {
+        return accountJpaRepository.applyBalanceDelta(accountId, minorUnits, currencyCode, updatedAt)
+                .map(this::toDomain);
+    }
+
+    private Account toDomain(AccountEntity entity) {
+        if (entity.getBalanceSlotCount() == 0) {
+            return AccountMapper.toDomain(entity);
+        }
+        return AccountMapper.toDomain(entity, balanceSlotJpaRepository.sumBalance(entity.getId()));
+    }
 }
@@ -3,6 +3,7 @@ package com.mycorp.finance.banking.account.infrastructure.persistence.adapter;
 import com.mycorp.finance.banking.account.application.dto.AccountReadDto;
 import com.mycorp.finance.banking.account.domain.repository.AccountQueryRepository;
 import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
 import com.mycorp.finance.banking.account.infrastructure.persistence.repository.query.AccountQueryJpaRepository;
 import com.mycorp.finance.banking.account.infrastructure.persistence.mapper.AccountReadMapper;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,7 @@ import java.util.Optional;
  * Converts read entities into DTOs for safe exposure to application layer.
  */
 @Repository
-@Transactional("queryTransactionManager")
+@Transactional(value = "queryTransactionManager", readOnly = true)
 @RequiredArgsConstructor
 public class AccountQueryRepositoryImpl implements AccountQueryRepository {
 
@@ -35,6 +36,16 @@ public class AccountQueryRepositoryImpl implements AccountQueryRepository {
                 .map(accountReadMapper::toDto);
     }
 
+    /**
+     * Finds the projection row of an account, including its version, for AccountReadCache.
+     *
+     * @param accountNumber the account number value object
+     * @return optional AccountReadEntity if found
+     */
+    public Optional<AccountReadEntity> findRowByAccountNumber(AccountNumber accountNumber) {
+        return accountQueryJpaRepository.findByAccountNumber(accountNumber.value());
+    }
+
     /**
      * Checks whether an account with the given number exists.
      *
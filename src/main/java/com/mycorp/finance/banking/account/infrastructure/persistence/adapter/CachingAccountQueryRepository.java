@@ -0,0 +1,46 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.adapter;
+
+import com.mycorp.finance.banking.account.application.dto.AccountReadDto;
+import com.mycorp.finance.banking.account.domain.repository.AccountQueryRepository;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountNumberFilter;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountReadCache;
+import com.mycorp.finance.banking.common.AccountNumber;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of AccountQueryRepositoryImpl.
+ * Account numbers ruled out by AccountNumberFilter are answered as absent without touching cache or DB.
+ * Not transactional itself, so cache hits and definite misses never open a query DB transaction.
+ */
+@Primary
+@Repository
+public class CachingAccountQueryRepository implements AccountQueryRepository {
+
+    private final AccountQueryRepositoryImpl delegate;
+    private final AccountReadCache cache;
+    private final AccountNumberFilter numberFilter;
+
+    public CachingAccountQueryRepository(AccountQueryRepositoryImpl delegate, AccountReadCache cache,
+                                         AccountNumberFilter numberFilter) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.numberFilter = numberFilter;
+    }
+
+    @Override
+    public Optional<AccountReadDto> findByAccountNumber(AccountNumber accountNumber) {
+        if (!numberFilter.mightContain(accountNumber.value())) {
+            return Optional.empty();
+        }
+        return cache.get(accountNumber.value(), number -> delegate.findRowByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public boolean existsByAccountNumber(AccountNumber accountNumber) {
+        return numberFilter.mightContain(accountNumber.value())
+                && (cache.contains(accountNumber.value()) || delegate.existsByAccountNumber(accountNumber));
+    }
+}
@@ -0,0 +1,35 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.cache;
+
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.query.AccountReadBulkRepository;
+import com.mycorp.finance.global.bloom.NegativeLookupFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over account_read.account_number, so lookups of unknown account numbers
+ * are answered without a query DB round trip. Fed by AccountEventHandler
+ * and AccountNumberFilterFeed.
+ */
+@Component
+public class AccountNumberFilter extends NegativeLookupFilter {
+
+    private static final int WARM_PAGE_SIZE = 10_000;
+
+    private final AccountReadBulkRepository accountReadBulkRepository;
+
+    public AccountNumberFilter(
+            AccountReadBulkRepository accountReadBulkRepository,
+            MeterRegistry meterRegistry,
+            @Value("${account.number-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${account.number-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        super("account.number", expectedInsertions, falsePositiveRate, meterRegistry);
+        this.accountReadBulkRepository = accountReadBulkRepository;
+    }
+
+    @Override
+    public void warm() {
+        warm(accountReadBulkRepository::findAccountNumbersAfter, WARM_PAGE_SIZE);
+    }
+}
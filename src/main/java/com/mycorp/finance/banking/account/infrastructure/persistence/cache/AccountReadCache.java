@@ -0,0 +1,120 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mycorp.finance.banking.account.application.dto.AccountReadDto;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-process cache of the account projection keyed by account number, bounded by size and TTL.
+ *
+ * Reads load through the cache; AccountEventHandler writes through it after the projection commit,
+ * so cached rows follow the projection without a DB round trip. Each entry keeps the aggregate version
+ * of its row, and a refresh only applies a newer version, with the projection's rule that version 0
+ * always applies. Refreshes committed out of order, or a load that read older data, never roll an entry back.
+ * Changes projected on other instances arrive through AccountReadCacheFeed; the TTL bounds staleness
+ * only for events that feed misses, e.g. while it starts.
+ * Hit/miss/eviction metrics are published under cache="account.read".
+ */
+@Component
+public class AccountReadCache {
+
+    private final Cache<String, Entry> cache;
+
+    public AccountReadCache(
+            MeterRegistry meterRegistry,
+            @Value("${account.read-cache.maximum-size:100000}") long maximumSize,
+            @Value("${account.read-cache.ttl:PT1M}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "account.read");
+    }
+
+    /**
+     * Returns the cached account, loading and caching it on a miss. Absent accounts are not cached.
+     *
+     * @param accountNumber account number
+     * @param loader        loads the projection row on a miss
+     * @return the account, or empty if it does not exist
+     */
+    public Optional<AccountReadDto> get(String accountNumber, Function<String, Optional<AccountReadEntity>> loader) {
+        return Optional.ofNullable(cache.get(accountNumber, key -> loader.apply(key).map(Entry::of).orElse(null)))
+                .map(Entry::account);
+    }
+
+    /**
+     * @param accountNumber account number
+     * @return true if the account is cached
+     */
+    public boolean contains(String accountNumber) {
+        return cache.getIfPresent(accountNumber) != null;
+    }
+
+    /**
+     * Applies a new balance and status to a cached row once the current transaction commits; no-op if not cached
+     * or if the cached row is already at the same or a newer version.
+     *
+     * @param accountNumber account number
+     * @param balanceAmount balance in minor units
+     * @param status        account status
+     * @param version       aggregate version of the new state, 0 if the event carried none
+     * @param updatedAt     time of the projection update
+     */
+    public void refresh(String accountNumber, long balanceAmount, AccountStatus status, long version, LocalDateTime updatedAt) {
+        afterCommit(() -> cache.asMap().computeIfPresent(accountNumber, (key, cached) -> version == 0 || version > cached.version()
+                ? new Entry(cached.account().withState(balanceAmount, status, updatedAt), version)
+                : cached));
+    }
+
+    /**
+     * Removes an account once the current transaction commits.
+     *
+     * @param accountNumber account number
+     */
+    public void evict(String accountNumber) {
+        afterCommit(() -> cache.invalidate(accountNumber));
+    }
+
+    /**
+     * Drops all entries at once, e.g. after the projection table was replaced by a rebuild.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record Entry(AccountReadDto account, long version) {
+
+        static Entry of(AccountReadEntity row) {
+            return new Entry(AccountReadDto.from(row), row.getVersion());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.entity.command;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity representing one sub-balance slot of a hot account.
+ * Credits to a sharded account land on one of its slots instead of the accounts row,
+ * so concurrent deposits contend on N rows rather than one.
+ * The consolidated balance is accounts.balance_amount plus the sum of all slots; slot credits do not advance
+ * accounts.version until they are folded.
+ * Slot rows are only written through the native statements in AccountBalanceSlotJpaRepository.
+ */
+@Entity
+@Table(name = "account_balance_slots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA requires a no-arg constructor, protected for encapsulation
+public class AccountBalanceSlotEntity {
+
+    @EmbeddedId
+    private AccountBalanceSlotId id;
+
+    @Column(name = "balance_amount", nullable = false)
+    private Long balanceAmount; // Stored as minor unit, e.g. cents
+}
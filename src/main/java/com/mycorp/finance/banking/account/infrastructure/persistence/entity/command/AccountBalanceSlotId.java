@@ -0,0 +1,32 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.entity.command;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Composite key of a sub-balance slot: owning account and slot number.
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceSlotId implements Serializable {
+
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "slot_no", nullable = false)
+    private Integer slotNo;
+
+    public AccountBalanceSlotId(UUID accountId, Integer slotNo) {
+        this.accountId = accountId;
+        this.slotNo = slotNo;
+    }
+}
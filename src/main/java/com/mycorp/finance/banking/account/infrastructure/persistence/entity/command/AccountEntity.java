@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
@@ -25,8 +26,10 @@ public class AccountEntity extends BaseEntity {
     @Column(name = "customer_id", nullable = false)
     private UUID customerId;
 
-    @Column(name = "balance_amount", nullable = false)
-    private Long balanceAmount; // Stored as minor unit, e.g. cents
+    // Stored as minor unit, e.g. cents. Not updatable through entity merges:
+    // balances only change via the guarded delta statements in AccountCommandJpaRepository.
+    @Column(name = "balance_amount", nullable = false, updatable = false)
+    private Long balanceAmount;
 
     @Column(name = "currency_code", nullable = false, length = 3)
     private String currencyCode; // Example: "USD"
@@ -35,22 +38,35 @@ public class AccountEntity extends BaseEntity {
     @Column(name = "status", nullable = false, length = 20)
     private AccountStatus status;
 
+    @ColumnDefault("0")
+    @Column(name = "balance_slot_count", nullable = false)
+    private Integer balanceSlotCount; // 0 = single balance row, N = credits spread over account_balance_slots
+
+    // Slot credits leave this alone; folding them into balance_amount advances it
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Protected constructor to restrict direct instantiation.
-     * Use static factory method {@link #of(UUID, String, UUID, Long, String, AccountStatus)} instead.
+     * Use static factory method {@link #of(UUID, String, UUID, Long, String, AccountStatus, Integer, Long)} instead.
      */
     protected AccountEntity(UUID id,
                             String accountNumber,
                             UUID customerId,
                             Long balanceAmount,
                             String currencyCode,
-                            AccountStatus status) {
+                            AccountStatus status,
+                            Integer balanceSlotCount,
+                            Long version) {
         super(id);
         this.accountNumber = accountNumber;
         this.customerId = customerId;
         this.balanceAmount = balanceAmount;
         this.currencyCode = currencyCode;
         this.status = status;
+        this.balanceSlotCount = balanceSlotCount;
+        this.version = version;
     }
 
     /**
@@ -62,6 +78,8 @@ public class AccountEntity extends BaseEntity {
      * @param balanceAmount Account balance in minor units (e.g. cents)
      * @param currencyCode  3-letter ISO currency code (e.g. "USD")
      * @param status        Current account status
+     * @param balanceSlotCount Number of sub-balance slots, 0 if not sharded
+     * @param version       Version counter of the accounts row
      * @return new AccountEntity instance
      */
     public static AccountEntity of(UUID id,
@@ -69,7 +87,9 @@ public class AccountEntity extends BaseEntity {
                                    UUID customerId,
                                    Long balanceAmount,
                                    String currencyCode,
-                                   AccountStatus status) {
-        return new AccountEntity(id, accountNumber, customerId, balanceAmount, currencyCode, status);
+                                   AccountStatus status,
+                                   Integer balanceSlotCount,
+                                   Long version) {
+        return new AccountEntity(id, accountNumber, customerId, balanceAmount, currencyCode, status, balanceSlotCount, version);
     }
 }
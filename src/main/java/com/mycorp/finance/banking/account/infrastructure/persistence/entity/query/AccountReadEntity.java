@@ -1,20 +1,24 @@
 package com.mycorp.finance.banking.account.infrastructure.persistence.entity.query;
 
 import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountCreatedEvent;
-import com.mycorp.finance.banking.account.infrastructure.messaging.schema.AccountUpdatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountCreatedEvent;
+import com.mycorp.finance.banking.account.infrastructure.messaging.schema.v2.AccountUpdatedEvent;
+import com.mycorp.finance.banking.common.CurrencyUnit;
 import com.mycorp.finance.global.base.BaseEntity;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import jakarta.persistence.*;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
 /**
  * Read-side projection entity for Account data.
  * Used in CQRS architecture to store denormalized account data for queries.
+ * Carries the aggregate version of the last applied event; writes only go through when the event is newer.
  */
 @Entity
 @Table(name = "account_read")
@@ -35,12 +39,17 @@ public class AccountReadEntity extends BaseEntity {
     @Column(name = "status", length = 20, nullable = false)
     private AccountStatus status;
 
-    private AccountReadEntity(UUID id, String accountNumber, Long balanceAmount, String currencyCode, AccountStatus status) {
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    private AccountReadEntity(UUID id, String accountNumber, Long balanceAmount, String currencyCode, AccountStatus status, Long version) {
         super(id);
         this.accountNumber = accountNumber;
         this.balanceAmount = balanceAmount;
         this.currencyCode = currencyCode;
         this.status = status;
+        this.version = version;
     }
 
     /**
@@ -51,11 +60,30 @@ public class AccountReadEntity extends BaseEntity {
      */
     public static AccountReadEntity from(AccountCreatedEvent event) {
         return new AccountReadEntity(
-                UUID.fromString(event.getAccountId()),
+                AvroUuids.fromAvro(event.getAccountId()),
+                event.getAccountNumber(),
+                toMinorUnits(event.getInitialBalanceMinorUnits(), event.getCurrencyExponent(), event.getCurrency()),
+                event.getCurrency(),
+                AccountStatus.valueOf(event.getStatus()),
+                event.getVersion()
+        );
+    }
+
+    /**
+     * Creates an AccountReadEntity from AccountUpdatedEvent, which carries the full account state.
+     * Used by bulk upserts where the current projection row is not loaded.
+     *
+     * @param event AccountUpdatedEvent from Kafka
+     * @return new AccountReadEntity populated from event
+     */
+    public static AccountReadEntity from(AccountUpdatedEvent event) {
+        return new AccountReadEntity(
+                AvroUuids.fromAvro(event.getAccountId()),
                 event.getAccountNumber(),
-                toMinorUnits(event.getInitialBalance()),
+                toMinorUnits(event.getBalanceMinorUnits(), event.getCurrencyExponent(), event.getCurrency()),
                 event.getCurrency(),
-                AccountStatus.valueOf(event.getStatus())
+                AccountStatus.valueOf(event.getStatus()),
+                event.getVersion()
         );
     }
 
@@ -70,19 +98,22 @@ public class AccountReadEntity extends BaseEntity {
         return new AccountReadEntity(
                 this.getId(),
                 this.accountNumber,
-                toMinorUnits(event.getBalance()),
+                toMinorUnits(event.getBalanceMinorUnits(), event.getCurrencyExponent(), this.currencyCode),
                 this.currencyCode,
-                AccountStatus.valueOf(event.getStatus())
+                AccountStatus.valueOf(event.getStatus()),
+                event.getVersion()
         );
     }
 
     /**
-     * Converts a balance in major units (e.g., dollars) to minor units (e.g., cents).
+     * Converts an event balance to minor units of its currency as stored in the projection.
      *
-     * @param amount balance in double
+     * @param minorUnits   balance in units of 10^-exponent
+     * @param exponent     fraction digits of minorUnits
+     * @param currencyCode ISO currency code of the balance
      * @return balance in long (minor units)
      */
-    private static long toMinorUnits(double amount) {
-        return Math.round(amount * 100);
+    private static long toMinorUnits(long minorUnits, int exponent, String currencyCode) {
+        return CurrencyUnit.of(currencyCode).toMinorUnits(minorUnits, exponent);
     }
 }
@@ -0,0 +1,27 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.entity.query;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Read-side record of a deleted account: its id and the version of the delete event.
+ * The account_read row itself is removed; upserts compare against this row, so a create or update
+ * redelivered or reordered after the delete cannot bring the account back.
+ * Written only by AccountReadBulkRepository.
+ */
+@Entity
+@Table(name = "account_read_tombstones")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountReadTombstoneEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -3,10 +3,7 @@ package com.mycorp.finance.banking.account.infrastructure.persistence.mapper;
 import com.mycorp.finance.banking.account.domain.model.Account;
 import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountEntity;
 import com.mycorp.finance.banking.common.AccountNumber;
-import com.mycorp.finance.banking.common.Money;
-
-import java.math.BigDecimal;
-import java.util.Currency;
+import com.mycorp.finance.banking.common.MinorMoney;
 
 /**
  * Mapper for converting between Account domain model and AccountEntity persistence model.
@@ -25,18 +22,15 @@ public class AccountMapper {
             return null;
         }
 
-        long balanceAmount = account.getBalance()
-                .getAmount()
-                .multiply(BigDecimal.valueOf(100)) // assuming minor unit is cent
-                .longValue();
-
         return AccountEntity.of(
                 account.getAccountId(),
                 account.getAccountNumber().value(),
                 account.getCustomerId(),
-                balanceAmount,
-                account.getBalance().getCurrency().getCurrencyCode(),
-                account.getStatus()
+                account.getBalance().getMinorUnits(),
+                account.getCurrencyCode(),
+                account.getStatus(),
+                account.getBalanceSlotCount(),
+                account.getVersion()
         );
     }
 
@@ -47,13 +41,25 @@ public class AccountMapper {
      * @return reconstructed Account aggregate root
      */
     public static Account toDomain(AccountEntity entity) {
+        return toDomain(entity, 0L);
+    }
+
+    /**
+     * Converts AccountEntity of a sharded account to domain aggregate.
+     * The aggregate carries the consolidated balance: main row plus all sub-balance slots.
+     *
+     * @param entity             persistence entity
+     * @param slotBalanceAmount  sum of the sub-balance slots in minor units
+     * @return reconstructed Account aggregate root
+     */
+    public static Account toDomain(AccountEntity entity, long slotBalanceAmount) {
         if (entity == null) {
             return null;
         }
 
-        Money balance = new Money(
-                BigDecimal.valueOf(entity.getBalanceAmount()).divide(BigDecimal.valueOf(100)),
-                Currency.getInstance(entity.getCurrencyCode())
+        MinorMoney balance = MinorMoney.ofMinor(
+                Math.addExact(entity.getBalanceAmount(), slotBalanceAmount),
+                entity.getCurrencyCode()
         );
 
         return Account.reconstruct(
@@ -62,6 +68,8 @@ public class AccountMapper {
                 entity.getCustomerId(),
                 balance,
                 entity.getStatus(),
+                entity.getBalanceSlotCount(),
+                entity.getVersion(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
@@ -0,0 +1,117 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.repository.command;
+
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountBalanceSlotEntity;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountBalanceSlotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for the sub-balance slots of sharded accounts.
+ * All statements are native and scalar so that no stale slot entity lives in the persistence context.
+ */
+@Repository
+public interface AccountBalanceSlotJpaRepository extends JpaRepository<AccountBalanceSlotEntity, AccountBalanceSlotId> {
+
+    /**
+     * Credits one slot chosen round-robin by ticket, guarded by the owning account's state.
+     * The accounts row is locked FOR SHARE until commit: concurrent credits do not block each other, but a
+     * status change or fold (FOR UPDATE) waits for them, and a credit waiting on one re-checks the status,
+     * so no money lands on the slots of an account that was closed meanwhile.
+     * The aggregate version is left alone; the next fold advances it for all slot credits at once.
+     *
+     * @param accountId    the account id
+     * @param ticket       non-negative round-robin ticket, reduced modulo the slot count
+     * @param amount       positive amount in minor units
+     * @param currencyCode ISO currency code the amount is expressed in
+     * @return number of slots credited, 0 if the account is not sharded, not ACTIVE or uses another currency
+     */
+    @Modifying
+    @Query(value = """
+            WITH a AS (
+                SELECT id, balance_slot_count
+                  FROM accounts
+                 WHERE id = :accountId
+                   AND balance_slot_count > 0
+                   AND status = 'ACTIVE'
+                   AND currency_code = :currencyCode
+                   FOR SHARE
+            )
+            UPDATE account_balance_slots s
+               SET balance_amount = s.balance_amount + :amount
+              FROM a
+             WHERE s.account_id = a.id
+               AND s.slot_no = mod(:ticket, a.balance_slot_count)
+            """, nativeQuery = true)
+    int creditSlot(@Param("accountId") UUID accountId,
+                   @Param("ticket") long ticket,
+                   @Param("amount") long amount,
+                   @Param("currencyCode") String currencyCode);
+
+    /**
+     * Sums all slots of an account without locking them.
+     *
+     * @param accountId the account id
+     * @return total of the slots in minor units, 0 if there are none
+     */
+    @Query(value = """
+            SELECT CAST(COALESCE(SUM(balance_amount), 0) AS bigint)
+              FROM account_balance_slots
+             WHERE account_id = :accountId
+            """, nativeQuery = true)
+    long sumBalance(@Param("accountId") UUID accountId);
+
+    /**
+     * Locks all slots of an account in slot order and returns their current amounts.
+     * Callers must already hold the lock on the owning accounts row.
+     *
+     * @param accountId the account id
+     * @return slot amounts in minor units
+     */
+    @Query(value = """
+            SELECT balance_amount
+              FROM account_balance_slots
+             WHERE account_id = :accountId
+             ORDER BY slot_no
+               FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockBalances(@Param("accountId") UUID accountId);
+
+    /**
+     * Resets all slots of an account to zero. Callers must hold the slot locks.
+     *
+     * @param accountId the account id
+     */
+    @Modifying
+    @Query(value = "UPDATE account_balance_slots SET balance_amount = 0 WHERE account_id = :accountId AND balance_amount <> 0",
+            nativeQuery = true)
+    void resetBalances(@Param("accountId") UUID accountId);
+
+    /**
+     * Removes all slots of an account.
+     *
+     * @param accountId the account id
+     */
+    @Modifying
+    @Query(value = "DELETE FROM account_balance_slots WHERE account_id = :accountId", nativeQuery = true)
+    void deleteSlots(@Param("accountId") UUID accountId);
+
+    /**
+     * Creates slots 0..slotCount-1 with a zero balance.
+     *
+     * @param accountId the account id
+     * @param slotCount number of slots to create
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO account_balance_slots (account_id, slot_no, balance_amount)
+            SELECT :accountId, slot_no, 0
+              FROM generate_series(0, :slotCount - 1) AS slot_no
+            """, nativeQuery = true)
+    void createSlots(@Param("accountId") UUID accountId, @Param("slotCount") int slotCount);
+}
@@ -1,9 +1,20 @@
 package com.mycorp.finance.banking.account.infrastructure.persistence.repository.command;
 
 import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,4 +40,112 @@ public interface AccountCommandJpaRepository extends JpaRepository<AccountEntity
      * @return true if an account with the given account number exists, false otherwise
      */
     boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * Finds an account entity by id and acquires a row-level write lock (SELECT ... FOR UPDATE).
+     * Must be called inside a transaction; the lock is held until commit or rollback.
+     *
+     * @param id the account id
+     * @return an Optional containing the locked AccountEntity, or empty if none found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.id = :id")
+    Optional<AccountEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Applies a signed balance delta in a single guarded statement and returns the updated row.
+     * The row is only changed when the account is ACTIVE, holds the given currency, and the
+     * resulting balance stays non-negative; otherwise no row is returned.
+     * Credits to a sharded account are rejected here as well, they belong on a sub-balance slot.
+     * The row version is incremented with the balance.
+     *
+     * @param id           the account id
+     * @param delta        signed amount in minor units (positive credits, negative debits)
+     * @param currencyCode ISO currency code the delta is expressed in
+     * @param updatedAt    timestamp to record as the last update
+     * @return an Optional containing the updated AccountEntity, or empty if the guard rejected the change
+     */
+    @Query(value = """
+            UPDATE accounts
+               SET balance_amount = balance_amount + :delta,
+                   version = version + 1,
+                   updated_at = :updatedAt
+             WHERE id = :id
+               AND status = 'ACTIVE'
+               AND currency_code = :currencyCode
+               AND balance_amount + :delta >= 0
+               AND (:delta < 0 OR balance_slot_count = 0)
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<AccountEntity> applyBalanceDelta(@Param("id") UUID id,
+                                              @Param("delta") long delta,
+                                              @Param("currencyCode") String currencyCode,
+                                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Returns the sub-balance slot count of an account without locking the row.
+     *
+     * @param id the account id
+     * @return an Optional containing the slot count, or empty if the account does not exist
+     */
+    @Query(value = "SELECT balance_slot_count FROM accounts WHERE id = :id", nativeQuery = true)
+    Optional<Integer> findBalanceSlotCount(@Param("id") UUID id);
+
+    /**
+     * Locks the accounts row (SELECT ... FOR UPDATE) and returns its sub-balance slot count.
+     * Scalar on purpose, so no entity enters the persistence context before its balance is changed natively.
+     *
+     * @param id the account id
+     * @return an Optional containing the slot count, or empty if the account does not exist
+     */
+    @Query(value = "SELECT balance_slot_count FROM accounts WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Integer> lockBalanceSlotCount(@Param("id") UUID id);
+
+    /**
+     * Adds an amount folded from the sub-balance slots to the main balance row, without guards.
+     * Slot credits do not advance the version, so the fold does it once for all of them.
+     * Callers must hold the row lock.
+     *
+     * @param id        the account id
+     * @param amount    amount in minor units
+     * @param updatedAt timestamp to record as the last update
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE accounts
+               SET balance_amount = balance_amount + :amount,
+                   version = version + 1,
+                   updated_at = :updatedAt
+             WHERE id = :id
+            """, nativeQuery = true)
+    void addToBalance(@Param("id") UUID id,
+                      @Param("amount") long amount,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Lists the ids of all accounts whose balance is split into sub-balance slots.
+     *
+     * @return ids of sharded accounts
+     */
+    @Query(value = "SELECT id FROM accounts WHERE balance_slot_count > 0", nativeQuery = true)
+    List<UUID> findBalanceShardedIds();
+
+    /**
+     * First keyset page of all accounts in id order, streamed with a server-side cursor.
+     *
+     * @param limit page size
+     * @return accounts ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<AccountEntity> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Next keyset page of accounts after the given id, streamed with a server-side cursor.
+     *
+     * @param id    last id of the previous page
+     * @param limit page size
+     * @return accounts ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<AccountEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
 }
@@ -0,0 +1,140 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.repository.query;
+
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC repository for bulk writes to the account_read projection.
+ * Bypasses the persistence context: one batched INSERT ... ON CONFLICT per batch instead of findById + merge per event.
+ * Must run inside a queryTransactionManager transaction.
+ * Writes are conditional on the event version inside the statement, so redelivered or reordered events
+ * never replace newer state. Version 0 marks events published before versioning, which are applied as before.
+ * Deletes leave a tombstone in account_read_tombstones; upserts are skipped unless they are newer than it,
+ * and a tombstone without a version, or an event without one, always wins.
+ */
+@Repository
+public class AccountReadBulkRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO account_read (id, account_number, balance_amount, currency_code, status, version, created_at, updated_at)
+            SELECT :id, :accountNumber, :balanceAmount, :currencyCode, :status, :version, :now, :now
+             WHERE NOT EXISTS (
+                   SELECT 1 FROM account_read_tombstones t
+                    WHERE t.id = :id
+                      AND (t.version >= :version OR t.version = 0 OR :version = 0))
+            ON CONFLICT (id) DO UPDATE
+               SET balance_amount = EXCLUDED.balance_amount,
+                   status = EXCLUDED.status,
+                   version = EXCLUDED.version,
+                   updated_at = EXCLUDED.updated_at
+             WHERE account_read.version < EXCLUDED.version
+                OR EXCLUDED.version = 0
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO %s (id, account_number, balance_amount, currency_code, status, version, created_at, updated_at)
+            VALUES (:id, :accountNumber, :balanceAmount, :currencyCode, :status, :version, :now, :now)
+            """;
+
+    private static final String DELETE_SQL = """
+            WITH tombstone AS (
+                INSERT INTO account_read_tombstones (id, version)
+                VALUES (:id, :version)
+                ON CONFLICT (id) DO UPDATE
+                   SET version = GREATEST(account_read_tombstones.version, EXCLUDED.version)
+            )
+            DELETE FROM account_read
+             WHERE id = :id
+               AND (version < :version OR :version = 0)
+            """;
+
+    private static final String FIND_NUMBERS_AFTER_SQL = """
+            SELECT account_number FROM account_read
+             WHERE account_number > :after
+             ORDER BY account_number
+             LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AccountReadBulkRepository(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts new rows or updates balance and status of existing rows holding an older version, in a single JDBC batch.
+     *
+     * @param accounts projection rows, at most one per id
+     * @param now      timestamp recorded as created_at for new rows and updated_at for all rows
+     * @return per row 1 if written, 0 if the stored row or a tombstone is at the same or a newer version, or
+     *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver cannot tell
+     */
+    public int[] upsertAll(List<AccountReadEntity> accounts, LocalDateTime now) {
+        if (accounts.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, toParameters(accounts, now));
+    }
+
+    /**
+     * Plain batched insert into a table shaped like account_read, used to load a rebuild shadow table.
+     *
+     * @param table    target table name; never user input
+     * @param accounts projection rows
+     * @param now      timestamp recorded as created_at and updated_at
+     */
+    public void insertAll(String table, List<AccountReadEntity> accounts, LocalDateTime now) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL.formatted(table), toParameters(accounts, now));
+    }
+
+    /**
+     * Deletes all given rows older than the deletion and records their tombstones, in a single JDBC batch.
+     *
+     * @param versionsById version of the delete event per projection row id
+     */
+    public void deleteAll(Map<UUID, Long> versionsById) {
+        if (versionsById.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, versionsById.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource("id", entry.getKey()).addValue("version", entry.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource[] toParameters(List<AccountReadEntity> accounts, LocalDateTime now) {
+        return accounts.stream()
+                .map(account -> new MapSqlParameterSource()
+                        .addValue("id", account.getId())
+                        .addValue("accountNumber", account.getAccountNumber())
+                        .addValue("balanceAmount", account.getBalanceAmount())
+                        .addValue("currencyCode", account.getCurrencyCode())
+                        .addValue("status", account.getStatus().name())
+                        .addValue("version", account.getVersion())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    /**
+     * Keyset page over the unique account_number index, used to warm AccountNumberFilter.
+     *
+     * @param after last account number of the previous page, empty for the first page
+     * @param limit page size
+     * @return account numbers in ascending order
+     */
+    public List<String> findAccountNumbersAfter(String after, int limit) {
+        return jdbcTemplate.queryForList(FIND_NUMBERS_AFTER_SQL,
+                new MapSqlParameterSource("after", after).addValue("limit", limit), String.class);
+    }
+}
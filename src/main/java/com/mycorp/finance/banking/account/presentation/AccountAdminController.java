@@ -0,0 +1,45 @@
+package com.mycorp.finance.banking.account.presentation;
+
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceShardingCommand;
+import com.mycorp.finance.banking.account.application.service.AccountCommandService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Admin endpoints for operating accounts, e.g. splitting the balance of a hot account into sub-balance slots.
+ * Everything under /api/admin requires the ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/admin/accounts")
+public class AccountAdminController {
+
+    private final AccountCommandService accountCommandService;
+
+    public AccountAdminController(AccountCommandService accountCommandService) {
+        this.accountCommandService = accountCommandService;
+    }
+
+    /**
+     * Endpoint to split a high-contention account balance into sub-balance slots.
+     *
+     * @param accountId UUID of the account
+     * @param request DTO with the slot count, 0 to merge the slots back
+     * @return HTTP 204 No Content on success
+     */
+    @PutMapping("/{accountId}/balance-slots")
+    public ResponseEntity<Void> changeBalanceSharding(
+            @PathVariable UUID accountId,
+            @RequestBody AccountBalanceShardingRequest request
+    ) {
+        accountCommandService.changeBalanceSharding(
+                new AccountBalanceShardingCommand(accountId, request.slotCount())
+        );
+        return ResponseEntity.noContent().build();
+    }
+
+    // --- DTO records for HTTP requests ---
+
+    public record AccountBalanceShardingRequest(int slotCount) {}
+}
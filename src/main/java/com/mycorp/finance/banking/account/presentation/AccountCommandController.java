@@ -1,10 +1,12 @@
 package com.mycorp.finance.banking.account.presentation;
 
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountCreateCommand;
 import com.mycorp.finance.banking.account.application.dto.AccountUpdateCommand;
 import com.mycorp.finance.banking.account.application.service.AccountCommandService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -12,7 +14,7 @@ import java.util.Currency;
 import java.util.UUID;
 
 /**
- * REST controller for handling account command operations like creation and updates.
+ * REST controller for handling account command operations like creation, updates and balance changes.
  */
 @RestController
 @RequestMapping("/api/accounts")
@@ -65,9 +67,56 @@ public class AccountCommandController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Endpoint to deposit money into an account.
+     *
+     * @param customerId authenticated customer, who must own the account
+     * @param accountId UUID of the account to credit
+     * @param request DTO with amount and currency
+     * @return HTTP 204 No Content on success
+     */
+    @PostMapping("/{accountId}/deposit")
+    public ResponseEntity<Void> deposit(
+            @AuthenticationPrincipal UUID customerId,
+            @PathVariable UUID accountId,
+            @RequestBody AccountBalanceRequest request
+    ) {
+        accountCommandService.deposit(toBalanceCommand(customerId, accountId, request));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint to withdraw money from an account.
+     *
+     * @param customerId authenticated customer, who must own the account
+     * @param accountId UUID of the account to debit
+     * @param request DTO with amount and currency
+     * @return HTTP 204 No Content on success
+     */
+    @PostMapping("/{accountId}/withdraw")
+    public ResponseEntity<Void> withdraw(
+            @AuthenticationPrincipal UUID customerId,
+            @PathVariable UUID accountId,
+            @RequestBody AccountBalanceRequest request
+    ) {
+        accountCommandService.withdraw(toBalanceCommand(customerId, accountId, request));
+        return ResponseEntity.noContent().build();
+    }
+
+    private AccountBalanceCommand toBalanceCommand(UUID customerId, UUID accountId, AccountBalanceRequest request) {
+        return new AccountBalanceCommand(
+                customerId,
+                accountId,
+                request.amount(),
+                Currency.getInstance(request.currency())
+        );
+    }
+
     // --- DTO records for HTTP requests ---
 
     public record AccountCreateRequest(UUID customerId, double initialBalance, String currency) {}
 
     public record AccountUpdateRequest(String status) {}
+
+    public record AccountBalanceRequest(BigDecimal amount, String currency) {}
 }
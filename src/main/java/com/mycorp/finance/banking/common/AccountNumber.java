@@ -1,14 +1,30 @@
 package com.mycorp.finance.banking.common;
 
 import java.util.Objects;
-import java.util.UUID;
 
 /**
- * Value Object representing a bank account number.
- * Encapsulates generation and validation rules.
+ * Value Object representing a bank account number: "ACCT-" followed by 8 characters in [A-Z0-9].
+ * Encapsulates encoding and validation rules.
+ *
+ * Numbers issued from a sequence encode the sequence value in 7 base-36 digits whose leading digit
+ * is always in G..Z, followed by an ISO 7064 MOD 37,36 check character. Legacy numbers consist of
+ * hex digits only, so the two ranges never overlap.
  */
 public class AccountNumber {
 
+    private static final String PREFIX = "ACCT-";
+    private static final int BODY_LENGTH = 8;
+    private static final int LENGTH = PREFIX.length() + BODY_LENGTH;
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int RADIX = 36;
+    private static final int FIRST_LEADING_DIGIT = 16; // 'G', first digit that is not a hex digit
+    private static final long LEADING_DIGIT_WEIGHT = 2_176_782_336L; // 36^6
+
+    /**
+     * Number of distinct values {@link #fromSequence(long)} can encode.
+     */
+    public static final long SEQUENCE_CAPACITY = (RADIX - FIRST_LEADING_DIGIT) * LEADING_DIGIT_WEIGHT;
+
     private final String value;
 
     private AccountNumber(String value) {
@@ -20,18 +36,76 @@ public class AccountNumber {
         return new AccountNumber(value);
     }
 
-    public static AccountNumber generate() {
-        String raw = "ACCT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return new AccountNumber(raw);
+    /**
+     * Encodes a unique sequence value into an account number with check character.
+     *
+     * @param sequence value in [0, {@link #SEQUENCE_CAPACITY})
+     * @return account number unique to that sequence value
+     */
+    public static AccountNumber fromSequence(long sequence) {
+        if (sequence < 0 || sequence >= SEQUENCE_CAPACITY) {
+            throw new IllegalArgumentException("Account number sequence out of range: " + sequence);
+        }
+        char[] chars = new char[LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        int bodyEnd = LENGTH - 1;
+        long remaining = sequence % LEADING_DIGIT_WEIGHT;
+        for (int i = bodyEnd - 1; i > PREFIX.length(); i--) {
+            chars[i] = DIGITS.charAt((int) (remaining % RADIX));
+            remaining /= RADIX;
+        }
+        chars[PREFIX.length()] = DIGITS.charAt(FIRST_LEADING_DIGIT + (int) (sequence / LEADING_DIGIT_WEIGHT));
+        chars[bodyEnd] = DIGITS.charAt(checkDigit(chars, PREFIX.length(), bodyEnd));
+        return new AccountNumber(new String(chars));
     }
 
-    private void validate(String value) {
+    /**
+     * @return true if this number was issued from a sequence and its check character matches
+     */
+    public boolean isSequenceIssued() {
+        int leading = digitOf(value.charAt(PREFIX.length()));
+        return leading >= FIRST_LEADING_DIGIT
+                && checkDigit(value.toCharArray(), PREFIX.length(), LENGTH - 1) == digitOf(value.charAt(LENGTH - 1));
+    }
+
+    private static void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Account number cannot be null or blank");
         }
-        if (!value.matches("ACCT-[A-Z0-9]{8}")) {
+        if (value.length() != LENGTH || !value.startsWith(PREFIX)) {
             throw new IllegalArgumentException("Invalid account number format: " + value);
         }
+        for (int i = PREFIX.length(); i < LENGTH; i++) {
+            if (digitOf(value.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid account number format: " + value);
+            }
+        }
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * ISO 7064 MOD 37,36 check digit over chars[from, to); detects all single substitutions
+     * and nearly all adjacent transpositions.
+     */
+    private static int checkDigit(char[] chars, int from, int to) {
+        int product = RADIX;
+        for (int i = from; i < to; i++) {
+            int sum = (product + digitOf(chars[i])) % RADIX;
+            if (sum == 0) {
+                sum = RADIX;
+            }
+            product = (sum * 2) % (RADIX + 1);
+        }
+        return (RADIX + 1 - product) % RADIX;
     }
 
     public String value() {
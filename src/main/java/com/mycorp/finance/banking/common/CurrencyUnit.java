@@ -0,0 +1,82 @@
+package com.mycorp.finance.banking.common;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interned currency with its minor unit exponent (2 for USD, 0 for KRW and JPY, 3 for KWD).
+ * One instance exists per currency code, so currencies compare by reference on the hot path.
+ */
+public final class CurrencyUnit {
+
+    private static final ConcurrentMap<String, CurrencyUnit> UNITS = new ConcurrentHashMap<>();
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    private final Currency currency;
+    private final int exponent;
+    private final long minorPerMajor;
+
+    private CurrencyUnit(Currency currency) {
+        this.currency = currency;
+        this.exponent = Math.max(0, currency.getDefaultFractionDigits()); // -1 for pseudo currencies such as XAU
+        this.minorPerMajor = POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * @param currencyCode ISO 4217 code
+     * @return interned unit
+     * @throws IllegalArgumentException if the code is not a known currency
+     */
+    public static CurrencyUnit of(String currencyCode) {
+        CurrencyUnit unit = UNITS.get(currencyCode);
+        return unit != null ? unit : UNITS.computeIfAbsent(currencyCode, code -> new CurrencyUnit(Currency.getInstance(code)));
+    }
+
+    public static CurrencyUnit of(Currency currency) {
+        return of(currency.getCurrencyCode());
+    }
+
+    public String getCode() {
+        return currency.getCurrencyCode();
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return number of fraction digits of the minor unit
+     */
+    public int getExponent() {
+        return exponent;
+    }
+
+    /**
+     * @return minor units per major unit, 10^exponent
+     */
+    public long getMinorPerMajor() {
+        return minorPerMajor;
+    }
+
+    /**
+     * Rescales an amount given in minor units of another exponent to this currency's minor unit.
+     *
+     * @param amount   amount in units of 10^-exponent
+     * @param exponent fraction digits the amount is expressed in
+     * @return amount in minor units of this currency
+     * @throws ArithmeticException if the amount does not fit exactly
+     */
+    public long toMinorUnits(long amount, int exponent) {
+        if (exponent == this.exponent) {
+            return amount;
+        }
+        return BigDecimal.valueOf(amount, exponent).movePointRight(this.exponent).longValueExact();
+    }
+
+    @Override
+    public String toString() {
+        return getCode();
+    }
+}
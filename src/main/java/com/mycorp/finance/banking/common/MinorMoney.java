@@ -0,0 +1,133 @@
+package com.mycorp.finance.banking.common;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Immutable monetary amount held as a long count of the currency's minor unit (cents for USD, won for KRW).
+ * Domain hot path representation: arithmetic is overflow-checked long math with a reference
+ * comparison of the interned CurrencyUnit, no BigDecimal rescaling or currency lookups.
+ * {@link Money} remains the BigDecimal form for API and messaging boundaries.
+ */
+public final class MinorMoney implements Comparable<MinorMoney> {
+
+    private final long minorUnits;
+    private final CurrencyUnit currency;
+
+    private MinorMoney(long minorUnits, CurrencyUnit currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency must not be null");
+    }
+
+    public static MinorMoney ofMinor(long minorUnits, CurrencyUnit currency) {
+        return new MinorMoney(minorUnits, currency);
+    }
+
+    public static MinorMoney ofMinor(long minorUnits, String currencyCode) {
+        return new MinorMoney(minorUnits, CurrencyUnit.of(currencyCode));
+    }
+
+    /**
+     * Converts an amount in major units, e.g. 12.34 USD.
+     *
+     * @param amount   amount with at most as many fraction digits as the currency has
+     * @param currency currency of the amount
+     * @return exact minor unit amount
+     * @throws IllegalArgumentException if the amount needs rounding or does not fit a long
+     */
+    public static MinorMoney ofMajor(BigDecimal amount, CurrencyUnit currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount must not be null");
+        }
+        Objects.requireNonNull(currency, "currency");
+        try {
+            return new MinorMoney(amount.movePointRight(currency.getExponent()).longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " is not representable in " + currency, e);
+        }
+    }
+
+    public MinorMoney add(MinorMoney other) {
+        requireSameCurrency(other);
+        return new MinorMoney(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public MinorMoney subtract(MinorMoney other) {
+        requireSameCurrency(other);
+        return new MinorMoney(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public MinorMoney negate() {
+        return new MinorMoney(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isLessThan(MinorMoney other) {
+        requireSameCurrency(other);
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    public String getCurrencyCode() {
+        return currency.getCode();
+    }
+
+    /**
+     * @return amount in major units, scaled to the currency exponent
+     */
+    public BigDecimal toMajor() {
+        return BigDecimal.valueOf(minorUnits, currency.getExponent());
+    }
+
+    public Money toMoney() {
+        return Money.of(toMajor(), currency.getCurrency());
+    }
+
+    @Override
+    public int compareTo(MinorMoney other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void requireSameCurrency(MinorMoney other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MinorMoney)) return false;
+        MinorMoney that = (MinorMoney) o;
+        return minorUnits == that.minorUnits && currency == that.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toMajor().toPlainString() + " " + currency;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.Objects;
 
 /**
  * Embeddable Value Object representing monetary amount and currency.
- * Used as a component inside JPA entities.
+ * Used as a component inside JPA entities and at API boundaries; domain models hold {@link MinorMoney}.
  */
 @Embeddable
 @Getter
@@ -29,7 +29,7 @@ public class Money {
 
     /**
      * Constructs Money instance with amount and currency.
-     * Amount is scaled to 2 decimal places with HALF_EVEN rounding.
+     * Amount is scaled to the fraction digits of the currency (2 for USD, 0 for KRW, 3 for KWD) with HALF_EVEN rounding.
      *
      * @param amount   monetary amount, must not be null
      * @param currency currency, must not be null
@@ -38,7 +38,7 @@ public class Money {
         if (amount == null || currency == null) {
             throw new IllegalArgumentException("Amount and currency must not be null");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_EVEN);
+        this.amount = amount.setScale(CurrencyUnit.of(currency).getExponent(), RoundingMode.HALF_EVEN);
         this.currencyCode = currency.getCurrencyCode();
     }
 
@@ -53,6 +53,16 @@ public class Money {
         return new Money(amount, currency);
     }
 
+    /**
+     * Converts to the minor unit representation of the currency.
+     *
+     * @return exact MinorMoney
+     * @throws IllegalArgumentException if the amount has more fraction digits than the currency
+     */
+    public MinorMoney toMinorMoney() {
+        return MinorMoney.ofMajor(amount, CurrencyUnit.of(currencyCode));
+    }
+
     public Currency getCurrency() {
         return Currency.getInstance(currencyCode);
     }
@@ -67,6 +77,10 @@ public class Money {
         return new Money(this.amount.subtract(other.amount), getCurrency());
     }
 
+    public Money negate() {
+        return new Money(this.amount.negate(), getCurrency());
+    }
+
     private void validateCurrency(Money other) {
         if (!this.currencyCode.equals(other.currencyCode)) {
             throw new IllegalArgumentException("Currency mismatch: " + this.currencyCode + " vs " + other.currencyCode);
@@ -0,0 +1,18 @@
+package com.mycorp.finance.banking.transaction.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Command DTO used to move money from one Account aggregate to another.
+ * customerId is the authenticated requester, who must own the source account.
+ * Immutable and intended for use in the write side of the application (CQRS).
+ */
+public record TransferCommand(
+        UUID customerId,
+        UUID sourceAccountId,
+        UUID targetAccountId,
+        BigDecimal amount,
+        Currency currency
+) {}
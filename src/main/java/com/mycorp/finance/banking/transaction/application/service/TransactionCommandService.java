@@ -0,0 +1,17 @@
+package com.mycorp.finance.banking.transaction.application.service;
+
+import com.mycorp.finance.banking.transaction.application.dto.TransferCommand;
+
+/**
+ * Service interface defining command operations that move money between accounts.
+ */
+public interface TransactionCommandService {
+
+    /**
+     * Debits the source account and credits the target account atomically.
+     *
+     * @param command DTO containing source, target and amount information
+     * @return id of the recorded transaction
+     */
+    String transfer(TransferCommand command);
+}
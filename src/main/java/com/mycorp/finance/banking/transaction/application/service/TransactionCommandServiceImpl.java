@@ -0,0 +1,123 @@
+package com.mycorp.finance.banking.transaction.application.service;
+
+import com.mycorp.finance.banking.account.domain.event.AccountEventPublisher;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import com.mycorp.finance.banking.common.CurrencyUnit;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.banking.transaction.application.dto.TransferCommand;
+import com.mycorp.finance.banking.transaction.domain.model.Transaction;
+import com.mycorp.finance.banking.transaction.domain.repository.TransactionCommandRepository;
+import com.mycorp.finance.banking.transaction.domain.service.TransferValidationService;
+import com.mycorp.finance.global.exception.BalanceUpdateConflictException;
+import com.mycorp.finance.global.exception.UnauthorizedAccountAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Application service executing money movements between Account aggregates.
+ * Each leg is a single guarded balance UPDATE, applied in ascending accountId order so that
+ * concurrent transfers over the same pair of accounts always acquire row locks in the same
+ * sequence and never deadlock. Row locks are held only from the UPDATE until commit.
+ * The owner of the source account is checked on the row returned by its debit, so the check costs no extra
+ * round trip; a debit of someone else's account is rolled back before any other transaction can see it.
+ */
+@Service
+@Transactional
+public class TransactionCommandServiceImpl implements TransactionCommandService {
+
+    private final AccountCommandRepository accountCommandRepository;
+    private final TransactionCommandRepository transactionCommandRepository;
+    private final TransferValidationService transferValidationService;
+    private final AccountEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public TransactionCommandServiceImpl(
+            AccountCommandRepository accountCommandRepository,
+            TransactionCommandRepository transactionCommandRepository,
+            TransferValidationService transferValidationService,
+            AccountEventPublisher eventPublisher,
+            Clock clock
+    ) {
+        this.accountCommandRepository = accountCommandRepository;
+        this.transactionCommandRepository = transactionCommandRepository;
+        this.transferValidationService = transferValidationService;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    /**
+     * Transfers money between two accounts within a single command DB transaction.
+     *
+     * @param command DTO with source, target and amount
+     * @return id of the completed transaction
+     */
+    @Override
+    public String transfer(TransferCommand command) {
+        MinorMoney amount = MinorMoney.ofMajor(command.amount(), CurrencyUnit.of(command.currency()));
+        transferValidationService.validateRequest(command.sourceAccountId(), command.targetAccountId(), amount);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // Deterministic lock ordering: always update the lower accountId first
+        boolean sourceFirst = command.sourceAccountId().compareTo(command.targetAccountId()) < 0;
+        Account first = sourceFirst
+                ? applyLeg(command, command.sourceAccountId(), amount.negate(), now)
+                : applyLeg(command, command.targetAccountId(), amount, now);
+        Account second = sourceFirst
+                ? applyLeg(command, command.targetAccountId(), amount, now)
+                : applyLeg(command, command.sourceAccountId(), amount.negate(), now);
+        Account source = sourceFirst ? first : second;
+        Account target = sourceFirst ? second : first;
+        checkOwner(command, source);
+
+        Transaction transaction = Transaction.createTransfer(
+                source.getAccountNumber(),
+                target.getAccountNumber(),
+                amount,
+                now
+        );
+        transaction.markCompleted();
+        transactionCommandRepository.save(transaction);
+
+        eventPublisher.publishAccountUpdated(source);
+        eventPublisher.publishAccountUpdated(target);
+
+        return transaction.getId();
+    }
+
+    private Account applyLeg(TransferCommand command, UUID accountId, MinorMoney delta, LocalDateTime now) {
+        return accountCommandRepository.applyBalanceDelta(accountId, delta, now)
+                .orElseThrow(() -> rejectedTransfer(command, delta.isPositive() ? delta : delta.negate()));
+    }
+
+    /**
+     * Loads both accounts only on the failure path to report why the guarded update was rejected.
+     * The surrounding transaction is rolled back, undoing a leg that may already have been applied.
+     */
+    private RuntimeException rejectedTransfer(TransferCommand command, MinorMoney amount) {
+        Account source = findAccount(command.sourceAccountId());
+        checkOwner(command, source); // before revealing why someone else's account was rejected
+        Account target = findAccount(command.targetAccountId());
+        transferValidationService.validateTransfer(source, target, amount);
+        // Both accounts passed validation after the guard rejected a leg, so one of them changed in between
+        return new BalanceUpdateConflictException("Transfer rejected between accounts: "
+                + command.sourceAccountId() + " -> " + command.targetAccountId());
+    }
+
+    private void checkOwner(TransferCommand command, Account source) {
+        if (!source.getCustomerId().equals(command.customerId())) {
+            throw new UnauthorizedAccountAccessException("Source account does not belong to the customer: "
+                    + command.sourceAccountId());
+        }
+    }
+
+    private Account findAccount(UUID accountId) {
+        return accountCommandRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+    }
+}
@@ -1,7 +1,7 @@
 package com.mycorp.finance.banking.transaction.domain.model;
 
 import com.mycorp.finance.banking.common.AccountNumber;
-import com.mycorp.finance.banking.common.Money;
+import com.mycorp.finance.banking.common.MinorMoney;
 import com.mycorp.finance.banking.transaction.domain.model.enums.TransactionStatus;
 import com.mycorp.finance.banking.transaction.domain.model.enums.TransactionType;
 
@@ -19,7 +19,7 @@ public class Transaction {
     private final String id; // UUID, immutable
     private final AccountNumber sourceAccount; // nullable for DEPOSIT
     private final AccountNumber targetAccount;
-    private final Money amount;
+    private final MinorMoney amount;
     private final TransactionType type;
     private TransactionStatus status;
     private final LocalDateTime occurredAt;
@@ -32,7 +32,7 @@ public class Transaction {
             String id,
             AccountNumber sourceAccount,
             AccountNumber targetAccount,
-            Money amount,
+            MinorMoney amount,
             TransactionType type,
             TransactionStatus status,
             LocalDateTime occurredAt
@@ -52,7 +52,7 @@ public class Transaction {
     public static Transaction createTransfer(
             AccountNumber from,
             AccountNumber to,
-            Money amount,
+            MinorMoney amount,
             LocalDateTime now
     ) {
         Objects.requireNonNull(from, "source account must not be null");
@@ -74,7 +74,7 @@ public class Transaction {
      */
     public static Transaction createDeposit(
             AccountNumber to,
-            Money amount,
+            MinorMoney amount,
             LocalDateTime now
     ) {
         Objects.requireNonNull(to, "target account must not be null");
@@ -95,7 +95,7 @@ public class Transaction {
      */
     public static Transaction createWithdrawal(
             AccountNumber from,
-            Money amount,
+            MinorMoney amount,
             LocalDateTime now
     ) {
         Objects.requireNonNull(from, "source account must not be null");
@@ -111,6 +111,22 @@ public class Transaction {
         );
     }
 
+    /**
+     * Reconstruct an existing Transaction from persistence data.
+     * Used by mappers to rebuild domain model.
+     */
+    public static Transaction reconstruct(
+            String id,
+            AccountNumber sourceAccount,
+            AccountNumber targetAccount,
+            MinorMoney amount,
+            TransactionType type,
+            TransactionStatus status,
+            LocalDateTime occurredAt
+    ) {
+        return new Transaction(id, sourceAccount, targetAccount, amount, type, status, occurredAt);
+    }
+
     /**
      * Marks this transaction as successfully completed.
      */
@@ -139,7 +155,7 @@ public class Transaction {
         return targetAccount;
     }
 
-    public Money getAmount() {
+    public MinorMoney getAmount() {
         return amount;
     }
 
@@ -0,0 +1,27 @@
+package com.mycorp.finance.banking.transaction.domain.repository;
+
+import com.mycorp.finance.banking.transaction.domain.model.Transaction;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for performing write operations on Transaction entities.
+ * Transactions are append-only records of executed money movements.
+ */
+public interface TransactionCommandRepository {
+
+    /**
+     * Finds a Transaction by its unique identifier.
+     *
+     * @param transactionId the id of the Transaction to find
+     * @return an Optional containing the Transaction if found, or empty if not found
+     */
+    Optional<Transaction> findById(String transactionId);
+
+    /**
+     * Saves a new transaction record.
+     *
+     * @param transaction the transaction to save
+     */
+    void save(Transaction transaction);
+}
@@ -0,0 +1,63 @@
+package com.mycorp.finance.banking.transaction.domain.service;
+
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.global.exception.CurrencyMismatchException;
+import com.mycorp.finance.global.exception.InsufficientBalanceException;
+import com.mycorp.finance.global.exception.InvalidAccountTransferException;
+import com.mycorp.finance.global.exception.InvalidAmountException;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Validates cross-aggregate rules for moving money between two accounts.
+ * Balance and status invariants of a single account remain inside the Account aggregate.
+ */
+@Service
+public class TransferValidationService {
+
+    /**
+     * Validates the transfer request before any account is locked.
+     *
+     * @param sourceAccountId account to debit
+     * @param targetAccountId account to credit
+     * @param amount          amount to move
+     */
+    public void validateRequest(UUID sourceAccountId, UUID targetAccountId, MinorMoney amount) {
+        if (sourceAccountId == null || targetAccountId == null) {
+            throw new InvalidAccountTransferException("Source and target accounts must be provided.");
+        }
+        if (sourceAccountId.equals(targetAccountId)) {
+            throw new InvalidAccountTransferException("Source and target accounts must be different.");
+        }
+        if (!amount.isPositive()) {
+            throw new InvalidAmountException("Transfer amount must be positive.");
+        }
+    }
+
+    /**
+     * Validates both accounts against the transfer amount once they are locked.
+     *
+     * @param source account to debit
+     * @param target account to credit
+     * @param amount amount to move
+     */
+    public void validateTransfer(Account source, Account target, MinorMoney amount) {
+        if (source.getStatus() != AccountStatus.ACTIVE) {
+            throw new InvalidAccountTransferException("Source account is not active: " + source.getAccountNumber());
+        }
+        if (target.getStatus() != AccountStatus.ACTIVE) {
+            throw new InvalidAccountTransferException("Target account is not active: " + target.getAccountNumber());
+        }
+        if (!source.getCurrencyCode().equals(amount.getCurrencyCode())
+                || !target.getCurrencyCode().equals(amount.getCurrencyCode())) {
+            throw new CurrencyMismatchException("Transfer currency " + amount.getCurrencyCode()
+                    + " does not match account currencies " + source.getCurrencyCode() + "/" + target.getCurrencyCode());
+        }
+        if (source.getBalance().isLessThan(amount)) {
+            throw new InsufficientBalanceException("Insufficient balance in account: " + source.getAccountNumber());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycorp.finance.banking.transaction.infrastructure.persistence.adapter;
+
+import com.mycorp.finance.banking.transaction.domain.model.Transaction;
+import com.mycorp.finance.banking.transaction.domain.repository.TransactionCommandRepository;
+import com.mycorp.finance.banking.transaction.infrastructure.persistence.mapper.TransactionMapper;
+import com.mycorp.finance.banking.transaction.infrastructure.persistence.repository.command.TransactionCommandJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of TransactionCommandRepository.
+ * Responsible for persisting executed transactions in the command DB.
+ */
+@Repository
+@Transactional("commandTransactionManager")
+@RequiredArgsConstructor
+public class TransactionCommandRepositoryImpl implements TransactionCommandRepository {
+
+    private final TransactionCommandJpaRepository transactionJpaRepository;
+
+    @Override
+    public Optional<Transaction> findById(String transactionId) {
+        return transactionJpaRepository.findById(UUID.fromString(transactionId))
+                .map(TransactionMapper::toDomain);
+    }
+
+    /**
+     * Transactions are append-only; the entity reports itself as new so this is a plain insert.
+     */
+    @Override
+    public void save(Transaction transaction) {
+        transactionJpaRepository.save(TransactionMapper.toEntity(transaction));
+    }
+}
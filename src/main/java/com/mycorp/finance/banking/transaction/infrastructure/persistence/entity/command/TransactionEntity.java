@@ -0,0 +1,109 @@
+package com.mycorp.finance.banking.transaction.infrastructure.persistence.entity.command;
+
+import com.mycorp.finance.banking.transaction.domain.model.enums.TransactionStatus;
+import com.mycorp.finance.banking.transaction.domain.model.enums.TransactionType;
+import com.mycorp.finance.global.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing an executed money movement.
+ * Inherits from BaseEntity for id and audit timestamp fields.
+ * Implements Persistable so that append-only inserts skip the merge SELECT on the assigned UUID.
+ */
+@Entity
+@Table(name = "transactions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA requires a no-arg constructor, protected for encapsulation
+public class TransactionEntity extends BaseEntity implements Persistable<UUID> {
+
+    @Column(name = "source_account_number", length = 20)
+    private String sourceAccountNumber; // null for deposits
+
+    @Column(name = "target_account_number", length = 20)
+    private String targetAccountNumber; // null for withdrawals
+
+    @Column(name = "amount", nullable = false)
+    private Long amount; // Stored as minor unit, e.g. cents
+
+    @Column(name = "currency_code", nullable = false, length = 3)
+    private String currencyCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private TransactionType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TransactionStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Protected constructor to restrict direct instantiation.
+     * Use static factory method {@link #of} instead.
+     */
+    protected TransactionEntity(UUID id,
+                                String sourceAccountNumber,
+                                String targetAccountNumber,
+                                Long amount,
+                                String currencyCode,
+                                TransactionType type,
+                                TransactionStatus status,
+                                LocalDateTime occurredAt) {
+        super(id);
+        this.sourceAccountNumber = sourceAccountNumber;
+        this.targetAccountNumber = targetAccountNumber;
+        this.amount = amount;
+        this.currencyCode = currencyCode;
+        this.type = type;
+        this.status = status;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Static factory method to create a new TransactionEntity instance.
+     *
+     * @param id                  Unique transaction ID
+     * @param sourceAccountNumber Debited account number, null for deposits
+     * @param targetAccountNumber Credited account number, null for withdrawals
+     * @param amount              Amount in minor units (e.g. cents)
+     * @param currencyCode        3-letter ISO currency code (e.g. "USD")
+     * @param type                Transaction type
+     * @param status              Transaction status
+     * @param occurredAt          Business timestamp of the transaction
+     * @return new TransactionEntity instance
+     */
+    public static TransactionEntity of(UUID id,
+                                       String sourceAccountNumber,
+                                       String targetAccountNumber,
+                                       Long amount,
+                                       String currencyCode,
+                                       TransactionType type,
+                                       TransactionStatus status,
+                                       LocalDateTime occurredAt) {
+        return new TransactionEntity(id, sourceAccountNumber, targetAccountNumber, amount,
+                currencyCode, type, status, occurredAt);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
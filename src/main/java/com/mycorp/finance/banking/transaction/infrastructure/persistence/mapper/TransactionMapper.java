@@ -0,0 +1,61 @@
+package com.mycorp.finance.banking.transaction.infrastructure.persistence.mapper;
+
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.banking.transaction.domain.model.Transaction;
+import com.mycorp.finance.banking.transaction.infrastructure.persistence.entity.command.TransactionEntity;
+
+import java.util.UUID;
+
+/**
+ * Mapper for converting between Transaction domain model and TransactionEntity persistence model.
+ */
+public class TransactionMapper {
+
+    /**
+     * Converts Transaction domain model to JPA entity.
+     *
+     * @param transaction Domain transaction instance
+     * @return TransactionEntity ready for persistence
+     */
+    public static TransactionEntity toEntity(Transaction transaction) {
+        if (transaction == null) {
+            return null;
+        }
+
+        return TransactionEntity.of(
+                UUID.fromString(transaction.getId()),
+                transaction.getSourceAccount() != null ? transaction.getSourceAccount().value() : null,
+                transaction.getTargetAccount() != null ? transaction.getTargetAccount().value() : null,
+                transaction.getAmount().getMinorUnits(),
+                transaction.getAmount().getCurrencyCode(),
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getOccurredAt()
+        );
+    }
+
+    /**
+     * Converts TransactionEntity to domain model.
+     *
+     * @param entity persistence entity
+     * @return reconstructed Transaction
+     */
+    public static Transaction toDomain(TransactionEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        MinorMoney amount = MinorMoney.ofMinor(entity.getAmount(), entity.getCurrencyCode());
+
+        return Transaction.reconstruct(
+                entity.getId().toString(),
+                entity.getSourceAccountNumber() != null ? AccountNumber.of(entity.getSourceAccountNumber()) : null,
+                entity.getTargetAccountNumber() != null ? AccountNumber.of(entity.getTargetAccountNumber()) : null,
+                amount,
+                entity.getType(),
+                entity.getStatus(),
+                entity.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.mycorp.finance.banking.transaction.infrastructure.persistence.repository.command;
+
+import com.mycorp.finance.banking.transaction.infrastructure.persistence.entity.command.TransactionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository interface for TransactionEntity.
+ * Provides CRUD operations for transaction persistence.
+ */
+@Repository
+public interface TransactionCommandJpaRepository extends JpaRepository<TransactionEntity, UUID> {
+}
@@ -0,0 +1,56 @@
+package com.mycorp.finance.banking.transaction.presentation;
+
+import com.mycorp.finance.banking.transaction.application.dto.TransferCommand;
+import com.mycorp.finance.banking.transaction.application.service.TransactionCommandService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * REST controller for handling money movement commands between accounts.
+ */
+@RestController
+@RequestMapping("/api/transactions")
+public class TransactionCommandController {
+
+    private final TransactionCommandService transactionCommandService;
+
+    public TransactionCommandController(TransactionCommandService transactionCommandService) {
+        this.transactionCommandService = transactionCommandService;
+    }
+
+    /**
+     * Endpoint to transfer money between two accounts.
+     *
+     * @param customerId authenticated customer, who must own the source account
+     * @param request DTO with source/target account ids, amount, and currency info
+     * @return HTTP 201 Created with the transaction id on success
+     */
+    @PostMapping("/transfers")
+    public ResponseEntity<TransferResponse> transfer(
+            @AuthenticationPrincipal UUID customerId,
+            @RequestBody TransferRequest request
+    ) {
+        var command = new TransferCommand(
+                customerId,
+                request.sourceAccountId(),
+                request.targetAccountId(),
+                request.amount(),
+                Currency.getInstance(request.currency())
+        );
+
+        String transactionId = transactionCommandService.transfer(command);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new TransferResponse(transactionId));
+    }
+
+    // --- DTO records for HTTP requests ---
+
+    public record TransferRequest(UUID sourceAccountId, UUID targetAccountId, BigDecimal amount, String currency) {}
+
+    public record TransferResponse(String transactionId) {}
+}
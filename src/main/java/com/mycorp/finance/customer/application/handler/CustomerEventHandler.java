@@ -1,21 +1,36 @@
 package com.mycorp.finance.customer.application.handler;
 
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerDeletedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent;
+import com.mycorp.finance.customer.infrastructure.persistence.cache.CustomerEmailFilter;
 import com.mycorp.finance.customer.infrastructure.persistence.entity.query.CustomerReadEntity;
 import com.mycorp.finance.customer.infrastructure.persistence.mapper.CustomerReadMapper;
 import com.mycorp.finance.customer.infrastructure.persistence.repository.query.CustomerQueryJpaRepository;
+import com.mycorp.finance.customer.infrastructure.persistence.repository.query.CustomerReadBulkRepository;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Handles customer domain events received from Kafka.
  * Responsible for creating or updating the customer read model (CQRS read side).
+ * Works on version 2 events only; consumers upcast version 1 events before handing them over.
+ * Emails are added to CustomerEmailFilter before their row is written, never after.
+ * Every write is conditional on the aggregate version, so redelivered and reordered events are dropped.
  */
 @Slf4j
 @Component
@@ -24,23 +39,25 @@ public class CustomerEventHandler {
 
     private final CustomerQueryJpaRepository repository;
     private final CustomerReadMapper mapper;
+    private final CustomerReadBulkRepository bulkRepository;
+    private final CustomerEmailFilter emailFilter;
 
     /**
      * Handles customer creation event by creating a new read model entity.
      *
      * @param event CustomerCreatedEvent from Kafka
      */
-    @Transactional
+    @Transactional("queryTransactionManager")
     public void handle(CustomerCreatedEvent event) {
-        log.info("Handling CustomerCreatedEvent: {}", event);
+        log.debug("Handling CustomerCreatedEvent version {} for {}", event.getVersion(), AvroUuids.fromAvro(event.getCustomerId()));
 
-        if (repository.existsByEmail(event.getEmail())) {
-            log.warn("Customer with email {} already exists in read model.", event.getEmail());
+        if (emailFilter.mightContain(event.getEmail()) && repository.existsByEmail(event.getEmail())) {
+            log.warn("Email of customer {} already exists in read model.", AvroUuids.fromAvro(event.getCustomerId()));
             return;
         }
+        emailFilter.add(event.getEmail());
 
-        CustomerReadEntity entity = mapper.toEntity(event);
-        repository.save(entity);
+        bulkRepository.upsertAll(List.of(mapper.toEntity(event)));
     }
 
     /**
@@ -48,16 +65,18 @@ public class CustomerEventHandler {
      *
      * @param event CustomerUpdatedEvent from Kafka
      */
-    @Transactional
+    @Transactional("queryTransactionManager")
     public void handle(CustomerUpdatedEvent event) {
-        log.info("Handling CustomerUpdatedEvent: {}", event);
+        log.debug("Handling CustomerUpdatedEvent version {} for {}", event.getVersion(), AvroUuids.fromAvro(event.getCustomerId()));
 
-        UUID customerId = UUID.fromString(event.getCustomerId());
-        CustomerReadEntity current = repository.findById(customerId)
-                .orElseThrow(() -> new IllegalStateException("Customer not found in read model: " + customerId));
-
-        CustomerReadEntity updated = mapper.applyUpdate(current, event);
-        repository.save(updated);
+        if (bulkRepository.updateProfiles(List.of(CustomerReadEntity.profileOf(event))) > 0) {
+            return;
+        }
+        UUID customerId = AvroUuids.fromAvro(event.getCustomerId());
+        if (!repository.existsById(customerId) && !bulkRepository.isDeleted(customerId)) {
+            throw new IllegalStateException("Customer not found in read model: " + customerId);
+        }
+        log.debug("Skipped stale CustomerUpdatedEvent version {} for {}", event.getVersion(), customerId);
     }
 
     /**
@@ -65,11 +84,146 @@ public class CustomerEventHandler {
      *
      * @param event CustomerDeletedEvent from Kafka
      */
-    @Transactional
+    @Transactional("queryTransactionManager")
     public void handle(CustomerDeletedEvent event) {
-        log.info("Handling CustomerDeletedEvent: {}", event);
+        log.debug("Handling CustomerDeletedEvent version {} for {}", event.getVersion(), AvroUuids.fromAvro(event.getCustomerId()));
+
+        bulkRepository.deleteAll(Map.of(AvroUuids.fromAvro(event.getCustomerId()), event.getVersion()));
+    }
+
+    /**
+     * Handles one event of the per-aggregate customer stream, where all event types share a topic.
+     *
+     * @param event version 2 customer event
+     */
+    @Transactional("queryTransactionManager")
+    public void handle(SpecificRecord event) {
+        if (event instanceof CustomerCreatedEvent created) {
+            handle(created);
+        } else if (event instanceof CustomerUpdatedEvent updated) {
+            handle(updated);
+        } else if (event instanceof CustomerDeletedEvent deleted) {
+            handle(deleted);
+        } else {
+            throw new IllegalArgumentException("Unsupported customer event: " + event.getClass().getName());
+        }
+    }
+
+    /**
+     * Applies a whole poll of customer events in one query DB transaction.
+     * Events are grouped by customerId and folded in version order, so each customer
+     * ends up as at most one insert, one profile update or one delete. Email conflicts of all
+     * new customers are resolved with a single lookup, then every kind of write is one JDBC batch,
+     * conditional on the stored version.
+     *
+     * @param events customer events in consumption order
+     * @return number of read model rows written
+     */
+    @Transactional("queryTransactionManager")
+    public int handleBatch(List<SpecificRecord> events) {
+        Map<UUID, List<SpecificRecord>> eventsByCustomer = new LinkedHashMap<>();
+        for (SpecificRecord event : events) {
+            eventsByCustomer.computeIfAbsent(customerIdOf(event), id -> new ArrayList<>()).add(event);
+        }
+
+        List<CustomerReadEntity> creates = new ArrayList<>();
+        List<CustomerReadEntity> updates = new ArrayList<>();
+        Map<UUID, Long> deletes = new LinkedHashMap<>();
+        eventsByCustomer.forEach((customerId, customerEvents) -> {
+            // events without a version fall back to event time; stable for equal timestamps
+            customerEvents.sort(Comparator.comparingLong(CustomerEventHandler::versionOf)
+                    .thenComparing(CustomerEventHandler::occurredAtOf));
+
+            CustomerReadEntity created = null;
+            CustomerReadEntity updated = null;
+            Long deleted = null;
+            for (SpecificRecord event : customerEvents) {
+                if (event instanceof CustomerCreatedEvent createdEvent) {
+                    created = mapper.toEntity(createdEvent);
+                    deleted = null;
+                } else if (event instanceof CustomerUpdatedEvent updatedEvent) {
+                    if (created != null) {
+                        created = mapper.applyUpdate(created, updatedEvent);
+                    } else if (deleted == null) {
+                        updated = CustomerReadEntity.profileOf(updatedEvent);
+                    }
+                } else {
+                    created = null;
+                    updated = null;
+                    deleted = ((CustomerDeletedEvent) event).getVersion();
+                }
+            }
+
+            if (created != null) {
+                creates.add(created);
+            } else if (deleted != null) {
+                deletes.put(customerId, deleted);
+            } else if (updated != null) {
+                updates.add(updated);
+            }
+        });
 
-        UUID customerId = UUID.fromString(event.getCustomerId());
-        repository.deleteById(customerId);
+        bulkRepository.deleteAll(deletes);
+        List<CustomerReadEntity> accepted = withoutEmailConflicts(creates);
+        accepted.forEach(customer -> emailFilter.add(customer.getEmail()));
+        bulkRepository.upsertAll(accepted);
+        int updatedRows = bulkRepository.updateProfiles(updates);
+        if (updatedRows < updates.size()) {
+            log.warn("{} customer updates were stale or referenced customers missing from the read model.", updates.size() - updatedRows);
+        }
+        return deletes.size() + accepted.size() + updatedRows;
+    }
+
+    private List<CustomerReadEntity> withoutEmailConflicts(List<CustomerReadEntity> creates) {
+        if (creates.isEmpty()) {
+            return creates;
+        }
+        Map<String, UUID> owners = bulkRepository.findIdsByEmail(
+                creates.stream().map(CustomerReadEntity::getEmail).filter(emailFilter::mightContain).toList());
+
+        Set<String> claimed = new HashSet<>();
+        List<CustomerReadEntity> accepted = new ArrayList<>(creates.size());
+        for (CustomerReadEntity customer : creates) {
+            UUID owner = owners.get(customer.getEmail());
+            if ((owner != null && !owner.equals(customer.getId())) || !claimed.add(customer.getEmail())) {
+                log.warn("Email of customer {} already exists in read model.", customer.getId());
+                continue;
+            }
+            accepted.add(customer);
+        }
+        return accepted;
+    }
+
+    private static UUID customerIdOf(SpecificRecord event) {
+        if (event instanceof CustomerCreatedEvent created) {
+            return AvroUuids.fromAvro(created.getCustomerId());
+        }
+        if (event instanceof CustomerUpdatedEvent updated) {
+            return AvroUuids.fromAvro(updated.getCustomerId());
+        }
+        if (event instanceof CustomerDeletedEvent deleted) {
+            return AvroUuids.fromAvro(deleted.getCustomerId());
+        }
+        throw new IllegalArgumentException("Unsupported customer event: " + event.getClass().getName());
+    }
+
+    private static long versionOf(SpecificRecord event) {
+        if (event instanceof CustomerCreatedEvent created) {
+            return created.getVersion();
+        }
+        if (event instanceof CustomerUpdatedEvent updated) {
+            return updated.getVersion();
+        }
+        return ((CustomerDeletedEvent) event).getVersion();
+    }
+
+    private static Instant occurredAtOf(SpecificRecord event) {
+        if (event instanceof CustomerCreatedEvent created) {
+            return created.getCreatedAt();
+        }
+        if (event instanceof CustomerUpdatedEvent updated) {
+            return updated.getUpdatedAt();
+        }
+        return ((CustomerDeletedEvent) event).getDeletedAt();
     }
 }
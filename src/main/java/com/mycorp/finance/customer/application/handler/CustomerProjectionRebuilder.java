@@ -0,0 +1,107 @@
+package com.mycorp.finance.customer.application.handler;
+
+import com.mycorp.finance.customer.domain.repository.CustomerCommandRepository;
+import com.mycorp.finance.customer.infrastructure.messaging.CustomerEventMapper;
+import com.mycorp.finance.customer.infrastructure.messaging.CustomerEventUpcaster;
+import com.mycorp.finance.customer.infrastructure.persistence.entity.query.CustomerReadEntity;
+import com.mycorp.finance.customer.infrastructure.persistence.mapper.CustomerReadMapper;
+import com.mycorp.finance.customer.infrastructure.persistence.repository.query.CustomerReadBulkRepository;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.projection.ProjectionRebuilder;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds customer_read from the customers table.
+ * Rows go through CustomerEventMapper and CustomerReadMapper, the same path as projected events.
+ */
+@Component
+public class CustomerProjectionRebuilder implements ProjectionRebuilder<CustomerReadEntity> {
+
+    private final CustomerCommandRepository customerCommandRepository;
+    private final CustomerEventMapper eventMapper;
+    private final CustomerReadMapper readMapper;
+    private final CustomerReadBulkRepository customerReadBulkRepository;
+    private final CustomerEventHandler customerEventHandler;
+    private final CustomerEventUpcaster upcaster;
+    private final EventTopics eventTopics;
+
+    @Value("${spring.kafka.consumer-groups.customer}")
+    private String consumerGroup;
+
+    public CustomerProjectionRebuilder(
+            CustomerCommandRepository customerCommandRepository,
+            CustomerEventMapper eventMapper,
+            CustomerReadMapper readMapper,
+            CustomerReadBulkRepository customerReadBulkRepository,
+            CustomerEventHandler customerEventHandler,
+            CustomerEventUpcaster upcaster,
+            EventTopics eventTopics
+    ) {
+        this.customerCommandRepository = customerCommandRepository;
+        this.eventMapper = eventMapper;
+        this.readMapper = readMapper;
+        this.customerReadBulkRepository = customerReadBulkRepository;
+        this.customerEventHandler = customerEventHandler;
+        this.upcaster = upcaster;
+        this.eventTopics = eventTopics;
+    }
+
+    @Override
+    public String name() {
+        return "customer";
+    }
+
+    @Override
+    public String readTable() {
+        return "customer_read";
+    }
+
+    @Override
+    public String consumerGroup() {
+        return consumerGroup;
+    }
+
+    @Override
+    public List<String> topics() {
+        return List.of(eventTopics.topicsOf(name()));
+    }
+
+    @Override
+    @Transactional(value = "commandTransactionManager", readOnly = true)
+    public long countSourceRows() {
+        return customerCommandRepository.count();
+    }
+
+    @Override
+    @Transactional(value = "commandTransactionManager", readOnly = true)
+    public List<CustomerReadEntity> loadChunk(UUID afterId, int limit) {
+        return customerCommandRepository.findAllAfter(afterId, limit).stream()
+                .map(eventMapper::toCustomerCreatedEventV2)
+                .map(readMapper::toEntity)
+                .toList();
+    }
+
+    @Override
+    public UUID idOf(CustomerReadEntity row) {
+        return row.getId();
+    }
+
+    @Override
+    @Transactional("queryTransactionManager")
+    public void insertChunk(String table, List<CustomerReadEntity> rows) {
+        customerReadBulkRepository.insertAll(table, rows);
+    }
+
+    @Override
+    public int replay(List<SpecificRecord> events) {
+        return customerEventHandler.handleBatch(events.stream()
+                .map(upcaster::upcast)
+                .toList());
+    }
+}
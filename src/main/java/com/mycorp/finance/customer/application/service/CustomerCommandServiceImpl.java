@@ -21,6 +21,7 @@ import java.util.UUID;
  * related to Customer lifecycle such as registration, update, delete.
  *
  * Follows DDD principles, coordinating between domain logic and persistence.
+ * Updates and deletes lock the customer row, so each change gets its own aggregate version.
  */
 @Service
 public class CustomerCommandServiceImpl implements CustomerCommandService {
@@ -97,7 +98,7 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
     @Override
     @Transactional(transactionManager = "commandTransactionManager")
     public void updateCustomer(UUID customerId, CustomerUpdateCommand command) {
-        Customer existingCustomer = customerCommandRepository.findById(customerId)
+        Customer existingCustomer = customerCommandRepository.findByIdForUpdate(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
 
         Customer updatedCustomer = Customer.update(existingCustomer,
@@ -118,7 +119,7 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
     @Override
     @Transactional(transactionManager = "commandTransactionManager")
     public void deleteCustomer(UUID customerId) {
-        Customer existingCustomer = customerCommandRepository.findById(customerId)
+        Customer existingCustomer = customerCommandRepository.findByIdForUpdate(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
 
         customerCommandRepository.delete(existingCustomer);
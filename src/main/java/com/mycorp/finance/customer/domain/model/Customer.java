@@ -9,7 +9,8 @@ import java.util.UUID;
 
 /**
  * Customer aggregate root.
- * Immutable domain model.
+ * Immutable domain model. The version starts at 1 and every changed copy is one version ahead of its
+ * original; events carry it so projections can ignore stale or redelivered events.
  */
 public final class Customer extends AggregateRoot<UUID> {
 
@@ -20,22 +21,23 @@ public final class Customer extends AggregateRoot<UUID> {
     private final Password password;
     private final LocalDate birthDate;
     private final CustomerStatus status;
+    private final long version;
 
     /**
      * Create new customer for registration.
      */
     public static Customer register(Name name, Email email, Address address, PhoneNumber phoneNumber, Password password, LocalDate birthDate) {
-        return new Customer(UUID.randomUUID(), name, email, address, phoneNumber, password, birthDate, CustomerStatus.ACTIVE);
+        return new Customer(UUID.randomUUID(), name, email, address, phoneNumber, password, birthDate, CustomerStatus.ACTIVE, 1L);
     }
 
     /**
      * Reconstruct customer from persistence.
      */
-    public static Customer reconstruct(UUID id, Name name, Email email, Address address, PhoneNumber phoneNumber, Password password, LocalDate birthDate, CustomerStatus status) {
-        return new Customer(id, name, email, address, phoneNumber, password, birthDate, status);
+    public static Customer reconstruct(UUID id, Name name, Email email, Address address, PhoneNumber phoneNumber, Password password, LocalDate birthDate, CustomerStatus status, long version) {
+        return new Customer(id, name, email, address, phoneNumber, password, birthDate, status, version);
     }
 
-    private Customer(UUID id, Name name, Email email, Address address, PhoneNumber phoneNumber, Password password, LocalDate birthDate, CustomerStatus status) {
+    private Customer(UUID id, Name name, Email email, Address address, PhoneNumber phoneNumber, Password password, LocalDate birthDate, CustomerStatus status, long version) {
         super(id);
         this.name = name;
         this.email = email;
@@ -44,6 +46,7 @@ public final class Customer extends AggregateRoot<UUID> {
         this.password = password;
         this.birthDate = birthDate;
         this.status = status;
+        this.version = version;
     }
 
     /**
@@ -58,7 +61,8 @@ public final class Customer extends AggregateRoot<UUID> {
                 phoneNumber,
                 original.getPassword(),
                 original.getBirthDate(),
-                original.getStatus()
+                original.getStatus(),
+                original.getVersion() + 1
         );
     }
 
@@ -66,7 +70,7 @@ public final class Customer extends AggregateRoot<UUID> {
      * Deactivate customer.
      */
     public Customer deactivate() {
-        return new Customer(this.getId(), this.name, this.email, this.address, this.phoneNumber, this.password, this.birthDate, CustomerStatus.INACTIVE);
+        return new Customer(this.getId(), this.name, this.email, this.address, this.phoneNumber, this.password, this.birthDate, CustomerStatus.INACTIVE, this.version + 1);
     }
 
     public Name getName() { return name; }
@@ -76,4 +80,5 @@ public final class Customer extends AggregateRoot<UUID> {
     public Password getPassword() { return password; }
     public LocalDate getBirthDate() { return birthDate; }
     public CustomerStatus getStatus() { return status; }
+    public long getVersion() { return version; }
 }
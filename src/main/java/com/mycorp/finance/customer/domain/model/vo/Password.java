@@ -63,6 +63,22 @@ public final class Password {
         return passwordEncoder.matches(rawPassword, this.value);
     }
 
+    /**
+     * Re-encodes the password with the current encoder settings if the stored hash uses other ones.
+     * The raw password must already have been verified against this hash; the password policy is not
+     * re-applied, since it was checked when the password was set.
+     *
+     * @param rawPassword     verified raw password
+     * @param passwordEncoder encoder with the current settings
+     * @return this password, or a new one hashed with the current settings
+     */
+    public Password rehashIfNeeded(String rawPassword, PasswordEncoder passwordEncoder) {
+        if (!passwordEncoder.needsRehash(this.value)) {
+            return this;
+        }
+        return new Password(passwordEncoder.encode(rawPassword));
+    }
+
     private static boolean isInvalid(String value) {
         return value == null
                 || value.trim().length() < MIN_LENGTH
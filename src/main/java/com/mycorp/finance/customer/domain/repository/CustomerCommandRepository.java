@@ -3,6 +3,7 @@ package com.mycorp.finance.customer.domain.repository;
 import com.mycorp.finance.customer.domain.model.Customer;
 import com.mycorp.finance.customer.domain.model.vo.Email;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +21,15 @@ public interface CustomerCommandRepository {
      */
     Optional<Customer> findById(UUID id);
 
+    /**
+     * Finds a customer by its aggregate identifier and locks it for the rest of the current transaction,
+     * so concurrent changes of one customer are applied one after another.
+     *
+     * @param id the UUID of the customer
+     * @return optional customer, empty if not found
+     */
+    Optional<Customer> findByIdForUpdate(UUID id);
+
     /**
      * Finds a customer by its email.
      *
@@ -28,6 +38,22 @@ public interface CustomerCommandRepository {
      */
     Optional<Customer> findByEmail(Email email);
 
+    /**
+     * Loads a page of customers in id order for bulk processing (keyset pagination).
+     *
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   page size
+     * @return customers with an id greater than afterId, ordered by id
+     */
+    List<Customer> findAllAfter(UUID afterId, int limit);
+
+    /**
+     * Counts all customers.
+     *
+     * @return number of customers
+     */
+    long count();
+
     /**
      * Saves a new or existing customer.
      *
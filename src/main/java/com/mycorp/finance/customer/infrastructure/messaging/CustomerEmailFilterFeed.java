@@ -0,0 +1,59 @@
+package com.mycorp.finance.customer.infrastructure.messaging;
+
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent;
+import com.mycorp.finance.customer.infrastructure.persistence.cache.CustomerEmailFilter;
+import com.mycorp.finance.global.bloom.NegativeLookupFilterFeed;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.projection.ProjectionEventReplayer;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds the emails of all customer created events, from every partition, to CustomerEmailFilter,
+ * so the filter also knows the customers projected by other instances. See NegativeLookupFilterFeed.
+ */
+@Component
+public class CustomerEmailFilterFeed extends NegativeLookupFilterFeed {
+
+    static final String LISTENER_ID = "customerEmailFilterFeed";
+
+    private final CustomerEventUpcaster upcaster;
+
+    public CustomerEmailFilterFeed(
+            CustomerEmailFilter emailFilter,
+            CustomerEventUpcaster upcaster,
+            ProjectionEventReplayer replayer,
+            KafkaListenerEndpointRegistry registry,
+            EventTopics eventTopics,
+            @Value("${spring.kafka.consumer-groups.customer}") String projectionGroup
+    ) {
+        super(emailFilter, replayer, registry, LISTENER_ID, projectionGroup, List.of(eventTopics.topicsOf("customer")));
+        this.upcaster = upcaster;
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            autoStartup = "false",
+            topics = "#{@eventTopics.topicsOf('customer')}",
+            groupId = "${spring.kafka.consumer-groups.customer}-email-filter-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "instanceFeedKafkaListenerContainerFactory"
+    )
+    public void onCustomerEvents(List<ConsumerRecord<String, SpecificRecord>> records) {
+        for (ConsumerRecord<String, SpecificRecord> record : records) {
+            // Records the deserializer could not read arrive with a null value; the projection listeners report them
+            if (record.value() == null) {
+                continue;
+            }
+            // Only created events carry the email
+            if (upcaster.upcast(record.value()) instanceof CustomerCreatedEvent created) {
+                add(created.getEmail());
+            }
+        }
+    }
+}
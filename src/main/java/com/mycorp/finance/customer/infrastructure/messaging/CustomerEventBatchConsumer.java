@@ -0,0 +1,59 @@
+package com.mycorp.finance.customer.infrastructure.messaging;
+
+import com.mycorp.finance.customer.application.handler.CustomerEventHandler;
+import com.mycorp.finance.global.messaging.KeyOrderedExecutor;
+import com.mycorp.finance.global.messaging.ProjectionMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch Kafka consumer for customer domain events, active with projection.customer.listener-mode=batch.
+ * Receives a whole poll across the customer topics of messaging.topology and hands it to CustomerEventHandler as one unit;
+ * offsets are committed after the batch has been written. Version 1 events are upcast to version 2.
+ * With projection.customer.workers above 1 the poll is applied on that many lanes keyed by customer id,
+ * one transaction per lane, keeping the order of each customer's events.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "projection.customer.listener-mode", havingValue = "batch")
+public class CustomerEventBatchConsumer {
+
+    private final CustomerEventHandler handler;
+    private final CustomerEventUpcaster upcaster;
+    private final ProjectionMetrics metrics;
+    private final KeyOrderedExecutor workers;
+
+    public CustomerEventBatchConsumer(
+            CustomerEventHandler handler,
+            CustomerEventUpcaster upcaster,
+            ProjectionMetrics metrics,
+            @Qualifier("customerProjectionWorkers") KeyOrderedExecutor workers
+    ) {
+        this.handler = handler;
+        this.upcaster = upcaster;
+        this.metrics = metrics;
+        this.workers = workers;
+    }
+
+    @KafkaListener(
+            topics = "#{@eventTopics.topicsOf('customer')}",
+            groupId = "${spring.kafka.consumer-groups.customer}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency = "${projection.customer.concurrency:1}"
+    )
+    public void onCustomerEvents(List<ConsumerRecord<String, SpecificRecord>> records) {
+        long start = System.nanoTime();
+        int written = workers.process(records, ConsumerRecord::key, lane -> handler.handleBatch(lane.stream()
+                .map(record -> upcaster.upcast(record.value()))
+                .toList()));
+        metrics.recordBatch("customer", records, written, start);
+        log.debug("Applied {} customer events to {} projection rows", records.size(), written);
+    }
+}
@@ -1,49 +1,56 @@
 package com.mycorp.finance.customer.infrastructure.messaging;
 
 import com.mycorp.finance.customer.application.handler.CustomerEventHandler;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Kafka consumer for customer domain events.
+ * Kafka consumer for customer domain events, one record per invocation.
  * Delegates event processing to CustomerEventHandler.
+ * Topics may carry version 1 and version 2 events during a schema rollout; both are upcast to version 2.
+ * Default mode; replaced by CustomerEventBatchConsumer when projection.customer.listener-mode=batch,
+ * and by CustomerEventStreamConsumer when messaging.topology=per-aggregate.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnExpression("'${projection.customer.listener-mode:record}' == 'record' and '${messaging.topology:per-event-type}' == 'per-event-type'")
 public class CustomerEventConsumer {
 
     private final CustomerEventHandler handler;
+    private final CustomerEventUpcaster upcaster;
 
     @KafkaListener(
             topics = "${spring.kafka.topics.customer-created}",
-            groupId = "${spring.kafka.consumer-groups.customer}"
+            groupId = "${spring.kafka.consumer-groups.customer}",
+            concurrency = "${projection.customer.concurrency:1}"
     )
-    public void onCustomerCreated(CustomerCreatedEvent event) {
-        log.info("Received CustomerCreatedEvent: {}", event);
-        handler.handle(event);
+    public void onCustomerCreated(SpecificRecord event) {
+        log.info("Received {}: {}", event.getSchema().getFullName(), event);
+        handler.handle(upcaster.created(event));
     }
 
     @KafkaListener(
             topics = "${spring.kafka.topics.customer-updated}",
-            groupId = "${spring.kafka.consumer-groups.customer}"
+            groupId = "${spring.kafka.consumer-groups.customer}",
+            concurrency = "${projection.customer.concurrency:1}"
     )
-    public void onCustomerUpdated(CustomerUpdatedEvent event) {
-        log.info("Received CustomerUpdatedEvent: {}", event);
-        handler.handle(event);
+    public void onCustomerUpdated(SpecificRecord event) {
+        log.info("Received {}: {}", event.getSchema().getFullName(), event);
+        handler.handle(upcaster.updated(event));
     }
 
     @KafkaListener(
             topics = "${spring.kafka.topics.customer-deleted}",
-            groupId = "${spring.kafka.consumer-groups.customer}"
+            groupId = "${spring.kafka.consumer-groups.customer}",
+            concurrency = "${projection.customer.concurrency:1}"
     )
-    public void onCustomerDeleted(CustomerDeletedEvent event) {
-        log.info("Received CustomerDeletedEvent: {}", event);
-        handler.handle(event);
+    public void onCustomerDeleted(SpecificRecord event) {
+        log.info("Received {}: {}", event.getSchema().getFullName(), event);
+        handler.handle(upcaster.deleted(event));
     }
 }
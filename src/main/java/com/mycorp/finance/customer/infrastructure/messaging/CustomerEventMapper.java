@@ -2,6 +2,7 @@ package com.mycorp.finance.customer.infrastructure.messaging;
 
 import com.mycorp.finance.customer.domain.model.Customer;
 import com.mycorp.finance.customer.infrastructure.messaging.schema.*;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
@@ -10,6 +11,10 @@ import java.time.format.DateTimeFormatter;
 /**
  * Maps Customer domain model to various Avro-based event schemas.
  * This unified mapper handles creation, update, and deletion mappings.
+ * Version 2 events carry ids as 16 byte fixed and timestamps as timestamp-millis;
+ * they are referenced by their qualified names next to the version 1 classes.
+ * Every event carries the aggregate version after the change; a deletion is published as one past
+ * the stored version, being the last change of the customer.
  */
 @Component
 public final class CustomerEventMapper {
@@ -35,6 +40,7 @@ public final class CustomerEventMapper {
                 .setAddress(toAddress(customer))
                 .setStatus(customer.getStatus().name())
                 .setCreatedAt(currentTimestamp())
+                .setVersion(customer.getVersion())
                 .build();
     }
 
@@ -49,6 +55,7 @@ public final class CustomerEventMapper {
                 .setAddress(toAddress(customer))
                 .setStatus(customer.getStatus().name())
                 .setUpdatedAt(currentTimestamp())
+                .setVersion(customer.getVersion())
                 .build();
     }
 
@@ -59,6 +66,50 @@ public final class CustomerEventMapper {
         return CustomerDeletedEvent.newBuilder()
                 .setCustomerId(customer.getId().toString())
                 .setDeletedAt(currentTimestamp())
+                .setVersion(customer.getVersion() + 1)
+                .build();
+    }
+
+    /**
+     * Maps Customer domain model to the version 2 CustomerCreatedEvent.
+     */
+    public com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent toCustomerCreatedEventV2(Customer customer) {
+        return com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(customer.getId()))
+                .setEmail(customer.getEmail().toString())
+                .setName(toNameV2(customer))
+                .setBirthDate(customer.getBirthDate().toString())
+                .setPhoneNumber(customer.getPhoneNumber().getValue())
+                .setAddress(toAddressV2(customer))
+                .setStatus(customer.getStatus().name())
+                .setCreatedAt(clock.instant())
+                .setVersion(customer.getVersion())
+                .build();
+    }
+
+    /**
+     * Maps Customer domain model to the version 2 CustomerUpdatedEvent.
+     */
+    public com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent toCustomerUpdatedEventV2(Customer customer) {
+        return com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(customer.getId()))
+                .setName(toNameV2(customer))
+                .setPhoneNumber(customer.getPhoneNumber().getValue())
+                .setAddress(toAddressV2(customer))
+                .setStatus(customer.getStatus().name())
+                .setUpdatedAt(clock.instant())
+                .setVersion(customer.getVersion())
+                .build();
+    }
+
+    /**
+     * Maps Customer domain model to the version 2 CustomerDeletedEvent.
+     */
+    public com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerDeletedEvent toCustomerDeletedEventV2(Customer customer) {
+        return com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerDeletedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(customer.getId()))
+                .setDeletedAt(clock.instant())
+                .setVersion(customer.getVersion() + 1)
                 .build();
     }
 
@@ -80,6 +131,24 @@ public final class CustomerEventMapper {
         return address;
     }
 
+    private com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Name toNameV2(Customer customer) {
+        com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Name name = new com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Name();
+        name.setFirstName(customer.getName().getFirstName());
+        name.setMiddleName(customer.getName().getMiddleName());
+        name.setLastName(customer.getName().getLastName());
+        return name;
+    }
+
+    private com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Address toAddressV2(Customer customer) {
+        com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Address address = new com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Address();
+        address.setStreet(customer.getAddress().getStreet());
+        address.setCity(customer.getAddress().getCity());
+        address.setState(customer.getAddress().getState());
+        address.setPostalCode(customer.getAddress().getPostalCode());
+        address.setCountry(customer.getAddress().getCountry());
+        return address;
+    }
+
     private String currentTimestamp() {
         return FORMATTER.format(clock.instant().atZone(clock.getZone()).toLocalDateTime());
     }
@@ -4,56 +4,66 @@ package com.mycorp.finance.customer.infrastructure.messaging;
 import com.mycorp.finance.customer.domain.event.CustomerEventPublisher;
 import com.mycorp.finance.customer.domain.model.Customer;
 import com.mycorp.finance.customer.infrastructure.messaging.CustomerEventMapper;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.messaging.outbox.OutboxEventWriter;
 import org.apache.avro.specific.SpecificRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Infrastructure implementation of CustomerEventPublisher.
- * Responsible for mapping domain objects to Avro events and sending them to Kafka.
+ * Responsible for mapping domain objects to Avro events and recording them in the transactional outbox,
+ * from where the outbox relay sends them to Kafka after commit.
+ * messaging.event-schema-version selects the schema version written; switch it to 2 only once
+ * every consumer accepts version 2.
+ * Topics follow messaging.topology; events are keyed by customer id either way.
  */
 @Component
 public class CustomerEventPublisherImpl implements CustomerEventPublisher {
 
-    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
     private final CustomerEventMapper eventMapper;
 
-    @Value("${spring.kafka.topics.customer-created}")
-    private String customerCreatedTopic;
+    private final String customerCreatedTopic;
+    private final String customerUpdatedTopic;
+    private final String customerDeletedTopic;
 
-    @Value("${spring.kafka.topics.customer-updated}")
-    private String customerUpdatedTopic;
-
-    @Value("${spring.kafka.topics.customer-deleted}")
-    private String customerDeletedTopic;
+    @Value("${messaging.event-schema-version:1}")
+    private int schemaVersion;
 
     public CustomerEventPublisherImpl(
-            KafkaTemplate<String, SpecificRecord> kafkaTemplate,
-            CustomerEventMapper eventMapper
+            OutboxEventWriter outboxEventWriter,
+            CustomerEventMapper eventMapper,
+            EventTopics eventTopics
     ) {
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxEventWriter = outboxEventWriter;
         this.eventMapper = eventMapper;
+        this.customerCreatedTopic = eventTopics.topicFor("customer", "created");
+        this.customerUpdatedTopic = eventTopics.topicFor("customer", "updated");
+        this.customerDeletedTopic = eventTopics.topicFor("customer", "deleted");
     }
 
     @Override
     public void publishCustomerCreated(Customer customer) {
-        CustomerCreatedEvent event = eventMapper.toCustomerCreatedEvent(customer);
-        kafkaTemplate.send(customerCreatedTopic, event.getCustomerId(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? eventMapper.toCustomerCreatedEventV2(customer)
+                : eventMapper.toCustomerCreatedEvent(customer);
+        outboxEventWriter.append(customerCreatedTopic, customer.getId().toString(), event);
     }
 
     @Override
     public void publishCustomerUpdated(Customer customer) {
-        CustomerUpdatedEvent event = eventMapper.toCustomerUpdatedEvent(customer);
-        kafkaTemplate.send(customerUpdatedTopic, event.getCustomerId(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? eventMapper.toCustomerUpdatedEventV2(customer)
+                : eventMapper.toCustomerUpdatedEvent(customer);
+        outboxEventWriter.append(customerUpdatedTopic, customer.getId().toString(), event);
     }
 
     @Override
     public void publishCustomerDeleted(Customer customer) {
-        CustomerDeletedEvent event = eventMapper.toCustomerDeletedEvent(customer);
-        kafkaTemplate.send(customerDeletedTopic, event.getCustomerId(), event);
+        SpecificRecord event = schemaVersion >= 2
+                ? eventMapper.toCustomerDeletedEventV2(customer)
+                : eventMapper.toCustomerDeletedEvent(customer);
+        outboxEventWriter.append(customerDeletedTopic, customer.getId().toString(), event);
     }
 }
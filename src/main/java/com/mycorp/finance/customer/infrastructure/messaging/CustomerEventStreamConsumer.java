@@ -0,0 +1,34 @@
+package com.mycorp.finance.customer.infrastructure.messaging;
+
+import com.mycorp.finance.customer.application.handler.CustomerEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer for the single customer event topic of messaging.topology=per-aggregate, one record per invocation.
+ * Events are keyed by customer id, so all events of a customer are applied in publish order.
+ * Used instead of CustomerEventConsumer when projection.customer.listener-mode=record.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${projection.customer.listener-mode:record}' == 'record' and '${messaging.topology:per-event-type}' == 'per-aggregate'")
+public class CustomerEventStreamConsumer {
+
+    private final CustomerEventHandler handler;
+    private final CustomerEventUpcaster upcaster;
+
+    @KafkaListener(
+            topics = "${spring.kafka.topics.customer-events}",
+            groupId = "${spring.kafka.consumer-groups.customer}",
+            concurrency = "${projection.customer.concurrency:1}"
+    )
+    public void onCustomerEvent(SpecificRecord event) {
+        log.info("Received {}: {}", event.getSchema().getFullName(), event);
+        handler.handle(upcaster.upcast(event));
+    }
+}
@@ -0,0 +1,126 @@
+package com.mycorp.finance.customer.infrastructure.messaging;
+
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Address;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerDeletedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Name;
+import com.mycorp.finance.global.messaging.AvroUuids;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Converts version 1 customer events to version 2 at the consumer boundary, so the projection
+ * only handles version 2. Version 2 events pass through unchanged.
+ * Version 1 timestamps are local date-times in the zone of the injected Clock, which is the zone they were written in.
+ * Version 1 classes are referenced by their qualified names to keep them apart from version 2.
+ */
+@Component
+public class CustomerEventUpcaster {
+
+    private final Clock clock;
+
+    public CustomerEventUpcaster(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param event version 1 or version 2 customer event
+     * @return the same event as version 2
+     */
+    public SpecificRecord upcast(SpecificRecord event) {
+        if (event instanceof com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent v1) {
+            return created(v1);
+        }
+        if (event instanceof com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent v1) {
+            return updated(v1);
+        }
+        if (event instanceof com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent v1) {
+            return deleted(v1);
+        }
+        if (event instanceof CustomerCreatedEvent || event instanceof CustomerUpdatedEvent || event instanceof CustomerDeletedEvent) {
+            return event;
+        }
+        throw new IllegalArgumentException("Unsupported customer event: " + event.getClass().getName());
+    }
+
+    public CustomerCreatedEvent created(SpecificRecord event) {
+        return (CustomerCreatedEvent) upcast(event);
+    }
+
+    public CustomerUpdatedEvent updated(SpecificRecord event) {
+        return (CustomerUpdatedEvent) upcast(event);
+    }
+
+    public CustomerDeletedEvent deleted(SpecificRecord event) {
+        return (CustomerDeletedEvent) upcast(event);
+    }
+
+    private CustomerCreatedEvent created(com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent v1) {
+        return CustomerCreatedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setEmail(v1.getEmail())
+                .setName(name(v1.getName()))
+                .setBirthDate(v1.getBirthDate())
+                .setPhoneNumber(v1.getPhoneNumber())
+                .setAddress(address(v1.getAddress()))
+                .setStatus(v1.getStatus())
+                .setCreatedAt(instant(v1.getCreatedAt()))
+                .setVersion(version(v1.getVersion()))
+                .build();
+    }
+
+    private CustomerUpdatedEvent updated(com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent v1) {
+        return CustomerUpdatedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setName(v1.getName() != null ? name(v1.getName()) : null)
+                .setAddress(v1.getAddress() != null ? address(v1.getAddress()) : null)
+                .setPhoneNumber(v1.getPhoneNumber())
+                .setStatus(v1.getStatus())
+                .setUpdatedAt(instant(v1.getUpdatedAt()))
+                .setVersion(version(v1.getVersion()))
+                .build();
+    }
+
+    private CustomerDeletedEvent deleted(com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent v1) {
+        return CustomerDeletedEvent.newBuilder()
+                .setCustomerId(AvroUuids.toAvro(UUID.fromString(v1.getCustomerId())))
+                .setDeletedAt(instant(v1.getDeletedAt()))
+                .setVersion(version(v1.getVersion()))
+                .build();
+    }
+
+    private Name name(com.mycorp.finance.customer.infrastructure.messaging.schema.Name v1) {
+        Name name = new Name();
+        name.setFirstName(v1.getFirstName());
+        name.setMiddleName(v1.getMiddleName());
+        name.setLastName(v1.getLastName());
+        return name;
+    }
+
+    private Address address(com.mycorp.finance.customer.infrastructure.messaging.schema.Address v1) {
+        Address address = new Address();
+        address.setStreet(v1.getStreet());
+        address.setCity(v1.getCity());
+        address.setState(v1.getState());
+        address.setPostalCode(v1.getPostalCode());
+        address.setCountry(v1.getCountry());
+        return address;
+    }
+
+    private Instant instant(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(clock.getZone()).toInstant();
+    }
+
+    /**
+     * Events published before versioning carry no version; 0 lets projections apply them unconditionally.
+     */
+    private static long version(Long version) {
+        return version != null ? version : 0L;
+    }
+}
@@ -7,9 +7,11 @@ import com.mycorp.finance.customer.infrastructure.persistence.entity.command.Cus
 import com.mycorp.finance.customer.infrastructure.persistence.mapper.CustomerMapper;
 import com.mycorp.finance.customer.infrastructure.persistence.repository.command.CustomerCommandJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -57,6 +59,18 @@ public class CustomerCommandRepositoryImpl implements CustomerCommandRepository
                 .map(CustomerMapper::toDomain);
     }
 
+    /**
+     * Finds a customer by UUID and locks its row (SELECT ... FOR UPDATE).
+     *
+     * @param id the UUID of the customer
+     * @return optional customer domain object
+     */
+    @Override
+    public Optional<Customer> findByIdForUpdate(UUID id) {
+        return customerCommandJpaRepository.findByIdForUpdate(id)
+                .map(CustomerMapper::toDomain);
+    }
+
     /**
      * Finds a customer by email.
      *
@@ -68,4 +82,29 @@ public class CustomerCommandRepositoryImpl implements CustomerCommandRepository
         return customerCommandJpaRepository.findByEmail(email.value())
                 .map(CustomerMapper::toDomain);
     }
+
+    /**
+     * Loads a keyset page of customers.
+     *
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   page size
+     * @return customer domain objects ordered by id
+     */
+    @Override
+    public List<Customer> findAllAfter(UUID afterId, int limit) {
+        List<CustomerEntity> page = afterId == null
+                ? customerCommandJpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : customerCommandJpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+        return page.stream().map(CustomerMapper::toDomain).toList();
+    }
+
+    /**
+     * Counts all customers.
+     *
+     * @return number of customers
+     */
+    @Override
+    public long count() {
+        return customerCommandJpaRepository.count();
+    }
 }
@@ -16,7 +16,7 @@ import java.util.UUID;
  * Delegates query responsibilities to the CustomerQueryJpaRepository interface.
  */
 @Repository
-@Transactional("queryTransactionManager")
+@Transactional(value = "queryTransactionManager", readOnly = true)
 @RequiredArgsConstructor
 public class CustomerQueryRepositoryImpl implements CustomerQueryRepository {
 
@@ -0,0 +1,43 @@
+package com.mycorp.finance.customer.infrastructure.persistence.adapter;
+
+import com.mycorp.finance.customer.application.dto.CustomerReadDto;
+import com.mycorp.finance.customer.domain.model.vo.Email;
+import com.mycorp.finance.customer.domain.repository.CustomerQueryRepository;
+import com.mycorp.finance.customer.infrastructure.persistence.cache.CustomerEmailFilter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Answers email lookups of never-seen emails from CustomerEmailFilter in front of CustomerQueryRepositoryImpl.
+ * Not transactional itself, so definite misses never open a query DB transaction.
+ */
+@Primary
+@Repository
+public class FilteringCustomerQueryRepository implements CustomerQueryRepository {
+
+    private final CustomerQueryRepositoryImpl delegate;
+    private final CustomerEmailFilter emailFilter;
+
+    public FilteringCustomerQueryRepository(CustomerQueryRepositoryImpl delegate, CustomerEmailFilter emailFilter) {
+        this.delegate = delegate;
+        this.emailFilter = emailFilter;
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return emailFilter.mightContain(email.value()) && delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Optional<CustomerReadDto> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<CustomerReadDto> findByEmail(Email email) {
+        return emailFilter.mightContain(email.value()) ? delegate.findByEmail(email) : Optional.empty();
+    }
+}
@@ -0,0 +1,35 @@
+package com.mycorp.finance.customer.infrastructure.persistence.cache;
+
+import com.mycorp.finance.customer.infrastructure.persistence.repository.query.CustomerReadBulkRepository;
+import com.mycorp.finance.global.bloom.NegativeLookupFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over customer_read.email. Registration checks of fresh emails, and the
+ * projection's own conflict checks, skip the query DB when the email was never seen. Fed by CustomerEventHandler
+ * and CustomerEmailFilterFeed.
+ */
+@Component
+public class CustomerEmailFilter extends NegativeLookupFilter {
+
+    private static final int WARM_PAGE_SIZE = 10_000;
+
+    private final CustomerReadBulkRepository customerReadBulkRepository;
+
+    public CustomerEmailFilter(
+            CustomerReadBulkRepository customerReadBulkRepository,
+            MeterRegistry meterRegistry,
+            @Value("${customer.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${customer.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        super("customer.email", expectedInsertions, falsePositiveRate, meterRegistry);
+        this.customerReadBulkRepository = customerReadBulkRepository;
+    }
+
+    @Override
+    public void warm() {
+        warm(customerReadBulkRepository::findEmailsAfter, WARM_PAGE_SIZE);
+    }
+}
@@ -4,6 +4,7 @@ import com.mycorp.finance.customer.domain.model.enums.CustomerStatus;
 import com.mycorp.finance.customer.domain.model.vo.*;
 import com.mycorp.finance.global.base.BaseEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -42,6 +43,10 @@ public class CustomerEntity extends BaseEntity {
     @Column(nullable = false)
     private CustomerStatus status;
 
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Protected no-args constructor for JPA proxy instantiation only.
      */
@@ -60,6 +65,7 @@ public class CustomerEntity extends BaseEntity {
      * @param password Customer's Password VO
      * @param birthDate Customer's birth date
      * @param status CustomerStatus enum
+     * @param version Aggregate version
      */
     public CustomerEntity(
             UUID id,
@@ -69,7 +75,8 @@ public class CustomerEntity extends BaseEntity {
             PhoneNumber phoneNumber,
             Password password,
             LocalDate birthDate,
-            CustomerStatus status) {
+            CustomerStatus status,
+            Long version) {
         super(id);
         this.name = name;
         this.email = email;
@@ -78,6 +85,7 @@ public class CustomerEntity extends BaseEntity {
         this.password = password;
         this.birthDate = birthDate;
         this.status = status != null ? status : CustomerStatus.ACTIVE;
+        this.version = version;
     }
 
     /**
@@ -119,4 +127,8 @@ public class CustomerEntity extends BaseEntity {
     public CustomerStatus getStatus() {
         return status;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -1,13 +1,15 @@
 package com.mycorp.finance.customer.infrastructure.persistence.entity.query;
 
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.Name;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.Address;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Name;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.Address;
+import com.mycorp.finance.global.messaging.AvroUuids;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -18,6 +20,7 @@ import java.util.UUID;
  * <p>
  * - Built from Kafka events (CQRS read model)
  * - No setter used; update via domain methods for immutability
+ * - Carries the aggregate version of the last applied event; writes only go through when the event is newer
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,13 +45,18 @@ public class CustomerReadEntity {
     @Column(name = "birth_date")
     private LocalDate birthDate;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     private CustomerReadEntity(
             UUID id,
             String name,
             String email,
             String address,
             String phoneNumber,
-            LocalDate birthDate
+            LocalDate birthDate,
+            Long version
     ) {
         this.id = id;
         this.name = name;
@@ -56,6 +64,7 @@ public class CustomerReadEntity {
         this.address = address;
         this.phoneNumber = phoneNumber;
         this.birthDate = birthDate;
+        this.version = version;
     }
 
     /**
@@ -63,12 +72,13 @@ public class CustomerReadEntity {
      */
     public static CustomerReadEntity from(CustomerCreatedEvent event) {
         return new CustomerReadEntity(
-                UUID.fromString(event.getCustomerId()),
+                AvroUuids.fromAvro(event.getCustomerId()),
                 formatName(event.getName()),
                 event.getEmail(),
                 formatAddress(event.getAddress()),
                 event.getPhoneNumber(),
-                LocalDate.parse(event.getBirthDate(), DateTimeFormatter.ISO_DATE)
+                LocalDate.parse(event.getBirthDate(), DateTimeFormatter.ISO_DATE),
+                event.getVersion()
         );
     }
 
@@ -82,7 +92,25 @@ public class CustomerReadEntity {
                 this.email, // email is immutable
                 formatAddress(event.getAddress()),
                 event.getPhoneNumber(),
-                this.birthDate // birthDate is immutable
+                this.birthDate, // birthDate is immutable
+                event.getVersion()
+        );
+    }
+
+    /**
+     * Creates a detached instance carrying only the mutable profile fields of an update event
+     * (name, address, phone number) and the version. Email and birthDate are left null; used for bulk updates
+     * that do not load the current row.
+     */
+    public static CustomerReadEntity profileOf(CustomerUpdatedEvent event) {
+        return new CustomerReadEntity(
+                AvroUuids.fromAvro(event.getCustomerId()),
+                formatName(event.getName()),
+                null,
+                formatAddress(event.getAddress()),
+                event.getPhoneNumber(),
+                null,
+                event.getVersion()
         );
     }
 
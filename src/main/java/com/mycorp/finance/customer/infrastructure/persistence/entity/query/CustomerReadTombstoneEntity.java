@@ -0,0 +1,27 @@
+package com.mycorp.finance.customer.infrastructure.persistence.entity.query;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Read-side record of a deleted customer: its id and the version of the delete event.
+ * The customer_read row itself is removed, which also frees its email; upserts compare against this row,
+ * so a create or update redelivered or reordered after the delete cannot bring the customer back.
+ * Written only by CustomerReadBulkRepository.
+ */
+@Entity
+@Table(name = "customer_read_tombstones")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerReadTombstoneEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -24,7 +24,8 @@ public class CustomerMapper {
                 customer.getPhoneNumber(),
                 customer.getPassword(),
                 customer.getBirthDate(),
-                customer.getStatus()
+                customer.getStatus(),
+                customer.getVersion()
         );
     }
 
@@ -43,7 +44,8 @@ public class CustomerMapper {
                 entity.getPhoneNumber(),
                 entity.getPassword(),
                 entity.getBirthDate(),
-                entity.getStatus()
+                entity.getStatus(),
+                entity.getVersion()
         );
     }
 }
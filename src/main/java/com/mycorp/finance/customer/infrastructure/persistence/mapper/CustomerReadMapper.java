@@ -1,7 +1,7 @@
 package com.mycorp.finance.customer.infrastructure.persistence.mapper;
 
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerCreatedEvent;
-import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerUpdatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerCreatedEvent;
+import com.mycorp.finance.customer.infrastructure.messaging.schema.v2.CustomerUpdatedEvent;
 import com.mycorp.finance.customer.infrastructure.persistence.entity.query.CustomerReadEntity;
 import org.springframework.stereotype.Component;
 
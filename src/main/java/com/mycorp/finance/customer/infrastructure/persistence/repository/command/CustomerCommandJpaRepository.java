@@ -1,9 +1,18 @@
 package com.mycorp.finance.customer.infrastructure.persistence.repository.command;
 
 import com.mycorp.finance.customer.infrastructure.persistence.entity.command.CustomerEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,5 +34,35 @@ public interface CustomerCommandJpaRepository extends JpaRepository<CustomerEnti
      */
     Optional<CustomerEntity> findByEmail(String email);
 
+    /**
+     * Finds a customer entity by id and acquires a row-level write lock (SELECT ... FOR UPDATE).
+     * Must be called inside a transaction; the lock is held until commit or rollback.
+     *
+     * @param id the customer id
+     * @return Optional of the locked CustomerEntity if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CustomerEntity c where c.id = :id")
+    Optional<CustomerEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * First keyset page of all customers in id order, streamed with a server-side cursor.
+     *
+     * @param limit page size
+     * @return customers ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<CustomerEntity> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Next keyset page of customers after the given id, streamed with a server-side cursor.
+     *
+     * @param id    last id of the previous page
+     * @param limit page size
+     * @return customers ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    List<CustomerEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
     // Other custom command-side queries (e.g. for status-based deletion) can be defined here if needed
 }
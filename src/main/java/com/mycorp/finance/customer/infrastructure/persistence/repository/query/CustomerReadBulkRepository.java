@@ -0,0 +1,199 @@
+package com.mycorp.finance.customer.infrastructure.persistence.repository.query;
+
+import com.mycorp.finance.customer.infrastructure.persistence.entity.query.CustomerReadEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC repository for bulk writes to the customer_read projection.
+ * Each method is a single statement or a single JDBC batch; must run inside a queryTransactionManager transaction.
+ * Writes are conditional on the event version inside the statement, so redelivered or reordered events
+ * never replace newer state. Version 0 marks events published before versioning, which are applied as before.
+ * Deletes leave a tombstone in customer_read_tombstones; upserts are skipped unless they are newer than it,
+ * and a tombstone without a version, or an event without one, always wins.
+ */
+@Repository
+public class CustomerReadBulkRepository {
+
+    private static final String FIND_IDS_BY_EMAIL_SQL = "SELECT id, email FROM customer_read WHERE email IN (:emails)";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO customer_read (id, name, email, address, phone_number, birth_date, version)
+            SELECT :id, :name, :email, :address, :phoneNumber, :birthDate, :version
+             WHERE NOT EXISTS (
+                   SELECT 1 FROM customer_read_tombstones t
+                    WHERE t.id = :id
+                      AND (t.version >= :version OR t.version = 0 OR :version = 0))
+            ON CONFLICT (id) DO UPDATE
+               SET name = EXCLUDED.name,
+                   address = EXCLUDED.address,
+                   phone_number = EXCLUDED.phone_number,
+                   version = EXCLUDED.version
+             WHERE customer_read.version < EXCLUDED.version
+                OR EXCLUDED.version = 0
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO %s (id, name, email, address, phone_number, birth_date, version)
+            VALUES (:id, :name, :email, :address, :phoneNumber, :birthDate, :version)
+            """;
+
+    private static final String UPDATE_PROFILE_SQL = """
+            UPDATE customer_read
+               SET name = :name,
+                   address = :address,
+                   phone_number = :phoneNumber,
+                   version = :version
+             WHERE id = :id
+               AND (version < :version OR :version = 0)
+            """;
+
+    private static final String DELETE_SQL = """
+            WITH tombstone AS (
+                INSERT INTO customer_read_tombstones (id, version)
+                VALUES (:id, :version)
+                ON CONFLICT (id) DO UPDATE
+                   SET version = GREATEST(customer_read_tombstones.version, EXCLUDED.version)
+            )
+            DELETE FROM customer_read
+             WHERE id = :id
+               AND (version < :version OR :version = 0)
+            """;
+
+    private static final String TOMBSTONE_EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM customer_read_tombstones WHERE id = :id)";
+
+    private static final String FIND_EMAILS_AFTER_SQL = """
+            SELECT email FROM customer_read
+             WHERE email > :after
+             ORDER BY email
+             LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CustomerReadBulkRepository(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Resolves which of the given emails are already taken, in one query.
+     *
+     * @param emails emails to look up
+     * @return owning customer id per taken email
+     */
+    public Map<String, UUID> findIdsByEmail(Collection<String> emails) {
+        Map<String, UUID> owners = new HashMap<>();
+        if (emails.isEmpty()) {
+            return owners;
+        }
+        jdbcTemplate.query(FIND_IDS_BY_EMAIL_SQL, new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    owners.put(rs.getString("email"), rs.getObject("id", UUID.class));
+                });
+        return owners;
+    }
+
+    /**
+     * Inserts new customers in a single JDBC batch; a create for an existing row only refreshes the profile fields,
+     * and only if the row holds an older version.
+     *
+     * @param customers complete projection rows
+     */
+    public void upsertAll(List<CustomerReadEntity> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, toParameters(customers));
+    }
+
+    /**
+     * Plain batched insert into a table shaped like customer_read, used to load a rebuild shadow table.
+     *
+     * @param table     target table name; never user input
+     * @param customers complete projection rows
+     */
+    public void insertAll(String table, List<CustomerReadEntity> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL.formatted(table), toParameters(customers));
+    }
+
+    /**
+     * Updates name, address and phone number of existing customers holding an older version, in a single JDBC batch.
+     *
+     * @param profiles rows built with {@link CustomerReadEntity#profileOf}
+     * @return number of rows actually updated; missing customers and stale updates are not counted
+     */
+    public int updateProfiles(List<CustomerReadEntity> profiles) {
+        if (profiles.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_PROFILE_SQL, profiles.stream()
+                .map(CustomerReadBulkRepository::profileParameters)
+                .toArray(SqlParameterSource[]::new));
+        // pgjdbc may report SUCCESS_NO_INFO (-2) for batched statements; count those as updated
+        return (int) Arrays.stream(counts).filter(count -> count != 0).count();
+    }
+
+    /**
+     * Deletes all given customers older than the deletion and records their tombstones, in a single JDBC batch.
+     *
+     * @param versionsById version of the delete event per customer id
+     */
+    public void deleteAll(Map<UUID, Long> versionsById) {
+        if (versionsById.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, versionsById.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource("id", entry.getKey()).addValue("version", entry.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * @param id customer id
+     * @return true if the customer was deleted from the read model
+     */
+    public boolean isDeleted(UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TOMBSTONE_EXISTS_SQL, new MapSqlParameterSource("id", id), Boolean.class));
+    }
+
+    private static SqlParameterSource[] toParameters(List<CustomerReadEntity> customers) {
+        return customers.stream()
+                .map(customer -> profileParameters(customer)
+                        .addValue("email", customer.getEmail())
+                        .addValue("birthDate", customer.getBirthDate()))
+                .toArray(SqlParameterSource[]::new);
+    }
+
+    private static MapSqlParameterSource profileParameters(CustomerReadEntity customer) {
+        return new MapSqlParameterSource()
+                .addValue("id", customer.getId())
+                .addValue("name", customer.getName())
+                .addValue("address", customer.getAddress())
+                .addValue("phoneNumber", customer.getPhoneNumber())
+                .addValue("version", customer.getVersion());
+    }
+
+    /**
+     * Keyset page over the unique email index, used to warm CustomerEmailFilter.
+     *
+     * @param after last email of the previous page, empty for the first page
+     * @param limit page size
+     * @return emails in ascending order
+     */
+    public List<String> findEmailsAfter(String after, int limit) {
+        return jdbcTemplate.queryForList(FIND_EMAILS_AFTER_SQL,
+                new MapSqlParameterSource("after", after).addValue("limit", limit), String.class);
+    }
+}
@@ -1,21 +1,71 @@
 package com.mycorp.finance.customer.infrastructure.security;
 
+import com.mycorp.finance.global.exception.PasswordHashingOverloadedException;
 import com.mycorp.finance.global.security.infrastructure.config.PasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Implementation of PasswordEncoder using BCrypt hashing algorithm.
  * <p>
  * BCrypt is widely used for password hashing due to its adaptive strength and resistance to brute-force attacks.
+ * The cost factor is configurable (security.password-hashing.bcrypt-strength, see BcryptCalibration for picking one);
+ * hashes of another cost still verify and are reported by {@link #needsRehash} for re-encoding on login.
+ * Hashing runs on a fixed pool of worker threads behind a bounded queue, so a burst of logins or
+ * registrations uses at most that many cores while the rest of the API keeps its threads. A call that finds
+ * the queue full, or is not picked up within the queue timeout, fails fast with
+ * {@link PasswordHashingOverloadedException} (HTTP 429). Calls are timed as password.hash
+ * (operation, outcome) and the pool is published as executor "password-hashing".
  */
 @Component
-public class BcryptPasswordEncoderImpl implements PasswordEncoder {
+public class BcryptPasswordEncoderImpl implements PasswordEncoder, AutoCloseable {
 
     private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
 
-    public BcryptPasswordEncoderImpl() {
-        this.delegate = new BCryptPasswordEncoder();
+    public BcryptPasswordEncoderImpl(
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.bcrypt-strength:10}") int strength,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.queue-timeout:PT2S}") Duration queueTimeout
+    ) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + threadNo.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.queueWait = Timer.builder("password.hash.queue").register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing", List.of());
     }
 
     /**
@@ -26,7 +76,7 @@ public class BcryptPasswordEncoderImpl implements PasswordEncoder {
      */
     @Override
     public String encode(String rawPassword) {
-        return delegate.encode(rawPassword);
+        return hash("encode", () -> delegate.encode(rawPassword));
     }
 
     /**
@@ -38,6 +88,91 @@ public class BcryptPasswordEncoderImpl implements PasswordEncoder {
      */
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return delegate.matches(rawPassword, encodedPassword);
+        return hash("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks the cost factor of the stored hash ($2a$NN$...) against the configured one, in both directions,
+     * so lowering the cost also converges. Runs on the calling thread; it only parses the hash.
+     *
+     * @param encodedPassword hashed password
+     * @return true if the hash was made with another cost factor
+     */
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != strength;
+    }
+
+    /**
+     * @param encodedPassword BCrypt hash
+     * @return its cost factor, or the configured one if the hash cannot be parsed
+     */
+    private int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return strength;
+        }
+        int end = encodedPassword.indexOf('$', 4);
+        try {
+            return end > 0 ? Integer.parseInt(encodedPassword.substring(4, end)) : strength;
+        } catch (NumberFormatException e) {
+            return strength;
+        }
+    }
+
+    /**
+     * Runs one hashing call on the pool and waits for it.
+     * A call still queued after the queue timeout is dropped; once started it runs to completion.
+     */
+    private <T> T hash(String operation, Callable<T> call) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return call.call();
+            });
+        } catch (RejectedExecutionException e) {
+            record(operation, "rejected", submittedAt);
+            throw new PasswordHashingOverloadedException("Too many concurrent authentication requests, retry later");
+        }
+
+        try {
+            T result;
+            try {
+                result = future.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    executor.remove((Runnable) future); // free its queue slot now
+                    record(operation, "timeout", submittedAt);
+                    throw new PasswordHashingOverloadedException("Authentication is overloaded, retry later");
+                }
+                result = future.get();
+            }
+            record(operation, "success", submittedAt);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            record(operation, "error", submittedAt);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void record(String operation, String outcome, long submittedAt) {
+        Timer.builder("password.hash")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
     }
 }
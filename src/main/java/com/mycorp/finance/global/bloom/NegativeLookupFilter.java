@@ -0,0 +1,82 @@
+package com.mycorp.finance.global.bloom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Bloom filter answering "definitely absent" for a unique key of a read model table, so that
+ * lookups dominated by misses do not touch the query DB.
+ *
+ * The filter is empty until {@link #warm()} has scanned the table; until then every key is reported
+ * as possibly present. Projection handlers {@link #add} keys before writing them, so a key is never
+ * reported absent once this instance has written its row. Rows written by other instances reach the
+ * filter through a {@link NegativeLookupFilterFeed}, which also decides when to warm. Removed rows stay
+ * in the filter and simply fall through to the DB.
+ *
+ * Metrics: bloom.lookups tagged with filter and result (absent / maybe).
+ */
+@Slf4j
+public abstract class NegativeLookupFilter {
+
+    private final String name;
+    private final BloomFilter filter;
+    private final Counter absent;
+    private final Counter maybe;
+    private volatile boolean ready;
+
+    protected NegativeLookupFilter(String name, long expectedInsertions, double falsePositiveRate, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.absent = Counter.builder("bloom.lookups").tag("filter", name).tag("result", "absent").register(meterRegistry);
+        this.maybe = Counter.builder("bloom.lookups").tag("filter", name).tag("result", "maybe").register(meterRegistry);
+    }
+
+    /**
+     * @param key lookup key
+     * @return false only if the key is definitely not in the table
+     */
+    public boolean mightContain(String key) {
+        if (!ready || filter.mightContain(key)) {
+            maybe.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    public void add(String key) {
+        filter.put(key);
+    }
+
+    /**
+     * Scans the read table into the filter, see {@link #warm(BiFunction, int)}.
+     */
+    public abstract void warm();
+
+    /**
+     * Loads all existing keys page by page and then starts answering negatives.
+     *
+     * @param pageLoader returns up to limit keys greater than the given key (empty string for the first page), in key order
+     * @param pageSize   keys per page
+     */
+    protected void warm(BiFunction<String, Integer, List<String>> pageLoader, int pageSize) {
+        long loaded = 0;
+        String after = "";
+        List<String> page;
+        do {
+            page = pageLoader.apply(after, pageSize);
+            page.forEach(filter::put);
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+
+        ready = true;
+        log.info("Warmed {} bloom filter with {} keys ({} bytes)", name, loaded, filter.sizeInBytes());
+    }
+}
@@ -0,0 +1,97 @@
+package com.mycorp.finance.global.bloom;
+
+import com.mycorp.finance.global.projection.ProjectionEventReplayer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps a {@link NegativeLookupFilter} complete on every instance. The projection consumer group spreads
+ * partitions over the instances, so projection handlers only add the keys of the partitions they own.
+ * Each instance therefore also runs a listener of its own, in a consumer group unique to the instance,
+ * that reads all partitions of the aggregate's topics and adds their keys.
+ *
+ * On ApplicationReadyEvent the committed offsets of the projection group are recorded first, the listener
+ * is started from them, and only then is the read table scanned. Every key is in a row the projection
+ * wrote before those offsets were committed, so the scan sees it, or in an event past them, which the
+ * listener reads. Absent answers can still trail rows another instance has just written by the lag of
+ * the listener, as the read model itself trails the events. If the offsets cannot be read the filter
+ * stays cold and every lookup goes to the DB.
+ *
+ * The listener never acknowledges, so its group commits no offsets and disappears with the instance.
+ * Subclasses declare it with {@code autoStartup = "false"} and the id passed in here.
+ */
+@Slf4j
+public abstract class NegativeLookupFilterFeed implements ConsumerSeekAware {
+
+    private final NegativeLookupFilter filter;
+    private final ProjectionEventReplayer replayer;
+    private final KafkaListenerEndpointRegistry registry;
+    private final String listenerId;
+    private final String projectionGroup;
+    private final List<String> topics;
+
+    private volatile Map<TopicPartition, Long> startOffsets = Map.of();
+
+    protected NegativeLookupFilterFeed(NegativeLookupFilter filter,
+                                       ProjectionEventReplayer replayer,
+                                       KafkaListenerEndpointRegistry registry,
+                                       String listenerId,
+                                       String projectionGroup,
+                                       List<String> topics) {
+        this.filter = filter;
+        this.replayer = replayer;
+        this.registry = registry;
+        this.listenerId = listenerId;
+        this.projectionGroup = projectionGroup;
+        this.topics = topics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            startOffsets = replayer.committedOffsets(projectionGroup, topics);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while reading the offsets of {}; {} stays cold", projectionGroup, listenerId);
+            return;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not read the offsets of {}; {} stays cold", projectionGroup, listenerId, e);
+            return;
+        }
+
+        registry.getListenerContainer(listenerId).start();
+        filter.warm();
+    }
+
+    /**
+     * Starts every partition at the offset the projection group had committed when the feed started.
+     * Partitions created since start from the beginning.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition -> {
+            Long offset = startOffsets.get(partition);
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            } else {
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        });
+    }
+
+    /**
+     * @param key key read from an event of any partition
+     */
+    protected void add(String key) {
+        filter.add(key);
+    }
+}
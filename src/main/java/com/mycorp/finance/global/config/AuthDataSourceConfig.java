@@ -1,5 +1,6 @@
 package com.mycorp.finance.global.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
@@ -47,11 +48,15 @@ public class AuthDataSourceConfig {
     /**
      * Builds the physical DataSource for the authentication database
      * using the configured DataSourceProperties.
+     * Pool size, timeouts and pgjdbc properties bind from spring.datasource.auth.hikari; metrics are
+     * published as hikaricp.* with pool=auth-pool.
      */
     @Bean
-    public DataSource authDataSource() {
+    @ConfigurationProperties("spring.datasource.auth.hikari")
+    public HikariDataSource authDataSource() {
         return authDataSourceProperties()
                 .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
                 .driverClassName("org.postgresql.Driver")
                 .build();
     }
@@ -81,7 +86,6 @@ public class AuthDataSourceConfig {
         Map<String, Object> props = new HashMap<>();
         props.put("hibernate.hbm2ddl.auto", "update");
         props.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        props.put("hibernate.format_sql", true);
         return props;
     }
 
@@ -1,11 +1,13 @@
 package com.mycorp.finance.global.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,6 +16,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -25,24 +28,34 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  *
  * This class manages the DataSource, EntityManagerFactory, and TransactionManager
  * for the write-side (command) PostgreSQL database. It handles domain entities like
- * customer and account for command operations, and allows separate persistence context.
+ * customer, account, transaction and the event outbox for command operations, and allows separate persistence context.
  */
 @Configuration
 @EnableTransactionManagement
 @EnableJpaRepositories(
         basePackages = {
                 "com.mycorp.finance.customer.infrastructure.persistence.repository.command",
-                "com.mycorp.finance.banking.account.infrastructure.persistence.repository.command"
+                "com.mycorp.finance.banking.account.infrastructure.persistence.repository.command",
+                "com.mycorp.finance.banking.transaction.infrastructure.persistence.repository.command",
+                "com.mycorp.finance.global.messaging.outbox"
         },
         entityManagerFactoryRef = "commandEntityManagerFactory",
         transactionManagerRef = "commandTransactionManager"
 )
 @EntityScan({
         "com.mycorp.finance.customer.infrastructure.persistence.entity.command",
-        "com.mycorp.finance.banking.account.infrastructure.persistence.entity.command"
+        "com.mycorp.finance.banking.account.infrastructure.persistence.entity.command",
+        "com.mycorp.finance.banking.transaction.infrastructure.persistence.entity.command",
+        "com.mycorp.finance.global.messaging.outbox"
 })
 public class CommandDataSourceConfig {
 
+    @Value("${persistence.command.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${persistence.command.jdbc-fetch-size:100}")
+    private int jdbcFetchSize;
+
     /**
      * Binds command DB properties from application.yml (prefix: spring.datasource.command).
      */
@@ -55,12 +68,16 @@ public class CommandDataSourceConfig {
 
     /**
      * Builds the command DB physical DataSource.
+     * Pool size, timeouts and pgjdbc properties (statement cache, batched insert rewriting)
+     * bind from spring.datasource.command.hikari; metrics are published as hikaricp.* with pool=command-pool.
      */
     @Bean
     @Primary
-    public DataSource commandDataSource() {
+    @ConfigurationProperties("spring.datasource.command.hikari")
+    public HikariDataSource commandDataSource() {
         return commandDataSourceProperties()
                 .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
                 .driverClassName("org.postgresql.Driver")
                 .build();
     }
@@ -79,7 +96,9 @@ public class CommandDataSourceConfig {
                 .dataSource(dataSource)
                 .packages(
                         "com.mycorp.finance.customer.infrastructure.persistence.entity.command",
-                        "com.mycorp.finance.banking.account.infrastructure.persistence.entity.command"
+                        "com.mycorp.finance.banking.account.infrastructure.persistence.entity.command",
+                        "com.mycorp.finance.banking.transaction.infrastructure.persistence.entity.command",
+                        "com.mycorp.finance.global.messaging.outbox"
                 )
                 .persistenceUnit("command")
                 .properties(commandJpaProperties())
@@ -93,7 +112,11 @@ public class CommandDataSourceConfig {
         Map<String, Object> props = new HashMap<>();
         props.put("hibernate.hbm2ddl.auto", "update"); // use `none` or `validate` in prod
         props.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        props.put("hibernate.format_sql", true);
+        props.put("hibernate.jdbc.batch_size", jdbcBatchSize); // flush inserts/updates in JDBC batches
+        props.put("hibernate.order_inserts", true); // group statements per table so batches are not broken up
+        props.put("hibernate.order_updates", true);
+        props.put("hibernate.jdbc.batch_versioned_data", true);
+        props.put("hibernate.jdbc.fetch_size", jdbcFetchSize); // rows per round trip for result sets
         return props;
     }
 
@@ -106,4 +129,12 @@ public class CommandDataSourceConfig {
             @Qualifier("commandEntityManagerFactory") EntityManagerFactory commandEntityManagerFactory) {
         return new JpaTransactionManager(commandEntityManagerFactory);
     }
+
+    /**
+     * JDBC access to the command DB for statements outside the JPA model, such as sequence reservations.
+     */
+    @Bean
+    public NamedParameterJdbcTemplate commandJdbcTemplate(@Qualifier("commandDataSource") DataSource dataSource) {
+        return new NamedParameterJdbcTemplate(dataSource);
+    }
 }
@@ -0,0 +1,81 @@
+package com.mycorp.finance.global.config;
+
+import com.mycorp.finance.global.messaging.KeyOrderedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Kafka listener container factories in addition to Spring Boot's default record listener factory,
+ * and the key-ordered worker lanes of the projections.
+ *
+ * Poll size, fetch sizes and ack mode come from spring.kafka.consumer/listener in application.yml and
+ * apply to both factories. Listener concurrency is set per projection on each @KafkaListener
+ * (projection.{name}.concurrency); threads beyond the partition count of a topic stay idle.
+ * With spring.threads.virtual.enabled (Java 21) Boot runs the listener containers on virtual threads
+ * through the configurer, and the worker lanes are created as virtual threads as well.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Batch listener factory: the listener receives the whole poll as a list,
+     * and offsets are committed once the listener returns.
+     * Inherits all spring.kafka.listener/consumer settings from application.yml.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    /**
+     * Batch listener factory of the per-instance feeds (Bloom filters, account read cache). Manual ack mode
+     * without ever acknowledging: the per-instance groups of the feeds commit no offsets and vanish with the instance.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> instanceFeedKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * Worker lanes of the account batch listener, keyed by account id.
+     */
+    @Bean
+    public KeyOrderedExecutor accountProjectionWorkers(@Value("${projection.account.workers:1}") int workers, Environment environment) {
+        return workers(environment, "account-projection", workers);
+    }
+
+    /**
+     * Worker lanes of the customer batch listener, keyed by customer id.
+     */
+    @Bean
+    public KeyOrderedExecutor customerProjectionWorkers(@Value("${projection.customer.workers:1}") int workers, Environment environment) {
+        return workers(environment, "customer-projection", workers);
+    }
+
+    private static KeyOrderedExecutor workers(Environment environment, String name, int lanes) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new KeyOrderedExecutor(lanes, new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory());
+        }
+        return new KeyOrderedExecutor(name, lanes);
+    }
+}
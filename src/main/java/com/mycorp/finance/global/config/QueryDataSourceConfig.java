@@ -1,11 +1,13 @@
 package com.mycorp.finance.global.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,6 +15,7 @@ import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -41,6 +44,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 })
 public class QueryDataSourceConfig {
 
+    @Value("${persistence.query.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${persistence.query.jdbc-fetch-size:500}")
+    private int jdbcFetchSize;
+
     /**
      * Binds query DB connection properties from application.yml.
      */
@@ -52,11 +61,16 @@ public class QueryDataSourceConfig {
 
     /**
      * Builds the query DB DataSource.
+     * Pool size, timeouts and pgjdbc properties bind from spring.datasource.query.hikari; metrics are
+     * published as hikaricp.* with pool=query-pool. Read-only transactions reach PostgreSQL as
+     * BEGIN READ ONLY through pgjdbc's readOnlyMode.
      */
     @Bean
-    public DataSource queryDataSource() {
+    @ConfigurationProperties("spring.datasource.query.hikari")
+    public HikariDataSource queryDataSource() {
         return queryDataSourceProperties()
                 .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
                 .driverClassName("org.postgresql.Driver")
                 .build();
     }
@@ -88,7 +102,11 @@ public class QueryDataSourceConfig {
         Map<String, Object> props = new HashMap<>();
         props.put("hibernate.hbm2ddl.auto", "update"); // no ddl for read model
         props.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        props.put("hibernate.format_sql", true);
+        props.put("hibernate.jdbc.batch_size", jdbcBatchSize); // flush inserts/updates in JDBC batches
+        props.put("hibernate.order_inserts", true); // group statements per table so batches are not broken up
+        props.put("hibernate.order_updates", true);
+        props.put("hibernate.jdbc.batch_versioned_data", true);
+        props.put("hibernate.jdbc.fetch_size", jdbcFetchSize); // rows per round trip for result sets
         return props;
     }
 
@@ -100,4 +118,13 @@ public class QueryDataSourceConfig {
             @Qualifier("queryEntityManagerFactory") EntityManagerFactory emf) {
         return new JpaTransactionManager(emf);
     }
+
+    /**
+     * JDBC access to the query DB for bulk projection writes.
+     * Joins transactions of queryTransactionManager, which exposes its connection to JDBC code.
+     */
+    @Bean
+    public NamedParameterJdbcTemplate queryJdbcTemplate(@Qualifier("queryDataSource") DataSource dataSource) {
+        return new NamedParameterJdbcTemplate(dataSource);
+    }
 }
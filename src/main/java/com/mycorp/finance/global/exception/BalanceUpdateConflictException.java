@@ -0,0 +1,12 @@
+package com.mycorp.finance.global.exception;
+
+/**
+ * Thrown when an account is not in a state that allows the requested balance change,
+ * or changed concurrently so that the change could not be applied.
+ */
+public class BalanceUpdateConflictException extends RuntimeException {
+
+    public BalanceUpdateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mycorp.finance.global.exception;
+
+/**
+ * Thrown when a refresh token is unknown, expired, revoked or replayed.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
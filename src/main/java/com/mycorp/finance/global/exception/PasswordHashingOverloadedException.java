@@ -0,0 +1,11 @@
+package com.mycorp.finance.global.exception;
+
+/**
+ * Thrown when password hashing is saturated and the call was not admitted; the client should retry later.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
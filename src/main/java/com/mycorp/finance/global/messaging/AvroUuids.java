@@ -0,0 +1,27 @@
+package com.mycorp.finance.global.messaging;
+
+import com.mycorp.finance.global.messaging.schema.Uuid;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversions between java.util.UUID and the 16 byte Avro fixed type used by version 2 event schemas.
+ */
+public final class AvroUuids {
+
+    private AvroUuids() {
+    }
+
+    public static Uuid toAvro(UUID uuid) {
+        return new Uuid(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    public static UUID fromAvro(Uuid uuid) {
+        ByteBuffer bytes = ByteBuffer.wrap(uuid.bytes());
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+}
@@ -0,0 +1,60 @@
+package com.mycorp.finance.global.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the Kafka topics of an aggregate's events for the configured messaging.topology.
+ *
+ * - per-event-type: one topic per event type, spring.kafka.topics.{aggregate}-{created|updated|deleted}
+ * - per-aggregate: all events of an aggregate on spring.kafka.topics.{aggregate}-events, keyed by
+ *   aggregate id, so every event of one aggregate lands on one partition in publish order
+ *
+ * Exposed as "eventTopics" for SpEL in listener annotations.
+ */
+@Component("eventTopics")
+public class EventTopics {
+
+    public static final String PER_EVENT_TYPE = "per-event-type";
+    public static final String PER_AGGREGATE = "per-aggregate";
+
+    private final Environment environment;
+    private final boolean perAggregate;
+
+    public EventTopics(Environment environment, @Value("${messaging.topology:" + PER_EVENT_TYPE + "}") String topology) {
+        if (!PER_EVENT_TYPE.equals(topology) && !PER_AGGREGATE.equals(topology)) {
+            throw new IllegalArgumentException("Unknown messaging.topology: " + topology);
+        }
+        this.environment = environment;
+        this.perAggregate = PER_AGGREGATE.equals(topology);
+    }
+
+    /**
+     * @param aggregate aggregate name, e.g. "account"
+     * @param eventType "created", "updated" or "deleted"
+     * @return topic the event is published to
+     */
+    public String topicFor(String aggregate, String eventType) {
+        return perAggregate ? topic(aggregate + "-events") : topic(aggregate + "-" + eventType);
+    }
+
+    /**
+     * @param aggregate aggregate name, e.g. "account"
+     * @return all topics carrying events of the aggregate
+     */
+    public String[] topicsOf(String aggregate) {
+        if (perAggregate) {
+            return new String[]{topic(aggregate + "-events")};
+        }
+        return new String[]{
+                topic(aggregate + "-created"),
+                topic(aggregate + "-updated"),
+                topic(aggregate + "-deleted")
+        };
+    }
+
+    private String topic(String name) {
+        return environment.getRequiredProperty("spring.kafka.topics." + name);
+    }
+}
@@ -0,0 +1,116 @@
+package com.mycorp.finance.global.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Applies a batch of keyed items on a fixed number of worker lanes while keeping per-key order.
+ *
+ * Items are split into one sub-batch per lane by key hash, in their original order, so all items of a key
+ * land in the same sub-batch. Sub-batches run in parallel and {@link #process} returns only after all of
+ * them finished, so a batch listener commits its offsets after the whole poll has been applied and the
+ * next poll cannot overtake a key. Projection throughput then scales with lanes rather than partitions.
+ * A failing lane fails the whole batch after the other lanes completed; the batch is redelivered, which
+ * is safe because projection writes are version-conditional.
+ * With a single lane everything runs on the calling thread.
+ */
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private final int lanes;
+    private final ExecutorService executor;
+
+    /**
+     * @param name  thread name prefix
+     * @param lanes number of worker lanes, 1 to process on the calling thread
+     */
+    public KeyOrderedExecutor(String name, int lanes) {
+        this(lanes, daemonThreads(name));
+    }
+
+    /**
+     * @param lanes         number of worker lanes, 1 to process on the calling thread
+     * @param threadFactory creates the lane threads, e.g. virtual threads
+     */
+    public KeyOrderedExecutor(int lanes, ThreadFactory threadFactory) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lane count must be positive: " + lanes);
+        }
+        this.lanes = lanes;
+        if (lanes == 1) {
+            this.executor = null;
+        } else {
+            this.executor = Executors.newFixedThreadPool(lanes, threadFactory);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger threadNo = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + threadNo.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Splits the items by key and applies each lane's sub-batch, waiting for all lanes.
+     *
+     * @param items  items in consumption order
+     * @param keyOf  ordering key of an item, e.g. the aggregate id
+     * @param action applies one sub-batch and returns the number of rows written
+     * @return sum of the rows written by all lanes
+     */
+    public <T> int process(List<T> items, Function<? super T, ?> keyOf, ToIntFunction<List<T>> action) {
+        if (executor == null || items.size() < 2) {
+            return items.isEmpty() ? 0 : action.applyAsInt(items);
+        }
+
+        List<List<T>> batches = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            batches.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            batches.get(laneOf(keyOf.apply(item))).add(item);
+        }
+
+        List<CompletableFuture<Integer>> running = batches.stream()
+                .filter(batch -> !batch.isEmpty())
+                .map(batch -> CompletableFuture.supplyAsync(() -> action.applyAsInt(batch), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return running.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    /**
+     * @return number of worker lanes
+     */
+    public int lanes() {
+        return lanes;
+    }
+
+    private int laneOf(Object key) {
+        return key == null ? 0 : Math.floorMod(key.hashCode(), lanes);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mycorp.finance.global.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Throughput and lag metrics of the read model projections, tagged by projection name.
+ *
+ * - projection.events.received: events consumed
+ * - projection.rows.written: read model rows written after collapsing
+ * - projection.batch.duration: time to apply one batch
+ * - projection.event.lag: time from record append in Kafka to the end of its batch
+ */
+@Component
+public class ProjectionMetrics {
+
+    private final MeterRegistry registry;
+    private final Clock clock;
+
+    public ProjectionMetrics(MeterRegistry registry, Clock clock) {
+        this.registry = registry;
+        this.clock = clock;
+    }
+
+    /**
+     * Records one applied batch.
+     *
+     * @param projection  projection name, e.g. "customer"
+     * @param records     consumed records of the batch
+     * @param rowsWritten read model rows written
+     * @param startNanos  System.nanoTime() taken before applying the batch
+     */
+    public void recordBatch(String projection, List<? extends ConsumerRecord<?, ?>> records, int rowsWritten, long startNanos) {
+        Counter.builder("projection.events.received").tag("projection", projection).register(registry)
+                .increment(records.size());
+        Counter.builder("projection.rows.written").tag("projection", projection).register(registry)
+                .increment(rowsWritten);
+        Timer.builder("projection.batch.duration").tag("projection", projection).register(registry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+
+        Timer lag = Timer.builder("projection.event.lag").tag("projection", projection).register(registry);
+        long now = clock.millis();
+        for (ConsumerRecord<?, ?> record : records) {
+            lag.record(Duration.ofMillis(Math.max(0, now - record.timestamp())));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Short command DB transactions around an outbox relay run: claiming a batch, extending the claim,
+ * and removing acknowledged rows. No transaction or lock is held while the relay waits for the broker;
+ * the lease alone keeps other instances from relaying the same rows meanwhile.
+ */
+@Component
+public class OutboxBatchStore {
+
+    private static final String LEASE_NAME = "outbox-relay";
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxRelayLeaseJpaRepository leaseJpaRepository;
+
+    public OutboxBatchStore(
+            OutboxEventJpaRepository outboxEventJpaRepository,
+            OutboxRelayLeaseJpaRepository leaseJpaRepository
+    ) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.leaseJpaRepository = leaseJpaRepository;
+    }
+
+    /**
+     * Takes the relay lease and reads the oldest pending events.
+     *
+     * @param owner     relay instance id
+     * @param leaseMs   lease duration in milliseconds
+     * @param batchSize maximum number of events
+     * @return pending events ordered by id, empty if another instance holds the lease
+     */
+    @Transactional("commandTransactionManager")
+    public List<OutboxEventEntity> claim(String owner, long leaseMs, int batchSize) {
+        if (leaseJpaRepository.acquire(LEASE_NAME, owner, leaseMs) == 0) {
+            return List.of(); // another instance is draining
+        }
+        return outboxEventJpaRepository.findByOrderByIdAsc(Limit.of(batchSize));
+    }
+
+    /**
+     * Extends the relay lease of an owner.
+     *
+     * @param owner   relay instance id
+     * @param leaseMs lease duration in milliseconds from now
+     * @return false if the lease expired and another instance took it
+     */
+    @Transactional("commandTransactionManager")
+    public boolean renew(String owner, long leaseMs) {
+        return leaseJpaRepository.acquire(LEASE_NAME, owner, leaseMs) > 0;
+    }
+
+    /**
+     * Removes acknowledged events.
+     *
+     * @param ids ids of relayed events
+     */
+    @Transactional("commandTransactionManager")
+    public void delete(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEventJpaRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing an integration event waiting to be relayed to Kafka.
+ * Written in the same command DB transaction as the aggregate change it describes,
+ * and deleted by {@link OutboxRelay} once the broker has acknowledged it.
+ * The sequential id defines the relay order.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA requires a no-arg constructor, protected for encapsulation
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key", nullable = false, length = 64)
+    private String messageKey; // aggregate id, also the Kafka partitioning key
+
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType; // fully qualified Avro SpecificRecord class name
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload; // Avro binary encoding of the event
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected OutboxEventEntity(String topic, String messageKey, String payloadType, byte[] payload, LocalDateTime createdAt) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Static factory method to create a new OutboxEventEntity instance.
+     *
+     * @param topic       destination Kafka topic
+     * @param messageKey  Kafka message key (aggregate id)
+     * @param payloadType Avro record class name
+     * @param payload     Avro binary payload
+     * @param createdAt   time the event was recorded
+     * @return new OutboxEventEntity instance
+     */
+    public static OutboxEventEntity of(String topic, String messageKey, String payloadType, byte[] payload, LocalDateTime createdAt) {
+        return new OutboxEventEntity(topic, messageKey, payloadType, payload, createdAt);
+    }
+}
@@ -0,0 +1,22 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for pending outbox events in the command DB.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Fetches the oldest pending events in relay order.
+     *
+     * @param limit maximum number of events
+     * @return pending events ordered by id
+     */
+    List<OutboxEventEntity> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,45 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Records integration events in the outbox table instead of sending them to Kafka directly.
+ * Must join the caller's command DB transaction, so the event commits or rolls back with the aggregate change.
+ * Callers must hold the aggregate's row lock when appending, so events of one key get ids in commit order,
+ * which is the order {@link OutboxRelay} sends them in.
+ */
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final Clock clock;
+
+    public OutboxEventWriter(OutboxEventJpaRepository outboxEventJpaRepository, Clock clock) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Appends an event to the outbox.
+     *
+     * @param topic      destination Kafka topic
+     * @param messageKey Kafka message key, the aggregate id; events with the same key are relayed in order
+     * @param event      Avro event
+     */
+    @Transactional(value = "commandTransactionManager", propagation = Propagation.MANDATORY)
+    public void append(String topic, String messageKey, SpecificRecord event) {
+        outboxEventJpaRepository.save(OutboxEventEntity.of(
+                topic,
+                messageKey,
+                event.getClass().getName(),
+                OutboxPayloadCodec.encode(event),
+                LocalDateTime.now(clock)
+        ));
+    }
+}
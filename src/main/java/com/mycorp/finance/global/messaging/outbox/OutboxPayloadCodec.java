@@ -0,0 +1,57 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro binary codec for outbox payloads.
+ * Payloads are written and read with the schema of the generated class, so the outbox
+ * must be drained before deploying an incompatible change to an event schema.
+ */
+final class OutboxPayloadCodec {
+
+    private static final Map<String, SpecificDatumReader<SpecificRecord>> READERS = new ConcurrentHashMap<>();
+
+    private OutboxPayloadCodec() {
+    }
+
+    static byte[] encode(SpecificRecord event) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            new SpecificDatumWriter<SpecificRecord>(event.getSchema()).write(event, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode outbox payload " + event.getClass().getName(), e);
+        }
+    }
+
+    static SpecificRecord decode(String payloadType, byte[] payload) {
+        try {
+            return READERS.computeIfAbsent(payloadType, OutboxPayloadCodec::readerFor)
+                    .read(null, DecoderFactory.get().binaryDecoder(payload, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode outbox payload " + payloadType, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SpecificDatumReader<SpecificRecord> readerFor(String payloadType) {
+        try {
+            return new SpecificDatumReader<>((Class<SpecificRecord>) Class.forName(payloadType));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown outbox payload type: " + payloadType, e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox to Kafka in batches.
+ *
+ * A batch is claimed in a short transaction under a relay lease, sent without holding any transaction
+ * or lock, and the acknowledged rows are deleted in another short transaction. Within a batch the events
+ * of each key are sent in waves: every wave holds at most one event per key and is flushed and awaited
+ * before the next, so events of different aggregates still share producer batches, while an event is
+ * never in flight behind an unacknowledged one of the same key. Once a send for a key fails, that key
+ * is left out of the later waves and its remaining rows are retried in order on the next run.
+ *
+ * Rows are relayed in id order. For one key that is commit order, because every writer holds the
+ * aggregate's row lock when it appends to the outbox (see {@link OutboxEventWriter}).
+ * Delivery is at-least-once; a retried row, or a row relayed again after a lost lease, may be delivered twice.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxBatchStore outboxBatchStore;
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.lease-ms:30000}")
+    private long leaseMs;
+
+    public OutboxRelay(
+            OutboxBatchStore outboxBatchStore,
+            KafkaTemplate<String, SpecificRecord> kafkaTemplate
+    ) {
+        this.outboxBatchStore = outboxBatchStore;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Relays one batch of pending events.
+     *
+     * @return number of events acknowledged and removed from the outbox
+     */
+    public int relayBatch() {
+        List<OutboxEventEntity> batch = outboxBatchStore.claim(owner, leaseMs, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Queue<OutboxEventEntity>> byKey = new LinkedHashMap<>();
+        for (OutboxEventEntity event : batch) {
+            byKey.computeIfAbsent(event.getMessageKey(), key -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        try {
+            boolean firstWave = true;
+            while (!byKey.isEmpty()) {
+                if (!firstWave && !outboxBatchStore.renew(owner, leaseMs)) {
+                    log.warn("Outbox relay lease expired, stopping after {} of {} events", sentIds.size(), batch.size());
+                    break;
+                }
+                firstWave = false;
+                if (!sendWave(byKey, sentIds)) {
+                    break;
+                }
+            }
+        } finally {
+            outboxBatchStore.delete(sentIds);
+        }
+        return sentIds.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sends the next event of every key and waits for the acks.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean sendWave(Map<String, Queue<OutboxEventEntity>> byKey, List<Long> sentIds) {
+        List<OutboxEventEntity> wave = new ArrayList<>(byKey.size());
+        List<CompletableFuture<SendResult<String, SpecificRecord>>> sends = new ArrayList<>(byKey.size());
+        for (Queue<OutboxEventEntity> events : byKey.values()) {
+            OutboxEventEntity event = events.peek();
+            wave.add(event);
+            sends.add(send(event));
+        }
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < wave.size(); i++) {
+            OutboxEventEntity event = wave.get(i);
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(event.getId());
+                byKey.get(event.getMessageKey()).poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (Exception e) {
+                log.warn("Failed to relay outbox event {} to {}", event.getId(), event.getTopic(), e);
+                byKey.remove(event.getMessageKey()); // keep the rest of this key for the next run, in order
+            }
+        }
+        byKey.values().removeIf(Queue::isEmpty);
+        return true;
+    }
+
+    private CompletableFuture<SendResult<String, SpecificRecord>> send(OutboxEventEntity event) {
+        try {
+            SpecificRecord payload = OutboxPayloadCodec.decode(event.getPayloadType(), event.getPayload());
+            return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
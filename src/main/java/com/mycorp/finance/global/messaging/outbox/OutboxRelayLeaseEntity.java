@@ -0,0 +1,30 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity representing the time-limited right to relay the outbox.
+ * One row per lease name; only the owner, or anyone once it has expired, can take it.
+ * Written only through the native statements in {@link OutboxRelayLeaseJpaRepository}.
+ */
+@Entity
+@Table(name = "outbox_relay_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA requires a no-arg constructor, protected for encapsulation
+public class OutboxRelayLeaseEntity {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 64)
+    private String owner; // relay instance holding the lease
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
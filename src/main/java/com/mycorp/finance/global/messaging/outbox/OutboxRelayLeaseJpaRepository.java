@@ -0,0 +1,35 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the outbox relay lease in the command DB.
+ */
+@Repository
+public interface OutboxRelayLeaseJpaRepository extends JpaRepository<OutboxRelayLeaseEntity, String> {
+
+    /**
+     * Takes or extends a lease in one statement, measured on the database clock.
+     * Succeeds if the lease is new, already held by the owner, or expired.
+     *
+     * @param name    lease name
+     * @param owner   relay instance id
+     * @param leaseMs lease duration in milliseconds
+     * @return 1 if the owner now holds the lease, 0 if another instance does
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_relay_leases (name, owner, expires_at)
+            VALUES (:name, :owner, now() + :leaseMs * interval '1 millisecond')
+            ON CONFLICT (name) DO UPDATE
+               SET owner = EXCLUDED.owner,
+                   expires_at = EXCLUDED.expires_at
+             WHERE outbox_relay_leases.owner = EXCLUDED.owner
+                OR outbox_relay_leases.expires_at < now()
+            """, nativeQuery = true)
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseMs") long leaseMs);
+}
@@ -0,0 +1,32 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the outbox and keeps relaying full batches until it is drained.
+ * Each batch is claimed and removed in short transactions through {@link OutboxRelay}.
+ */
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayScheduler(OutboxRelay outboxRelay) {
+        this.outboxRelay = outboxRelay;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:100}")
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = outboxRelay.relayBatch();
+            } while (relayed == outboxRelay.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Outbox relay run failed", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.mycorp.finance.global.projection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Catches a rebuilt projection up with the events its consumer group applied to the old table meanwhile.
+ *
+ * Before a rebuild loads the shadow table, the committed offsets of the whole consumer group are recorded,
+ * whichever node consumes each partition. After the swap, a standalone consumer reads every partition from
+ * that offset up to the end offsets of that moment and applies the events to the new table. Listeners keep
+ * running throughout; projection writes are conditional on the aggregate version, so events applied twice,
+ * or older than the rebuilt rows, are dropped. The replay consumer never joins the group and never commits.
+ */
+@Slf4j
+@Component
+public class ProjectionEventReplayer {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final KafkaAdmin kafkaAdmin;
+    private final ConsumerFactory<Object, Object> consumerFactory;
+
+    @Value("${projection.rebuild.kafka-timeout-ms:30000}")
+    private long kafkaTimeoutMs;
+
+    public ProjectionEventReplayer(KafkaAdmin kafkaAdmin, ConsumerFactory<Object, Object> consumerFactory) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.consumerFactory = consumerFactory;
+    }
+
+    /**
+     * Reads the committed offsets of a consumer group for all partitions of the given topics.
+     * Partitions the group never committed on start at their earliest offset.
+     *
+     * @param consumerGroup consumer group writing the projection
+     * @param topics        topics the group consumes
+     * @return offset to replay from per partition
+     */
+    public Map<TopicPartition, Long> committedOffsets(String consumerGroup, List<String> topics)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try (AdminClient admin = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            Map<String, TopicDescription> descriptions = admin.describeTopics(topics).allTopicNames()
+                    .get(kafkaTimeoutMs, TimeUnit.MILLISECONDS);
+            List<TopicPartition> partitions = descriptions.values().stream()
+                    .flatMap(topic -> topic.partitions().stream()
+                            .map(partition -> new TopicPartition(topic.name(), partition.partition())))
+                    .toList();
+
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(consumerGroup)
+                    .partitionsToOffsetAndMetadata()
+                    .get(kafkaTimeoutMs, TimeUnit.MILLISECONDS);
+
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            Map<TopicPartition, OffsetSpec> uncommitted = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset != null) {
+                    offsets.put(partition, offset.offset());
+                } else {
+                    uncommitted.put(partition, OffsetSpec.earliest());
+                }
+            }
+            if (!uncommitted.isEmpty()) {
+                admin.listOffsets(uncommitted).all()
+                        .get(kafkaTimeoutMs, TimeUnit.MILLISECONDS)
+                        .forEach((partition, info) -> offsets.put(partition, info.offset()));
+            }
+            return offsets;
+        }
+    }
+
+    /**
+     * Applies all events from the given offsets up to the current end of each partition, one poll at a time.
+     *
+     * @param consumerGroup consumer group writing the projection, used to name the replay consumer
+     * @param from          offset to replay from per partition, as returned by {@link #committedOffsets}
+     * @param apply         applies one poll of events to the projection and returns the number of rows written
+     * @return number of events replayed
+     */
+    public long replay(String consumerGroup, Map<TopicPartition, Long> from, ToIntFunction<List<SpecificRecord>> apply) {
+        if (from.isEmpty()) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                consumerGroup + "-rebuild", null, "-rebuild", properties)) {
+            consumer.assign(from.keySet());
+            from.forEach(consumer::seek);
+            Map<TopicPartition, Long> end = consumer.endOffsets(from.keySet(), Duration.ofMillis(kafkaTimeoutMs));
+
+            long replayed = 0;
+            long written = 0;
+            while (!caughtUp(consumer, end)) {
+                List<SpecificRecord> events = new ArrayList<>();
+                for (ConsumerRecord<Object, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    // Records the deserializer could not read arrive with a null value; the live listeners report them
+                    if (record.value() instanceof SpecificRecord event) {
+                        events.add(event);
+                    }
+                }
+                if (!events.isEmpty()) {
+                    written += apply.applyAsInt(events);
+                    replayed += events.size();
+                }
+            }
+            log.info("Replayed {} events of consumer group {} over {} partitions into {} projection rows",
+                    replayed, consumerGroup, from.size(), written);
+            return replayed;
+        }
+    }
+
+    private static boolean caughtUp(Consumer<Object, Object> consumer, Map<TopicPartition, Long> end) {
+        return end.entrySet().stream().allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+}
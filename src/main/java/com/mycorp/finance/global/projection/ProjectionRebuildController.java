@@ -0,0 +1,45 @@
+package com.mycorp.finance.global.projection;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin endpoints to rebuild read model tables from the command DB and follow progress.
+ */
+@RestController
+@RequestMapping("/api/admin/projections")
+public class ProjectionRebuildController {
+
+    private final ProjectionRebuildService projectionRebuildService;
+
+    public ProjectionRebuildController(ProjectionRebuildService projectionRebuildService) {
+        this.projectionRebuildService = projectionRebuildService;
+    }
+
+    /**
+     * Starts rebuilding a projection, e.g. "account" or "customer".
+     *
+     * @param projection projection name
+     * @return HTTP 202 Accepted with the initial status, or 409 Conflict if a rebuild is already running
+     */
+    @PostMapping("/{projection}/rebuild")
+    public ResponseEntity<ProjectionRebuildStatus> rebuild(@PathVariable String projection) {
+        return projectionRebuildService.start(projection)
+                .map(status -> ResponseEntity.status(HttpStatus.ACCEPTED).body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    /**
+     * Returns the progress of the current or last rebuild of a projection.
+     *
+     * @param projection projection name
+     * @return HTTP 200 OK with the status, or 404 Not Found if it was never rebuilt
+     */
+    @GetMapping("/{projection}/rebuild")
+    public ResponseEntity<ProjectionRebuildStatus> status(@PathVariable String projection) {
+        return projectionRebuildService.status(projection)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
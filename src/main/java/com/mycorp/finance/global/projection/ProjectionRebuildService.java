@@ -0,0 +1,147 @@
+package com.mycorp.finance.global.projection;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds read model tables from the command DB without relying on Kafka retention.
+ *
+ * A rebuild records the committed offsets of the projection's consumer group, streams the source aggregates
+ * in keyset pages (one short read transaction per page, so memory stays bounded by the chunk size), bulk inserts
+ * the mapped rows into a shadow table and swaps it in atomically. Listeners on every node keep running, so
+ * whatever they wrote to the old table during the load is lost with it; ProjectionEventReplayer therefore
+ * re-applies all events from the recorded offsets to the new table. Projection writes are conditional on the
+ * aggregate version, so that converges with the listeners writing concurrently.
+ */
+@Slf4j
+@Service
+public class ProjectionRebuildService {
+
+    private final Map<String, ProjectionRebuilder<?>> rebuilders;
+    private final ProjectionTableSwapper tableSwapper;
+    private final ProjectionEventReplayer eventReplayer;
+    private final Clock clock;
+
+    private final Map<String, ProjectionRebuildStatus> statuses = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "projection-rebuild"));
+
+    @Value("${projection.rebuild.chunk-size:2000}")
+    private int chunkSize;
+
+    public ProjectionRebuildService(
+            List<ProjectionRebuilder<?>> rebuilders,
+            ProjectionTableSwapper tableSwapper,
+            ProjectionEventReplayer eventReplayer,
+            Clock clock
+    ) {
+        this.rebuilders = rebuilders.stream()
+                .collect(Collectors.toMap(ProjectionRebuilder::name, Function.identity()));
+        this.tableSwapper = tableSwapper;
+        this.eventReplayer = eventReplayer;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts a rebuild in the background.
+     *
+     * @param projection projection name
+     * @return initial status, or empty if a rebuild of this projection is already running
+     */
+    public Optional<ProjectionRebuildStatus> start(String projection) {
+        ProjectionRebuilder<?> rebuilder = rebuilders.get(projection);
+        if (rebuilder == null) {
+            throw new IllegalArgumentException("Unknown projection: " + projection);
+        }
+
+        ProjectionRebuildStatus started = new ProjectionRebuildStatus(
+                projection, ProjectionRebuildStatus.State.RUNNING, 0, 0, LocalDateTime.now(clock), null, null);
+        ProjectionRebuildStatus current = statuses.compute(projection, (name, previous) ->
+                previous != null && previous.state() == ProjectionRebuildStatus.State.RUNNING ? previous : started);
+        if (current != started) {
+            return Optional.empty();
+        }
+
+        executor.submit(() -> rebuild(rebuilder));
+        return Optional.of(started);
+    }
+
+    /**
+     * @param projection projection name
+     * @return status of the last rebuild of this projection, if any
+     */
+    public Optional<ProjectionRebuildStatus> status(String projection) {
+        return Optional.ofNullable(statuses.get(projection));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void rebuild(ProjectionRebuilder<T> rebuilder) {
+        String projection = rebuilder.name();
+        try {
+            // Recorded before the load, so every event not yet reflected in the source rows read below is replayed
+            Map<TopicPartition, Long> offsets = eventReplayer.committedOffsets(rebuilder.consumerGroup(), rebuilder.topics());
+
+            long total = rebuilder.countSourceRows();
+            update(projection, status -> withProgress(status, total, 0));
+            log.info("Rebuilding {} projection from {} source rows", projection, total);
+
+            String shadow = tableSwapper.createShadow(rebuilder.readTable());
+            long copied = 0;
+            UUID afterId = null;
+            List<T> chunk;
+            do {
+                chunk = rebuilder.loadChunk(afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                rebuilder.insertChunk(shadow, chunk);
+                afterId = rebuilder.idOf(chunk.get(chunk.size() - 1));
+                copied += chunk.size();
+                long progress = copied;
+                update(projection, status -> withProgress(status, total, progress));
+            } while (chunk.size() == chunkSize);
+
+            tableSwapper.swap(rebuilder.readTable(), shadow);
+            rebuilder.afterSwap();
+            log.info("Rebuilt {} projection with {} rows", projection, copied);
+
+            eventReplayer.replay(rebuilder.consumerGroup(), offsets, rebuilder::replay);
+            update(projection, status -> finished(status, ProjectionRebuildStatus.State.COMPLETED, null));
+        } catch (Exception e) {
+            log.error("Rebuild of {} projection failed", projection, e);
+            update(projection, status -> finished(status, ProjectionRebuildStatus.State.FAILED, e.getMessage()));
+        }
+    }
+
+    private void update(String projection, Function<ProjectionRebuildStatus, ProjectionRebuildStatus> change) {
+        statuses.computeIfPresent(projection, (name, status) -> change.apply(status));
+    }
+
+    private ProjectionRebuildStatus withProgress(ProjectionRebuildStatus status, long total, long copied) {
+        return new ProjectionRebuildStatus(status.projection(), status.state(), total, copied,
+                status.startedAt(), null, null);
+    }
+
+    private ProjectionRebuildStatus finished(ProjectionRebuildStatus status, ProjectionRebuildStatus.State state, String error) {
+        return new ProjectionRebuildStatus(status.projection(), state, status.totalRows(), status.copiedRows(),
+                status.startedAt(), LocalDateTime.now(clock), error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.mycorp.finance.global.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress snapshot of a projection rebuild.
+ *
+ * @param projection projection name
+ * @param state      RUNNING, COMPLETED or FAILED
+ * @param totalRows  source rows counted at start
+ * @param copiedRows rows loaded into the shadow table so far
+ * @param startedAt  start time
+ * @param finishedAt end time, null while running
+ * @param error      failure message, null unless FAILED
+ */
+public record ProjectionRebuildStatus(
+        String projection,
+        State state,
+        long totalRows,
+        long copiedRows,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+    public enum State { RUNNING, COMPLETED, FAILED }
+}
@@ -0,0 +1,78 @@
+package com.mycorp.finance.global.projection;
+
+import org.apache.avro.specific.SpecificRecord;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Regenerates one read model table from the command DB.
+ * Implementations read the source aggregates in keyset pages and map them with the same code the event handlers use.
+ *
+ * @param <T> read row type
+ */
+public interface ProjectionRebuilder<T> {
+
+    /**
+     * @return projection name used in the admin API, e.g. "account"
+     */
+    String name();
+
+    /**
+     * @return live read model table in the query DB
+     */
+    String readTable();
+
+    /**
+     * @return Kafka consumer group that writes the read model table; its offsets mark where the replay starts
+     */
+    String consumerGroup();
+
+    /**
+     * @return topics consumed by {@link #consumerGroup()}
+     */
+    List<String> topics();
+
+    /**
+     * @return number of source aggregates, used as progress total
+     */
+    long countSourceRows();
+
+    /**
+     * Loads and maps the next page of source aggregates.
+     *
+     * @param afterId id of the last row of the previous page, or null for the first page
+     * @param limit   page size
+     * @return read rows ordered by id, empty when done
+     */
+    List<T> loadChunk(UUID afterId, int limit);
+
+    /**
+     * @param row read row
+     * @return its id, also the id of the source aggregate
+     */
+    UUID idOf(T row);
+
+    /**
+     * Bulk inserts a page of read rows.
+     *
+     * @param table shadow table shaped like {@link #readTable()}
+     * @param rows  read rows
+     */
+    void insertChunk(String table, List<T> rows);
+
+    /**
+     * Called once the rebuilt table is live, before events are replayed into it.
+     * Drops in-process state derived from the old table.
+     */
+    default void afterSwap() {
+    }
+
+    /**
+     * Applies replayed events to the live table, exactly as the batch listener of {@link #consumerGroup()} would.
+     *
+     * @param events events as read from the topics, possibly of an older schema version
+     * @return number of projection rows written
+     */
+    int replay(List<SpecificRecord> events);
+}
@@ -0,0 +1,55 @@
+package com.mycorp.finance.global.projection;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DDL around a projection rebuild in the query DB: creates the shadow table and swaps it in.
+ * Table names come from ProjectionRebuilder implementations, never from request input.
+ */
+@Component
+public class ProjectionTableSwapper {
+
+    private static final String SHADOW_SUFFIX = "_rebuild";
+    private static final String RETIRED_SUFFIX = "_retired";
+
+    private final JdbcOperations jdbc;
+
+    public ProjectionTableSwapper(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbc = jdbcTemplate.getJdbcOperations();
+    }
+
+    /**
+     * Recreates an empty shadow table with the columns, defaults, constraints and indexes of the live table.
+     *
+     * @param table live read model table
+     * @return shadow table name
+     */
+    @Transactional("queryTransactionManager")
+    public String createShadow(String table) {
+        String shadow = table + SHADOW_SUFFIX;
+        jdbc.execute("DROP TABLE IF EXISTS " + shadow);
+        jdbc.execute("CREATE TABLE " + shadow + " (LIKE " + table + " INCLUDING ALL)");
+        return shadow;
+    }
+
+    /**
+     * Replaces the live table with the loaded shadow table in one transaction.
+     * Readers block on the rename locks only for the duration of this transaction and then see the new table.
+     *
+     * @param table  live read model table
+     * @param shadow loaded shadow table
+     */
+    @Transactional("queryTransactionManager")
+    public void swap(String table, String shadow) {
+        String retired = table + RETIRED_SUFFIX;
+        jdbc.execute("ANALYZE " + shadow);
+        jdbc.execute("DROP TABLE IF EXISTS " + retired);
+        jdbc.execute("ALTER TABLE " + table + " RENAME TO " + retired);
+        jdbc.execute("ALTER TABLE " + shadow + " RENAME TO " + table);
+        jdbc.execute("DROP TABLE " + retired);
+    }
+}
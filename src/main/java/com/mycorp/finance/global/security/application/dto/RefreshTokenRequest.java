@@ -0,0 +1,13 @@
+package com.mycorp.finance.global.security.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO representing a refresh or logout request payload.
+ */
+public record RefreshTokenRequest(
+
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken
+
+) {}
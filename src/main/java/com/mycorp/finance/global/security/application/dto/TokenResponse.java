@@ -1,9 +1,15 @@
 package com.mycorp.finance.global.security.application.dto;
 
 /**
- * DTO representing the response payload containing a JWT access token.
- * Typically returned after a successful login.
+ * DTO representing the response payload containing a JWT access token and its refresh token.
+ * Returned after a successful login or refresh.
+ *
+ * @param token        short-lived JWT access token
+ * @param refreshToken opaque single-use token for POST /api/auth/refresh
+ * @param expiresIn    lifetime of the access token in seconds
  */
 public record TokenResponse(
-        String token
-) {}
\ No newline at end of file
+        String token,
+        String refreshToken,
+        long expiresIn
+) {}
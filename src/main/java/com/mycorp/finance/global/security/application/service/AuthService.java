@@ -1,17 +1,43 @@
 package com.mycorp.finance.global.security.application.service;
 
 import com.mycorp.finance.customer.domain.model.vo.Email;
+import com.mycorp.finance.global.security.application.dto.TokenResponse;
+
+import java.util.Map;
 
 /**
  * Service interface for authentication operations.
  */
 public interface AuthService {
     /**
-     * Authenticates a user by email and raw password, returns a JWT token if successful.
+     * Authenticates a user by email and raw password, returns an access and a refresh token if successful.
      *
      * @param email user's email
      * @param rawPassword plaintext password input
-     * @return JWT token string
+     * @return JWT access token and refresh token
+     */
+    TokenResponse login(Email email, String rawPassword);
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token, without a password check.
+     * The presented refresh token is consumed; presenting it again revokes all tokens of that login.
+     *
+     * @param refreshToken opaque refresh token
+     * @return JWT access token and the next refresh token
+     */
+    TokenResponse refresh(String refreshToken);
+
+    /**
+     * Revokes the refresh tokens of the login the given token belongs to. Unknown tokens are ignored.
+     *
+     * @param refreshToken opaque refresh token
+     */
+    void logout(String refreshToken);
+
+    /**
+     * Returns the public keys verifying issued tokens as a JSON Web Key Set.
+     *
+     * @return JWKS document with a "keys" array; empty in HS256 mode
      */
-    String login(Email email, String rawPassword);
+    Map<String, Object> jwks();
 }
\ No newline at end of file
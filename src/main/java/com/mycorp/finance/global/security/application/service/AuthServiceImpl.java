@@ -1,46 +1,170 @@
 package com.mycorp.finance.global.security.application.service;
 
 import com.mycorp.finance.customer.domain.model.vo.Email;
+import com.mycorp.finance.global.exception.InvalidRefreshTokenException;
 import com.mycorp.finance.global.exception.domain.CustomerNotFoundException;
+import com.mycorp.finance.global.security.application.dto.TokenResponse;
+import com.mycorp.finance.global.security.domain.model.AuthRole;
 import com.mycorp.finance.global.security.domain.model.AuthUser;
+import com.mycorp.finance.global.security.domain.model.RefreshToken;
 import com.mycorp.finance.global.security.domain.repository.AuthRepository;
+import com.mycorp.finance.global.security.domain.repository.RefreshTokenRepository;
 import com.mycorp.finance.global.security.infrastructure.config.PasswordEncoder;
+import com.mycorp.finance.global.security.infrastructure.jwt.JwtKeyRing;
 import com.mycorp.finance.global.security.infrastructure.jwt.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues short-lived JWT access tokens together with opaque refresh tokens.
+ *
+ * Only login checks the password; clients renew access tokens with their refresh token, which costs
+ * one indexed lookup instead of a BCrypt comparison. A password hash made with an outdated cost is
+ * replaced on the next successful login. Refresh tokens are random 256 bit values; the auth DB
+ * keeps their SHA-256 only. Each refresh rotates the token, and a replayed token revokes its whole login.
+ */
+@Slf4j
 @Service
 @Transactional(readOnly = true, transactionManager = "authTransactionManager")
 public class AuthServiceImpl implements AuthService {
 
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
     private final AuthRepository authRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtKeyRing jwtKeyRing;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.expiration}")
+    private long accessTokenValidityMs;
+
+    @Value("${jwt.refresh-token.ttl:P30D}")
+    private Duration refreshTokenTtl;
 
     public AuthServiceImpl(
             AuthRepository authRepository,
+            RefreshTokenRepository refreshTokenRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider
+            JwtTokenProvider jwtTokenProvider,
+            JwtKeyRing jwtKeyRing,
+            Clock clock
     ) {
         this.authRepository = authRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtKeyRing = jwtKeyRing;
+        this.clock = clock;
     }
 
     /**
-     * Performs login by validating credentials and issuing a JWT token.
+     * Performs login by validating credentials and issuing an access token and a new refresh token family.
+     * Runs without a surrounding transaction, so no auth DB connection is held while the password is checked;
+     * the lookup and the token insert run in their own repository transactions.
      *
      * @param email user's email VO
      * @param rawPassword raw (unhashed) password input
-     * @return JWT token if authentication succeeds
+     * @return tokens if authentication succeeds
      */
     @Override
-    public String login(Email email, String rawPassword) {
+    @Transactional(transactionManager = "authTransactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(Email email, String rawPassword) {
         AuthUser authUser = authRepository.findByEmail(email.value())
                 .orElseThrow(() -> new CustomerNotFoundException("User not found: " + email.value()));
 
         authUser.validatePassword(rawPassword, passwordEncoder);
 
-        return jwtTokenProvider.createToken(authUser.getCustomerId());
+        AuthUser rehashed = authUser.withRehashedPassword(rawPassword, passwordEncoder);
+        if (rehashed != authUser) {
+            authRepository.save(rehashed);
+            log.info("Upgraded password hash of customer {}", authUser.getCustomerId());
+        }
+
+        String refreshToken = newRefreshTokenValue();
+        refreshTokenRepository.save(RefreshToken.issue(authUser.getCustomerId(), hash(refreshToken), clock.instant(), refreshTokenTtl));
+        return tokens(authUser.getCustomerId(), authUser.getRole(), refreshToken);
+    }
+
+    /**
+     * Rotates a refresh token. Rejections of replayed tokens still commit the revocation of their family.
+     * The role is read again from the auth DB, so role changes take effect with the next access token.
+     *
+     * @param refreshToken opaque refresh token
+     * @return new access token and the next refresh token
+     */
+    @Override
+    @Transactional(transactionManager = "authTransactionManager", noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String refreshToken) {
+        Instant now = clock.instant();
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        if (current.isConsumed()) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token replayed for customer {}; revoked {} tokens of its login", current.getCustomerId(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token was already used");
+        }
+        if (current.isExpired(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+
+        AuthRole role = authRepository.findById(current.getCustomerId())
+                .map(AuthUser::getRole)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        String next = newRefreshTokenValue();
+        refreshTokenRepository.markRotated(current.getId(), now);
+        refreshTokenRepository.save(current.rotate(hash(next), now, refreshTokenTtl));
+        return tokens(current.getCustomerId(), role, next);
+    }
+
+    @Override
+    @Transactional(transactionManager = "authTransactionManager")
+    public void logout(String refreshToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), clock.instant()));
+    }
+
+    @Override
+    public Map<String, Object> jwks() {
+        return jwtKeyRing.jwks();
+    }
+
+    private TokenResponse tokens(UUID customerId, AuthRole role, String refreshToken) {
+        return new TokenResponse(jwtTokenProvider.createToken(customerId, role), refreshToken, accessTokenValidityMs / 1000);
+    }
+
+    private String newRefreshTokenValue() {
+        byte[] value = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(value);
+        return BASE64URL.encodeToString(value);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
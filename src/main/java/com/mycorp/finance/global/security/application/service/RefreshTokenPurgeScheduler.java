@@ -0,0 +1,33 @@
+package com.mycorp.finance.global.security.application.service;
+
+import com.mycorp.finance.global.security.domain.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Periodically deletes expired refresh tokens, so the token table only holds renewable logins
+ * and their rotated predecessors needed for replay detection.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+
+    public RefreshTokenPurgeScheduler(RefreshTokenRepository refreshTokenRepository, Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(clock.instant());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.mycorp.finance.global.security.domain.model;
+
+/**
+ * Role of an authenticated user, carried in the access token and granted as ROLE_&lt;name&gt;.
+ * Every registered customer is a CUSTOMER; ADMIN is only ever assigned directly in the auth DB.
+ */
+public enum AuthRole {
+    CUSTOMER,
+    ADMIN
+}
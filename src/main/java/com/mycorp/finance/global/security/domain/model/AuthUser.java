@@ -18,12 +18,14 @@ public class AuthUser {
     private final UUID customerId;
     private final Email email;
     private final Password password;
+    private final AuthRole role;
 
     // Private constructor to enforce use of factory method
-    private AuthUser(UUID customerId, Email email, Password password) {
+    private AuthUser(UUID customerId, Email email, Password password, AuthRole role) {
         this.customerId = customerId;
         this.email = email;
         this.password = password;
+        this.role = role;
     }
 
     /**
@@ -33,11 +35,11 @@ public class AuthUser {
      * @param customerId ID of the customer
      * @param email      validated email
      * @param password   encoded password
-     * @return new AuthUser instance
+     * @return new AuthUser instance with the CUSTOMER role
      */
     public static AuthUser register(UUID customerId, Email email, Password password) {
 
-        return new AuthUser(customerId, email, password);
+        return new AuthUser(customerId, email, password, AuthRole.CUSTOMER);
     }
 
     /**
@@ -50,10 +52,11 @@ public class AuthUser {
      * @param customerId Unique identifier of the customer
      * @param email Customer's email address
      * @param hashedPassword Previously hashed password
+     * @param role Role granted to the user
      * @return AuthUser domain object representing an existing user
      */
-    public static AuthUser fromExisting(UUID customerId, Email email, Password hashedPassword) {
-        return new AuthUser(customerId, email, hashedPassword);
+    public static AuthUser fromExisting(UUID customerId, Email email, Password hashedPassword, AuthRole role) {
+        return new AuthUser(customerId, email, hashedPassword, role);
     }
 
     /**
@@ -68,4 +71,17 @@ public class AuthUser {
             throw new InvalidPasswordException("Invalid password");
         }
     }
+
+    /**
+     * Returns this user with the password re-encoded under the current encoder settings, if its hash is outdated.
+     * Call only after {@link #validatePassword} succeeded for the same raw password.
+     *
+     * @param rawPassword     verified raw password
+     * @param passwordEncoder encoder with the current settings
+     * @return this user if the hash is current, otherwise a copy carrying the new hash
+     */
+    public AuthUser withRehashedPassword(String rawPassword, PasswordEncoder passwordEncoder) {
+        Password rehashed = password.rehashIfNeeded(rawPassword, passwordEncoder);
+        return rehashed == password ? this : new AuthUser(customerId, email, rehashed, role);
+    }
 }
@@ -0,0 +1,85 @@
+package com.mycorp.finance.global.security.domain.model;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain model of an issued refresh token. Only the hash of the opaque token value is known.
+ *
+ * Tokens of one login form a family: each refresh rotates the presented token into a new one of the
+ * same family. A token is usable once; presenting a rotated or revoked token again means it leaked,
+ * and the whole family gets revoked.
+ */
+@Getter
+public class RefreshToken {
+
+    private final UUID id;
+    private final UUID customerId;
+    private final UUID familyId;
+    private final String tokenHash;
+    private final Instant expiresAt;
+    private final Instant rotatedAt;
+    private final Instant revokedAt;
+
+    private RefreshToken(UUID id, UUID customerId, UUID familyId, String tokenHash,
+                         Instant expiresAt, Instant rotatedAt, Instant revokedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.rotatedAt = rotatedAt;
+        this.revokedAt = revokedAt;
+    }
+
+    /**
+     * Issues the first token of a new login.
+     *
+     * @param customerId owner of the token
+     * @param tokenHash  hash of the opaque token value handed to the client
+     * @param now        issue time
+     * @param ttl        lifetime of the token
+     * @return new refresh token starting a family
+     */
+    public static RefreshToken issue(UUID customerId, String tokenHash, Instant now, Duration ttl) {
+        return new RefreshToken(UUID.randomUUID(), customerId, UUID.randomUUID(), tokenHash, now.plus(ttl), null, null);
+    }
+
+    /**
+     * Issues the successor of this token in the same family.
+     *
+     * @param tokenHash hash of the new opaque token value
+     * @param now       rotation time
+     * @param ttl       lifetime of the new token
+     * @return new refresh token of this family
+     */
+    public RefreshToken rotate(String tokenHash, Instant now, Duration ttl) {
+        return new RefreshToken(UUID.randomUUID(), customerId, familyId, tokenHash, now.plus(ttl), null, null);
+    }
+
+    /**
+     * Reconstructs a token from persistence.
+     */
+    public static RefreshToken reconstruct(UUID id, UUID customerId, UUID familyId, String tokenHash,
+                                           Instant expiresAt, Instant rotatedAt, Instant revokedAt) {
+        return new RefreshToken(id, customerId, familyId, tokenHash, expiresAt, rotatedAt, revokedAt);
+    }
+
+    /**
+     * @return true if the token was already rotated or revoked, i.e. presenting it again is a replay
+     */
+    public boolean isConsumed() {
+        return rotatedAt != null || revokedAt != null;
+    }
+
+    /**
+     * @param now current time
+     * @return true if the token has expired
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -19,6 +19,14 @@ public interface AuthRepository {
      */
     Optional<AuthUser> findByEmail(String email);
 
+    /**
+     * Finds an AuthUser by customer id.
+     *
+     * @param customerId the customer id
+     * @return an Optional containing the AuthUser if found, or empty otherwise
+     */
+    Optional<AuthUser> findById(UUID customerId);
+
     /**
      * Saves a new or existing AuthUser.
      *
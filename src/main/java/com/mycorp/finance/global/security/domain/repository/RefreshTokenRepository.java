@@ -0,0 +1,61 @@
+package com.mycorp.finance.global.security.domain.repository;
+
+import com.mycorp.finance.global.security.domain.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for issued refresh tokens.
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * Finds a token by the hash of its value and locks it until the transaction ends,
+     * so a token is rotated at most once.
+     *
+     * @param tokenHash hash of the opaque token value
+     * @return the token, or empty if it was never issued or already purged
+     */
+    Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash);
+
+    /**
+     * Saves a newly issued token.
+     *
+     * @param refreshToken token to persist
+     */
+    void save(RefreshToken refreshToken);
+
+    /**
+     * Marks a token as used by a refresh.
+     *
+     * @param id        token id
+     * @param rotatedAt rotation time
+     */
+    void markRotated(UUID id, Instant rotatedAt);
+
+    /**
+     * Revokes every token of a family that is not revoked yet.
+     *
+     * @param familyId  family of the tokens
+     * @param revokedAt revocation time
+     * @return number of tokens revoked
+     */
+    int revokeFamily(UUID familyId, Instant revokedAt);
+
+    /**
+     * Deletes all tokens of a customer.
+     *
+     * @param customerId owner of the tokens
+     */
+    void deleteByCustomerId(UUID customerId);
+
+    /**
+     * Deletes tokens expired before the given time; they can no longer be refreshed or replayed.
+     *
+     * @param before expiry bound
+     * @return number of tokens deleted
+     */
+    int deleteExpired(Instant before);
+}
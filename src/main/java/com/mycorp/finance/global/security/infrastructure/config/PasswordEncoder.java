@@ -24,4 +24,15 @@ public interface PasswordEncoder {
      * @return true if matches; false otherwise
      */
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Tells whether a stored hash was made with other parameters than the ones currently configured,
+     * so it should be re-encoded the next time the raw password is known.
+     *
+     * @param encodedPassword the previously hashed password
+     * @return true if the hash should be replaced
+     */
+    default boolean needsRehash(String encodedPassword) {
+        return false;
+    }
 }
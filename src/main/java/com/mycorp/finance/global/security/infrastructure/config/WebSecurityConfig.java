@@ -1,5 +1,6 @@
 package com.mycorp.finance.global.security.infrastructure.config;
 
+import com.mycorp.finance.global.security.domain.model.AuthRole;
 import com.mycorp.finance.global.security.infrastructure.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -35,7 +36,9 @@ public class WebSecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/customers/register").permitAll()
-                        .requestMatchers("/api/auth/login").permitAll()
+                        .requestMatchers("/api/auth/login", "/api/auth/refresh", "/api/auth/logout").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/auth/jwks").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole(AuthRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,128 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conversions between Java keys, PEM text and JSON Web Keys (RFC 7517/7518) for RS256 and ES256.
+ */
+final class Jwks {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private Jwks() {
+    }
+
+    static PrivateKey parsePrivateKey(String pem, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decodePem(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " private key", e);
+        }
+    }
+
+    static PublicKey parsePublicKey(String pem, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decodePem(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " public key", e);
+        }
+    }
+
+    /**
+     * @return the public key as a JWK with kid, alg and use=sig
+     */
+    static Map<String, Object> toJwk(String keyId, SignatureAlgorithm algorithm, PublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", BASE64URL.encodeToString(unsigned(rsa.getModulus())));
+            jwk.put("e", BASE64URL.encodeToString(unsigned(rsa.getPublicExponent())));
+        } else if (key instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", BASE64URL.encodeToString(coordinate(ec.getW().getAffineX())));
+            jwk.put("y", BASE64URL.encodeToString(coordinate(ec.getW().getAffineY())));
+        } else {
+            throw new IllegalArgumentException("Unsupported public key: " + key.getAlgorithm());
+        }
+        jwk.put("kid", keyId);
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("use", "sig");
+        return jwk;
+    }
+
+    /**
+     * @return the public key of an RSA or P-256 JWK
+     */
+    static PublicKey fromJwk(Map<?, ?> jwk) {
+        try {
+            String kty = String.valueOf(jwk.get("kty"));
+            if ("RSA".equals(kty)) {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                        new BigInteger(1, BASE64URL_DECODER.decode((String) jwk.get("n"))),
+                        new BigInteger(1, BASE64URL_DECODER.decode((String) jwk.get("e")))));
+            }
+            if ("EC".equals(kty) && "P-256".equals(jwk.get("crv"))) {
+                ECPoint point = new ECPoint(
+                        new BigInteger(1, BASE64URL_DECODER.decode((String) jwk.get("x"))),
+                        new BigInteger(1, BASE64URL_DECODER.decode((String) jwk.get("y"))));
+                return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, p256()));
+            }
+            throw new IllegalArgumentException("Unsupported JWK: kty=" + kty + ", crv=" + jwk.get("crv"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid JWK " + jwk.get("kid"), e);
+        }
+    }
+
+    private static KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm.isEllipticCurve() ? "EC" : "RSA");
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static ECParameterSpec p256() throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        return parameters.getParameterSpec(ECParameterSpec.class);
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 && bytes.length > 1 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = unsigned(value);
+        if (bytes.length == P256_COORDINATE_BYTES) {
+            return bytes;
+        }
+        byte[] padded = new byte[P256_COORDINATE_BYTES];
+        System.arraycopy(bytes, 0, padded, P256_COORDINATE_BYTES - bytes.length, bytes.length);
+        return padded;
+    }
+}
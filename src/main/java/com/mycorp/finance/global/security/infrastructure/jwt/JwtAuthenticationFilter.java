@@ -9,19 +9,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.List;
 
 /**
  * JwtAuthenticationFilter validates incoming JWT tokens from Authorization headers,
  * and sets the SecurityContext's authentication with the extracted customerId.
+ * Each token is verified and parsed at most once per request, and not at all while it is cached.
  *
- * This implementation supports stateless authentication with no roles/authorities.
+ * The principal is the customerId; the role claim of the token is granted as the single authority ROLE_&lt;role&gt;.
  */
 @Slf4j
 @Component
@@ -38,21 +40,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            UUID customerId = jwtTokenProvider.getCustomerId(token);
+        if (token != null) {
+            jwtTokenProvider.authenticate(token).ifPresent(verified -> {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                verified.customerId(),
+                                null,
+                                List.of(new SimpleGrantedAuthority("ROLE_" + verified.role().name()))
+                        );
 
-            // Create authenticated token (no authorities in this setup)
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            customerId,
-                            null,
-                            null // No roles or authorities
-                    );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            log.debug("Authenticated customerId {} from JWT", customerId);
+                log.debug("Authenticated customerId {} with role {} from JWT", verified.customerId(), verified.role());
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,240 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Signing and verification keys of the JWTs, selected by the kid header.
+ *
+ * In HS256 mode tokens are signed with jwt.secret-key and carry no kid. In RS256/ES256 mode new tokens
+ * are signed with the active key of jwt.key-ring and carry its id; every listed key keeps verifying, so
+ * keys rotate by adding a new active key and dropping the old one once its tokens expired. A configured
+ * jwt.secret-key still verifies tokens without kid, which keeps sessions alive while switching modes.
+ * Verify-only nodes take public keys from jwt.key-ring.jwks-uri; an unknown kid triggers a refresh,
+ * rate limited by jwks-min-refresh-interval. When a refresh drops a key, the verification cache is cleared.
+ * The signing key must match the algorithm of the token header, so a public key never verifies an HMAC token.
+ * Without any configured key an asymmetric mode generates a throwaway key pair, fit for a single local node only.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final SignatureAlgorithm algorithm;
+    private final Key legacySecret;
+    private final Map<String, VerificationKey> localKeys = new LinkedHashMap<>();
+    private final Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+    private final String signingKeyId;
+    private final Key signingKey;
+
+    private final String jwksUri;
+    private final long jwksMinRefreshMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, VerificationKey> remoteKeys = Map.of();
+    private volatile long lastRefreshMillis;
+    private RestClient restClient;
+    private final JwtVerificationCache verificationCache;
+
+    public JwtKeyRing(
+            @Value("${jwt.algorithm:HS256}") String algorithm,
+            @Value("${jwt.secret-key:}") String rawSecretKey,
+            JwtKeyRingProperties properties,
+            JwtVerificationCache verificationCache
+    ) {
+        this.verificationCache = verificationCache;
+        this.algorithm = SignatureAlgorithm.forName(algorithm);
+        if (this.algorithm != SignatureAlgorithm.HS256 && this.algorithm != SignatureAlgorithm.RS256
+                && this.algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Unsupported jwt.algorithm: " + algorithm);
+        }
+        this.legacySecret = rawSecretKey == null || rawSecretKey.isBlank()
+                ? null
+                : Keys.hmacShaKeyFor(rawSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwksUri = properties.getJwksUri();
+        this.jwksMinRefreshMillis = properties.getJwksMinRefreshInterval().toMillis();
+
+        if (this.algorithm == SignatureAlgorithm.HS256) {
+            if (legacySecret == null) {
+                throw new IllegalStateException("jwt.secret-key is required with jwt.algorithm HS256");
+            }
+            this.signingKeyId = null;
+            this.signingKey = legacySecret;
+            return;
+        }
+
+        Key activeKey = null;
+        for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+            PublicKey publicKey = Jwks.parsePublicKey(key.getPublicKey(), this.algorithm);
+            localKeys.put(key.getId(), new VerificationKey(this.algorithm, publicKey));
+            publicKeys.put(key.getId(), publicKey);
+            if (key.getId().equals(properties.getActiveKeyId())) {
+                if (key.getPrivateKey() == null || key.getPrivateKey().isBlank()) {
+                    throw new IllegalStateException("Active JWT key " + key.getId() + " has no private key");
+                }
+                activeKey = Jwks.parsePrivateKey(key.getPrivateKey(), this.algorithm);
+            }
+        }
+        if (localKeys.isEmpty() && isBlank(jwksUri)) {
+            KeyPair pair = Keys.keyPairFor(this.algorithm);
+            String keyId = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+            localKeys.put(keyId, new VerificationKey(this.algorithm, pair.getPublic()));
+            publicKeys.put(keyId, pair.getPublic());
+            this.signingKeyId = keyId;
+            this.signingKey = pair.getPrivate();
+            log.warn("No JWT keys configured; generated throwaway {} key {}. Tokens die with this node.", algorithm, keyId);
+            return;
+        }
+        if (!isBlank(properties.getActiveKeyId()) && activeKey == null) {
+            throw new IllegalStateException("Active JWT key " + properties.getActiveKeyId() + " is not in jwt.key-ring.keys");
+        }
+        this.signingKeyId = activeKey != null ? properties.getActiveKeyId() : null;
+        this.signingKey = activeKey;
+        if (!isBlank(jwksUri)) {
+            refreshRemoteKeys();
+        }
+    }
+
+    /**
+     * Signs the token with the active key, adding its kid header.
+     *
+     * @param builder token without signature
+     * @return the builder, ready to compact
+     * @throws IllegalStateException on verify-only nodes
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw new IllegalStateException("This node has no active JWT signing key");
+        }
+        if (signingKeyId != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKeyId);
+        }
+        return builder.signWith(signingKey, algorithm);
+    }
+
+    /**
+     * Resolves the verification key of a token header.
+     *
+     * @param header header of the token being parsed
+     * @return key of the header's kid, or the shared secret for tokens without kid
+     * @throws JwtException if the key is unknown or does not match the header algorithm
+     */
+    public Key verificationKey(JwsHeader<?> header) {
+        SignatureAlgorithm headerAlgorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            if (headerAlgorithm != SignatureAlgorithm.HS256 || legacySecret == null) {
+                throw new JwtException("JWT without key id");
+            }
+            return legacySecret;
+        }
+
+        VerificationKey key = find(keyId);
+        if (key == null) {
+            refreshRemoteKeysIfStale();
+            key = find(keyId);
+        }
+        if (key == null) {
+            throw new JwtException("Unknown JWT key id: " + keyId);
+        }
+        if (key.algorithm() != headerAlgorithm) {
+            throw new JwtException("JWT algorithm " + headerAlgorithm + " does not match key " + keyId);
+        }
+        return key.key();
+    }
+
+    /**
+     * @return public keys of this node as a JSON Web Key Set; empty in HS256 mode
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        publicKeys.forEach((keyId, key) -> keys.add(Jwks.toJwk(keyId, algorithm, key)));
+        return Map.of("keys", keys);
+    }
+
+    /**
+     * Periodically reloads the keys of jwt.key-ring.jwks-uri; no-op without it.
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.jwks-refresh-interval:PT5M}",
+            initialDelayString = "${jwt.key-ring.jwks-refresh-interval:PT5M}")
+    public void refreshRemoteKeys() {
+        refresh(true);
+    }
+
+    private void refreshRemoteKeysIfStale() {
+        refresh(false);
+    }
+
+    private void refresh(boolean force) {
+        if (isBlank(jwksUri)) {
+            return;
+        }
+        refreshLock.lock();
+        try {
+            // threads that waited for a concurrent refresh reuse its result
+            if (!force && System.currentTimeMillis() - lastRefreshMillis < jwksMinRefreshMillis) {
+                return;
+            }
+            lastRefreshMillis = System.currentTimeMillis();
+            Map<String, VerificationKey> keys = fetchRemoteKeys();
+            if (!keys.equals(remoteKeys)) {
+                boolean retired = !keys.keySet().containsAll(remoteKeys.keySet());
+                remoteKeys = keys;
+                if (retired) {
+                    // tokens of a dropped or replaced key must not keep passing from the cache
+                    verificationCache.invalidateAll();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh JWT keys from {}, keeping {} known keys: {}", jwksUri, remoteKeys.size(), e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<String, VerificationKey> fetchRemoteKeys() {
+        if (restClient == null) {
+            restClient = RestClient.create();
+        }
+        Map<?, ?> jwks = restClient.get().uri(jwksUri).retrieve().body(Map.class);
+        Map<String, VerificationKey> keys = new LinkedHashMap<>();
+        if (jwks != null && jwks.get("keys") instanceof List<?> list) {
+            for (Object entry : list) {
+                Map<?, ?> jwk = (Map<?, ?>) entry;
+                keys.put((String) jwk.get("kid"),
+                        new VerificationKey(SignatureAlgorithm.forName((String) jwk.get("alg")), Jwks.fromJwk(jwk)));
+            }
+        }
+        log.info("Loaded {} JWT verification keys from {}", keys.size(), jwksUri);
+        return Map.copyOf(keys);
+    }
+
+    private VerificationKey find(String keyId) {
+        VerificationKey key = localKeys.get(keyId);
+        return key != null ? key : remoteKeys.get(keyId);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record VerificationKey(SignatureAlgorithm algorithm, Key key) {
+    }
+}
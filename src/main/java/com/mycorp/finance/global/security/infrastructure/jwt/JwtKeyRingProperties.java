@@ -0,0 +1,63 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Asymmetric JWT keys, bound from jwt.key-ring in application.yml.
+ *
+ * Issuing nodes list their key pairs and name the one that signs new tokens; retired keys stay listed
+ * with their public key only until the last token signed with them expired.
+ * Verify-only nodes list public keys, or point jwks-uri at an issuing node and need no key material.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("jwt.key-ring")
+public class JwtKeyRingProperties {
+
+    /**
+     * Key id signing new tokens; blank on verify-only nodes.
+     */
+    private String activeKeyId;
+
+    private List<Key> keys = new ArrayList<>();
+
+    /**
+     * JWKS endpoint of an issuing node; its keys are added to the ring and refreshed.
+     */
+    private String jwksUri;
+
+    /**
+     * Interval of the periodic JWKS refresh.
+     */
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Minimum delay between refreshes triggered by tokens with an unknown key id.
+     */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String id;
+
+        /**
+         * PKCS#8 private key, PEM or base64 DER; only on issuing nodes.
+         */
+        private String privateKey;
+
+        /**
+         * X.509 SubjectPublicKeyInfo public key, PEM or base64 DER.
+         */
+        private String publicKey;
+    }
+}
@@ -1,85 +1,103 @@
 package com.mycorp.finance.global.security.infrastructure.jwt;
 
+import com.mycorp.finance.global.security.domain.model.AuthRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 
-import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 
 /**
- * JWT Token utility for creating, validating tokens and extracting information.
- * This provider does not handle authorities/roles; it's focused on authentication.
+ * JWT Token utility for creating tokens and verifying them into the authenticated customerId and role.
+ * The role travels in the "role" claim; tokens without it are treated as CUSTOMER tokens.
+ * Keys and algorithm come from {@link JwtKeyRing}; verified tokens are remembered in
+ * {@link JwtVerificationCache} until they expire.
  */
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret-key}")
-    private String rawSecretKey;
+    static final String ROLE_CLAIM = "role";
 
-    private SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final long validityInMilliseconds;
+    private final JwtVerificationCache verificationCache;
 
-    @Value("${jwt.expiration}")
-    private long validityInMilliseconds;
-
-    @PostConstruct
-    public void init() {
-        this.secretKey = Keys.hmacShaKeyFor(rawSecretKey.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(
+            JwtKeyRing keyRing,
+            @Value("${jwt.expiration}") long validityInMilliseconds,
+            JwtVerificationCache verificationCache
+    ) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.verificationKey(header);
+                    }
+                })
+                .build();
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.verificationCache = verificationCache;
     }
 
     /**
-     * Generate JWT token with customerId as subject.
+     * Generate JWT token with customerId as subject and the role as a claim.
      *
      * @param customerId UUID of authenticated customer
+     * @param role       role of the customer
      * @return signed JWT token string
      */
-    public String createToken(UUID customerId) {
+    public String createToken(UUID customerId, AuthRole role) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + validityInMilliseconds);
 
-        return Jwts.builder()
-                .setSubject(customerId.toString())
-                .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+        return keyRing.sign(Jwts.builder()
+                        .setSubject(customerId.toString())
+                        .claim(ROLE_CLAIM, role.name())
+                        .setIssuedAt(now)
+                        .setExpiration(expiry))
                 .compact();
     }
 
     /**
-     * Validate the JWT token.
+     * Verifies the token once and extracts its customerId and role.
+     * Tokens verified earlier are answered from the cache without parsing.
      *
      * @param token JWT token string
-     * @return true if token is valid and not expired, false otherwise
+     * @return customer and role if the token is well-formed, correctly signed and not expired; empty otherwise
      */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            // log exception if necessary
-            return false;
+    public Optional<VerifiedJwt> authenticate(String token) {
+        Optional<VerifiedJwt> cached = verificationCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
         }
-    }
 
-    /**
-     * Extract customerId (UUID) from JWT token subject.
-     *
-     * @param token JWT token string
-     * @return customer UUID extracted from token
-     */
-    public UUID getCustomerId(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
-        return UUID.fromString(claims.getSubject());
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String role = claims.get(ROLE_CLAIM, String.class);
+            VerifiedJwt verified = new VerifiedJwt(
+                    UUID.fromString(claims.getSubject()),
+                    role == null ? AuthRole.CUSTOMER : AuthRole.valueOf(role));
+            if (claims.getExpiration() != null) {
+                verificationCache.put(token, verified, claims.getExpiration().getTime());
+            }
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 }
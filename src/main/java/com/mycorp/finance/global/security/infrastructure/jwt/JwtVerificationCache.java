@@ -0,0 +1,114 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of recently verified JWTs, keyed by the SHA-256 of the token.
+ *
+ * A token verified once is valid until its expiry, so later requests carrying the same token skip
+ * parsing and signature verification. Entries expire with their token, or after max-age if that is sooner,
+ * and are re-checked against the wall clock on read. The max age bounds how long a cached token outlives
+ * a change of its key; {@link JwtKeyRing} also clears the cache when the remote key set changes. Only the hash is kept, never the token itself; failed verifications are not cached.
+ * Hit/miss/eviction metrics are published under cache="jwt.verify"; a maximum size of 0 disables the cache.
+ */
+@Component
+public class JwtVerificationCache {
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final long maxAgeMillis;
+
+    public JwtVerificationCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verify-cache.maximum-size:100000}") long maximumSize,
+            @Value("${jwt.verify-cache.max-age:PT1M}") Duration maxAge
+    ) {
+        this.maxAgeMillis = maxAge.toMillis();
+        if (maximumSize <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verify");
+    }
+
+    /**
+     * @param token JWT token string
+     * @return the identity of a previously verified, unexpired token; empty if not cached
+     */
+    public Optional<VerifiedJwt> get(String token) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        VerifiedToken verified = cache.getIfPresent(keyOf(token));
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(verified.identity());
+    }
+
+    /**
+     * @param token           JWT token string whose signature and expiry were verified
+     * @param identity        subject and role of the token
+     * @param expiresAtMillis expiry of the token in epoch milliseconds
+     */
+    public void put(String token, VerifiedJwt identity, long expiresAtMillis) {
+        if (cache == null) {
+            return;
+        }
+        long cachedUntil = Math.min(expiresAtMillis, System.currentTimeMillis() + maxAgeMillis);
+        cache.put(keyOf(token), new VerifiedToken(identity, cachedUntil));
+    }
+
+    /**
+     * Forgets all verified tokens, so the next request of each token is verified against the current keys.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static ByteBuffer keyOf(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(VerifiedJwt identity, long expiresAtMillis) { // expiresAtMillis: end of caching, not of the token
+    }
+}
@@ -0,0 +1,14 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+
+import java.util.UUID;
+
+/**
+ * Identity carried by a verified access token.
+ *
+ * @param customerId subject of the token
+ * @param role       role claim of the token; CUSTOMER for tokens issued without one
+ */
+public record VerifiedJwt(UUID customerId, AuthRole role) {
+}
@@ -4,6 +4,7 @@ import com.mycorp.finance.global.security.domain.model.AuthUser;
 import com.mycorp.finance.global.security.domain.repository.AuthRepository;
 import com.mycorp.finance.global.security.infrastructure.persistence.entity.AuthUserEntity;
 import com.mycorp.finance.global.security.infrastructure.persistence.repository.AuthUserJpaRepository;
+import com.mycorp.finance.global.security.infrastructure.persistence.repository.RefreshTokenJpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,15 +14,18 @@ import java.util.UUID;
 /**
  * Implementation of AuthRepository that interacts with the database using JPA.
  * Handles conversion between domain model and persistence entity.
+ * Deleting credentials also deletes the refresh tokens of the customer.
  */
 @Repository
 @Transactional("authTransactionManager")
 public class AuthRepositoryImpl implements AuthRepository {
 
     private final AuthUserJpaRepository jpaRepository;
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
 
-    public AuthRepositoryImpl(AuthUserJpaRepository jpaRepository) {
+    public AuthRepositoryImpl(AuthUserJpaRepository jpaRepository, RefreshTokenJpaRepository refreshTokenJpaRepository) {
         this.jpaRepository = jpaRepository;
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
     }
 
     @Override
@@ -30,6 +34,12 @@ public class AuthRepositoryImpl implements AuthRepository {
                 .map(AuthUserEntity::toDomain);
     }
 
+    @Override
+    public Optional<AuthUser> findById(UUID customerId) {
+        return jpaRepository.findById(customerId)
+                .map(AuthUserEntity::toDomain);
+    }
+
     @Override
     public void save(AuthUser authUser) {
         AuthUserEntity entity = AuthUserEntity.fromDomain(authUser);
@@ -38,6 +48,7 @@ public class AuthRepositoryImpl implements AuthRepository {
 
     @Override
     public void delete(UUID customerId) {
+        refreshTokenJpaRepository.deleteByCustomerId(customerId);
         jpaRepository.deleteById(customerId);
     }
 }
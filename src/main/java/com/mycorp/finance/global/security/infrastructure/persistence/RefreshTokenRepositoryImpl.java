@@ -0,0 +1,57 @@
+package com.mycorp.finance.global.security.infrastructure.persistence;
+
+import com.mycorp.finance.global.security.domain.model.RefreshToken;
+import com.mycorp.finance.global.security.domain.repository.RefreshTokenRepository;
+import com.mycorp.finance.global.security.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.mycorp.finance.global.security.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of RefreshTokenRepository on the auth DB using JPA.
+ */
+@Repository
+@Transactional("authTransactionManager")
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository jpaRepository;
+
+    public RefreshTokenRepositoryImpl(RefreshTokenJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash) {
+        return jpaRepository.findByTokenHashForUpdate(tokenHash)
+                .map(RefreshTokenEntity::toDomain);
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        jpaRepository.save(RefreshTokenEntity.fromDomain(refreshToken));
+    }
+
+    @Override
+    public void markRotated(UUID id, Instant rotatedAt) {
+        jpaRepository.markRotated(id, rotatedAt);
+    }
+
+    @Override
+    public int revokeFamily(UUID familyId, Instant revokedAt) {
+        return jpaRepository.revokeFamily(familyId, revokedAt);
+    }
+
+    @Override
+    public void deleteByCustomerId(UUID customerId) {
+        jpaRepository.deleteByCustomerId(customerId);
+    }
+
+    @Override
+    public int deleteExpired(Instant before) {
+        return jpaRepository.deleteExpired(before);
+    }
+}
@@ -4,11 +4,15 @@ import com.mycorp.finance.customer.domain.model.vo.Email;
 import com.mycorp.finance.customer.domain.model.vo.Password;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
+import com.mycorp.finance.global.security.domain.model.AuthRole;
 import com.mycorp.finance.global.security.domain.model.AuthUser;
 import java.util.UUID;
 
@@ -31,10 +35,16 @@ public class AuthUserEntity {
     @Column(name = "password_hash", nullable = false)
     private String passwordHash;
 
-    public AuthUserEntity(UUID customerId, String email, String passwordHash) {
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'CUSTOMER'")
+    @Column(nullable = false, length = 20)
+    private AuthRole role;
+
+    public AuthUserEntity(UUID customerId, String email, String passwordHash, AuthRole role) {
         this.customerId = customerId;
         this.email = email;
         this.passwordHash = passwordHash;
+        this.role = role;
     }
 
     /**
@@ -46,7 +56,8 @@ public class AuthUserEntity {
         return AuthUser.fromExisting(
                 customerId,
                 new Email(email),
-                Password.fromHashed(passwordHash)
+                Password.fromHashed(passwordHash),
+                role
         );
     }
 
@@ -60,7 +71,8 @@ public class AuthUserEntity {
         return new AuthUserEntity(
                 authUser.getCustomerId(),
                 authUser.getEmail().value(),
-                authUser.getPassword().value()
+                authUser.getPassword().value(),
+                authUser.getRole()
         );
     }
 }
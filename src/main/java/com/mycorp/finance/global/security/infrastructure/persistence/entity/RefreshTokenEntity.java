@@ -0,0 +1,105 @@
+package com.mycorp.finance.global.security.infrastructure.persistence.entity;
+
+import com.mycorp.finance.global.security.domain.model.RefreshToken;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity representing an issued refresh token. Only the SHA-256 of the token value is stored.
+ * Implements Persistable so that issuing a token with its preset UUID skips the merge SELECT.
+ */
+@Entity
+@Table(name = "auth_refresh_tokens", indexes = {
+        @Index(name = "idx_auth_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_auth_refresh_tokens_customer", columnList = "customer_id"),
+        @Index(name = "idx_auth_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class RefreshTokenEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public RefreshTokenEntity(UUID id, UUID customerId, UUID familyId, String tokenHash,
+                              Instant expiresAt, Instant rotatedAt, Instant revokedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+        this.rotatedAt = rotatedAt;
+        this.revokedAt = revokedAt;
+    }
+
+    /**
+     * Converts JPA entity to domain model.
+     *
+     * @return RefreshToken domain object
+     */
+    public RefreshToken toDomain() {
+        return RefreshToken.reconstruct(id, customerId, familyId, tokenHash, expiresAt, rotatedAt, revokedAt);
+    }
+
+    /**
+     * Converts domain model to JPA entity.
+     *
+     * @param refreshToken domain RefreshToken object
+     * @return RefreshTokenEntity for persistence
+     */
+    public static RefreshTokenEntity fromDomain(RefreshToken refreshToken) {
+        return new RefreshTokenEntity(
+                refreshToken.getId(),
+                refreshToken.getCustomerId(),
+                refreshToken.getFamilyId(),
+                refreshToken.getTokenHash(),
+                refreshToken.getExpiresAt(),
+                refreshToken.getRotatedAt(),
+                refreshToken.getRevokedAt()
+        );
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
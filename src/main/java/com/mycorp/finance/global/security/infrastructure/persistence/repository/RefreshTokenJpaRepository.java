@@ -0,0 +1,39 @@
+package com.mycorp.finance.global.security.infrastructure.persistence.repository;
+
+import com.mycorp.finance.global.security.infrastructure.persistence.entity.RefreshTokenEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for RefreshTokenEntity.
+ */
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshTokenEntity t WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.rotatedAt = :rotatedAt WHERE t.id = :id")
+    int markRotated(@Param("id") UUID id, @Param("rotatedAt") Instant rotatedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revokedAt = :revokedAt WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("revokedAt") Instant revokedAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.customerId = :customerId")
+    int deleteByCustomerId(@Param("customerId") UUID customerId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -3,14 +3,19 @@ package com.mycorp.finance.global.security.presentation;
 import com.mycorp.finance.customer.domain.model.vo.Email;
 import com.mycorp.finance.global.security.application.service.AuthService;
 import com.mycorp.finance.global.security.application.dto.LoginRequest;
+import com.mycorp.finance.global.security.application.dto.RefreshTokenRequest;
 import com.mycorp.finance.global.security.application.dto.TokenResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * REST controller responsible for handling authentication-related HTTP requests.
- * Exposes endpoints for login and potentially other auth functions like refresh tokens or logout.
+ * Exposes endpoints for login, token refresh, logout and the public verification keys.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -26,11 +31,45 @@ public class AuthController {
      * Handles login requests.
      *
      * @param request Login credentials (email, password)
-     * @return JWT token if authentication succeeds
+     * @return access and refresh token if authentication succeeds
      */
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(@RequestBody @Valid LoginRequest request) {
-        String token = authService.login(new Email(request.email()), request.password());
-        return ResponseEntity.ok(new TokenResponse(token));
+        return ResponseEntity.ok(authService.login(new Email(request.email()), request.password()));
+    }
+
+    /**
+     * Renews the access token with a refresh token; the refresh token is rotated.
+     *
+     * @param request current refresh token
+     * @return new access and refresh token, HTTP 401 if the refresh token is not usable
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.refreshToken()));
+    }
+
+    /**
+     * Revokes the refresh tokens of the login; issued access tokens stay valid until they expire.
+     *
+     * @param request refresh token of the login
+     * @return HTTP 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody @Valid RefreshTokenRequest request) {
+        authService.logout(request.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Publishes the public token verification keys, so other nodes verify tokens without the signing key.
+     *
+     * @return JSON Web Key Set of the active and still accepted keys
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(authService.jwks());
     }
 }
@@ -0,0 +1,149 @@
+package com.mycorp.finance.banking.account.application.service;
+
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceCommand;
+import com.mycorp.finance.banking.account.application.dto.AccountBalanceShardingCommand;
+import com.mycorp.finance.banking.account.domain.event.AccountEventPublisher;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import com.mycorp.finance.banking.account.domain.service.AccountNumberGenerator;
+import com.mycorp.finance.banking.account.domain.service.AccountValidationService;
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.global.exception.InsufficientBalanceException;
+import com.mycorp.finance.global.exception.UnauthorizedAccountAccessException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountCommandServiceImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID OWNER = UUID.randomUUID();
+
+    private final AccountCommandRepository accountCommandRepository = mock(AccountCommandRepository.class);
+    private final AccountEventPublisher eventPublisher = mock(AccountEventPublisher.class);
+    private final AccountCommandServiceImpl service = new AccountCommandServiceImpl(
+            accountCommandRepository, new AccountValidationService(), mock(AccountNumberGenerator.class),
+            eventPublisher, CLOCK);
+
+    @Test
+    void ownerWithdrawsAndTheUpdatedAccountIsPublished() {
+        Account updated = account(9_000L, 0, 6L);
+        when(accountCommandRepository.applyBalanceDelta(ACCOUNT_ID, usd(-1_000L), NOW)).thenReturn(Optional.of(updated));
+
+        service.withdraw(balanceChange(OWNER, "10.00"));
+
+        verify(eventPublisher).publishAccountUpdated(updated);
+    }
+
+    @Test
+    void withdrawalFromAnotherCustomersAccountIsRefused() {
+        when(accountCommandRepository.applyBalanceDelta(ACCOUNT_ID, usd(-1_000L), NOW))
+                .thenReturn(Optional.of(account(9_000L, 0, 6L)));
+
+        assertThatThrownBy(() -> service.withdraw(balanceChange(UUID.randomUUID(), "10.00")))
+                .isInstanceOf(UnauthorizedAccountAccessException.class);
+
+        verify(eventPublisher, never()).publishAccountUpdated(any());
+    }
+
+    @Test
+    void rejectedWithdrawalFromAnotherCustomersAccountRevealsNoReason() {
+        when(accountCommandRepository.applyBalanceDelta(ACCOUNT_ID, usd(-1_000L), NOW)).thenReturn(Optional.empty());
+        when(accountCommandRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account(0L, 0, 5L)));
+
+        assertThatThrownBy(() -> service.withdraw(balanceChange(UUID.randomUUID(), "10.00")))
+                .isInstanceOf(UnauthorizedAccountAccessException.class);
+    }
+
+    @Test
+    void rejectedWithdrawalOfTheOwnerIsExplained() {
+        when(accountCommandRepository.applyBalanceDelta(ACCOUNT_ID, usd(-1_000L), NOW)).thenReturn(Optional.empty());
+        when(accountCommandRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account(500L, 0, 5L)));
+
+        assertThatThrownBy(() -> service.withdraw(balanceChange(OWNER, "10.00")))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    void depositToAnotherCustomersAccountIsRefused() {
+        when(accountCommandRepository.applyBalanceDelta(ACCOUNT_ID, usd(1_000L), NOW))
+                .thenReturn(Optional.of(account(11_000L, 0, 6L)));
+
+        assertThatThrownBy(() -> service.deposit(balanceChange(UUID.randomUUID(), "10.00")))
+                .isInstanceOf(UnauthorizedAccountAccessException.class);
+
+        verify(eventPublisher, never()).publishAccountUpdated(any());
+    }
+
+    @Test
+    void foldThatMovedSlotCreditsPublishesTheNewVersion() {
+        Account folded = account(12_000L, 4, 6L);
+        when(accountCommandRepository.foldBalanceSlots(ACCOUNT_ID, NOW)).thenReturn(true);
+        when(accountCommandRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(folded));
+
+        service.foldBalanceSlots(ACCOUNT_ID);
+
+        InOrder order = inOrder(accountCommandRepository, eventPublisher);
+        order.verify(accountCommandRepository).foldBalanceSlots(ACCOUNT_ID, NOW);
+        order.verify(accountCommandRepository).findById(ACCOUNT_ID);
+        order.verify(eventPublisher).publishAccountUpdated(folded);
+    }
+
+    @Test
+    void foldWithNothingParkedPublishesNothing() {
+        when(accountCommandRepository.foldBalanceSlots(ACCOUNT_ID, NOW)).thenReturn(false);
+
+        service.foldBalanceSlots(ACCOUNT_ID);
+
+        verify(accountCommandRepository, never()).findById(any());
+        verify(eventPublisher, never()).publishAccountUpdated(any());
+    }
+
+    @Test
+    void shardingChangeFoldsAndPublishesTheNextVersion() {
+        Account account = account(10_000L, 0, 5L);
+        when(accountCommandRepository.findByIdForUpdate(ACCOUNT_ID)).thenReturn(Optional.of(account));
+
+        service.changeBalanceSharding(new AccountBalanceShardingCommand(ACCOUNT_ID, 4));
+
+        InOrder order = inOrder(accountCommandRepository, eventPublisher);
+        order.verify(accountCommandRepository).resizeBalanceSlots(ACCOUNT_ID, 4, NOW);
+        order.verify(accountCommandRepository).save(account);
+        order.verify(eventPublisher).publishAccountUpdated(account);
+        assertThat(account.getVersion()).isEqualTo(6L);
+    }
+
+    private static AccountBalanceCommand balanceChange(UUID customerId, String amount) {
+        return new AccountBalanceCommand(customerId, ACCOUNT_ID, new BigDecimal(amount), Currency.getInstance("USD"));
+    }
+
+    private static MinorMoney usd(long minorUnits) {
+        return MinorMoney.ofMinor(minorUnits, "USD");
+    }
+
+    private static Account account(long balance, int slotCount, long version) {
+        return Account.reconstruct(ACCOUNT_ID, AccountNumber.fromSequence(1L), OWNER,
+                usd(balance), AccountStatus.ACTIVE, slotCount, version, NOW, NOW);
+    }
+}
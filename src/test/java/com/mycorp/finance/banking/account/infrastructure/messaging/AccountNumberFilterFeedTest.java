@@ -0,0 +1,70 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountNumberFilter;
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.global.messaging.EventTopics;
+import com.mycorp.finance.global.projection.ProjectionEventReplayer;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AccountNumberFilterFeedTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final AccountNumberFilter filter = mock(AccountNumberFilter.class);
+    private final AccountEventMapper mapper = new AccountEventMapper(CLOCK);
+    private final AccountNumberFilterFeed feed = new AccountNumberFilterFeed(filter, mock(ProjectionEventReplayer.class),
+            mock(KafkaListenerEndpointRegistry.class), eventTopics(), "account-query-group");
+
+    @Test
+    void accountNumbersOfCreatedAndUpdatedEventsOfBothVersionsAreAdded() {
+        Account first = account(1L);
+        Account second = account(2L);
+
+        feed.onAccountEvents(List.of(
+                record(mapper.toAccountCreatedEventV2(first)),
+                record(mapper.toAccountUpdatedEvent(second))));
+
+        verify(filter).add(first.getAccountNumber().value());
+        verify(filter).add(second.getAccountNumber().value());
+    }
+
+    @Test
+    void deletedEventsAndUnreadableRecordsAddNothing() {
+        feed.onAccountEvents(List.of(record(mapper.toAccountDeletedEventV2(account(3L))), record(null)));
+
+        verifyNoInteractions(filter);
+    }
+
+    private static ConsumerRecord<String, SpecificRecord> record(SpecificRecord event) {
+        return new ConsumerRecord<>("account-events-topic", 0, 0L, "key", event);
+    }
+
+    private static Account account(long sequence) {
+        return Account.reconstruct(UUID.randomUUID(), AccountNumber.fromSequence(sequence), UUID.randomUUID(),
+                MinorMoney.ofMinor(1_000L, "USD"), AccountStatus.ACTIVE, 0, 1L, NOW, NOW);
+    }
+
+    private static EventTopics eventTopics() {
+        return new EventTopics(new MockEnvironment().withProperty("spring.kafka.topics.account-events", "account-events-topic"),
+                EventTopics.PER_AGGREGATE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mycorp.finance.banking.account.infrastructure.messaging;
+
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.cache.AccountReadCache;
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AccountReadCacheFeedTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    private final AccountReadCache cache = mock(AccountReadCache.class);
+    private final AccountEventMapper mapper = new AccountEventMapper(CLOCK);
+    private final AccountReadCacheFeed feed = new AccountReadCacheFeed(cache, CLOCK);
+
+    @Test
+    void updatedEventsRefreshTheCachedAccountWithTheirVersion() {
+        Account account = account(1L, 4_200L, 7L);
+
+        feed.onAccountEvents(List.of(record(mapper.toAccountUpdatedEvent(account))));
+
+        verify(cache).refresh(account.getAccountNumber().value(), 4_200L, AccountStatus.ACTIVE, 7L, NOW);
+    }
+
+    @Test
+    void deletedEventsEvictTheAccount() {
+        Account account = account(2L, 0L, 3L);
+
+        feed.onAccountEvents(List.of(record(mapper.toAccountDeletedEventV2(account))));
+
+        verify(cache).evict(account.getAccountNumber().value());
+    }
+
+    @Test
+    void createdEventsAndUnreadableRecordsLeaveTheCacheAlone() {
+        feed.onAccountEvents(List.of(record(mapper.toAccountCreatedEventV2(account(3L, 1_000L, 1L))), record(null)));
+
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    void assignedPartitionsStartAtTheEnd() {
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+        Map<TopicPartition, Long> assignments = Map.of(new TopicPartition("account-events-topic", 0), 0L);
+
+        feed.onPartitionsAssigned(assignments, callback);
+
+        verify(callback).seekToEnd(assignments.keySet());
+    }
+
+    private static ConsumerRecord<String, SpecificRecord> record(SpecificRecord event) {
+        return new ConsumerRecord<>("account-events-topic", 0, 0L, "key", event);
+    }
+
+    private static Account account(long sequence, long balance, long version) {
+        return Account.reconstruct(UUID.randomUUID(), AccountNumber.fromSequence(sequence), UUID.randomUUID(),
+                MinorMoney.ofMinor(balance, "USD"), AccountStatus.ACTIVE, 0, version, NOW, NOW);
+    }
+}
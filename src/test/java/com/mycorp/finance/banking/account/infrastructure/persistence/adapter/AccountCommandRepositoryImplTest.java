@@ -0,0 +1,246 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.adapter;
+
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.command.AccountEntity;
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.command.AccountBalanceSlotJpaRepository;
+import com.mycorp.finance.banking.account.infrastructure.persistence.repository.command.AccountCommandJpaRepository;
+import com.mycorp.finance.banking.common.MinorMoney;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AccountCommandRepositoryImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+    private final AccountCommandJpaRepository accountJpaRepository = mock(AccountCommandJpaRepository.class);
+    private final AccountBalanceSlotJpaRepository balanceSlotJpaRepository = mock(AccountBalanceSlotJpaRepository.class);
+    private final AccountCommandRepositoryImpl repository =
+            new AccountCommandRepositoryImpl(accountJpaRepository, balanceSlotJpaRepository);
+
+    @Test
+    void guardedUpdateOnlyAppliesToActiveAccountsInTheirCurrencyWithoutOverdraft() throws NoSuchMethodException {
+        String sql = AccountCommandJpaRepository.class
+                .getMethod("applyBalanceDelta", UUID.class, long.class, String.class, LocalDateTime.class)
+                .getAnnotation(Query.class).value()
+                .replaceAll("\\s+", " ");
+
+        assertThat(sql)
+                .contains("SET balance_amount = balance_amount + :delta, version = version + 1")
+                .contains("WHERE id = :id AND status = 'ACTIVE' AND currency_code = :currencyCode"
+                        + " AND balance_amount + :delta >= 0")
+                .contains("RETURNING *");
+    }
+
+    @Test
+    void slotCreditSharesTheAccountRowLockWithOtherCredits() throws NoSuchMethodException {
+        String sql = AccountBalanceSlotJpaRepository.class
+                .getMethod("creditSlot", UUID.class, long.class, long.class, String.class)
+                .getAnnotation(Query.class).value()
+                .replaceAll("\\s+", " ");
+
+        assertThat(sql)
+                .contains("AND status = 'ACTIVE' AND currency_code = :currencyCode FOR SHARE")
+                .contains("SET balance_amount = s.balance_amount + :amount")
+                .doesNotContain("FOR UPDATE")
+                .doesNotContain("version");
+    }
+
+    @Test
+    void foldAdvancesTheVersionForTheSlotCreditsItMoves() throws NoSuchMethodException {
+        String sql = AccountCommandJpaRepository.class
+                .getMethod("addToBalance", UUID.class, long.class, LocalDateTime.class)
+                .getAnnotation(Query.class).value()
+                .replaceAll("\\s+", " ");
+
+        assertThat(sql).contains("SET balance_amount = balance_amount + :amount, version = version + 1");
+    }
+
+    @Test
+    void appliedChangeReturnsTheUpdatedAccountFromTheSameStatement() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, -2_500L, "USD", NOW))
+                .thenReturn(Optional.of(entity(7_500L, 0, 4L)));
+
+        Optional<Account> updated = repository.applyBalanceDelta(ACCOUNT_ID, usd(-2_500L), NOW);
+
+        assertThat(updated).hasValueSatisfying(account -> {
+            assertThat(account.getBalance()).isEqualTo(usd(7_500L));
+            assertThat(account.getVersion()).isEqualTo(4L);
+        });
+        verify(accountJpaRepository, never()).findBalanceSlotCount(any());
+        verifyNoInteractions(balanceSlotJpaRepository);
+    }
+
+    @Test
+    void rejectedChangeOnAnUnshardedAccountStopsAfterOneScalarRead() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, -20_000L, "USD", NOW)).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(0));
+
+        assertThat(repository.applyBalanceDelta(ACCOUNT_ID, usd(-20_000L), NOW)).isEmpty();
+
+        verify(accountJpaRepository, never()).lockBalanceSlotCount(any());
+        verify(accountJpaRepository, never()).findById(any());
+        verifyNoInteractions(balanceSlotJpaRepository);
+    }
+
+    @Test
+    void changeOfAMissingAccountIsRejected() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, 100L, "USD", NOW)).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        assertThat(repository.applyBalanceDelta(ACCOUNT_ID, usd(100L), NOW)).isEmpty();
+
+        verify(balanceSlotJpaRepository, never()).creditSlot(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void rejectedCreditOfAShardedAccountLandsOnASlotAndKeepsTheVersion() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, 500L, "USD", NOW)).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.creditSlot(eq(ACCOUNT_ID), anyLong(), eq(500L), eq("USD"))).thenReturn(1);
+        when(accountJpaRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(entity(10_000L, 4, 5L)));
+        when(balanceSlotJpaRepository.sumBalance(ACCOUNT_ID)).thenReturn(1_500L);
+
+        Optional<Account> updated = repository.applyBalanceDelta(ACCOUNT_ID, usd(500L), NOW);
+
+        assertThat(updated).hasValueSatisfying(account -> {
+            assertThat(account.getBalance()).isEqualTo(usd(11_500L));
+            assertThat(account.getVersion()).isEqualTo(5L);
+        });
+        InOrder order = inOrder(balanceSlotJpaRepository, accountJpaRepository);
+        order.verify(balanceSlotJpaRepository).creditSlot(eq(ACCOUNT_ID), anyLong(), eq(500L), eq("USD"));
+        order.verify(accountJpaRepository).findById(ACCOUNT_ID);
+        verify(accountJpaRepository, never()).lockBalanceSlotCount(any());
+        verify(balanceSlotJpaRepository, never()).lockBalances(any());
+    }
+
+    @Test
+    void concurrentCreditsToAShardedAccountDoNotWaitForEachOther() throws Exception {
+        // Both credits must be inside creditSlot at the same time to pass the barrier;
+        // anything that serialized them would leave one waiting for the other and time out
+        CyclicBarrier bothInside = new CyclicBarrier(2);
+        when(accountJpaRepository.applyBalanceDelta(eq(ACCOUNT_ID), anyLong(), eq("USD"), eq(NOW))).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.creditSlot(eq(ACCOUNT_ID), anyLong(), anyLong(), eq("USD"))).thenAnswer(invocation -> {
+            bothInside.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        when(accountJpaRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(entity(10_000L, 4, 5L)));
+        when(balanceSlotJpaRepository.sumBalance(ACCOUNT_ID)).thenReturn(800L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Account>> first = executor.submit(() -> repository.applyBalanceDelta(ACCOUNT_ID, usd(300L), NOW));
+            Future<Optional<Account>> second = executor.submit(() -> repository.applyBalanceDelta(ACCOUNT_ID, usd(500L), NOW));
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isPresent();
+            assertThat(second.get(10, TimeUnit.SECONDS)).isPresent();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<Long> tickets = ArgumentCaptor.forClass(Long.class);
+        verify(balanceSlotJpaRepository, times(2)).creditSlot(eq(ACCOUNT_ID), tickets.capture(), anyLong(), eq("USD"));
+        assertThat(tickets.getAllValues()).doesNotHaveDuplicates();
+        verify(accountJpaRepository, never()).findByIdForUpdate(any());
+        verify(accountJpaRepository, never()).lockBalanceSlotCount(any());
+        verify(accountJpaRepository, never()).addToBalance(any(), anyLong(), any());
+    }
+
+    @Test
+    void slotCreditsRotateOverTheSlots() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, 500L, "USD", NOW)).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.creditSlot(eq(ACCOUNT_ID), anyLong(), eq(500L), eq("USD"))).thenReturn(1);
+        when(accountJpaRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(entity(0L, 4, 0L)));
+
+        repository.applyBalanceDelta(ACCOUNT_ID, usd(500L), NOW);
+        repository.applyBalanceDelta(ACCOUNT_ID, usd(500L), NOW);
+
+        ArgumentCaptor<Long> tickets = ArgumentCaptor.forClass(Long.class);
+        verify(balanceSlotJpaRepository, times(2)).creditSlot(eq(ACCOUNT_ID), tickets.capture(), eq(500L), eq("USD"));
+        assertThat(tickets.getAllValues()).doesNotHaveDuplicates().allMatch(ticket -> ticket >= 0);
+    }
+
+    @Test
+    void creditFallsBackToTheMainRowWhenShardingWasSwitchedOffMeanwhile() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, 500L, "USD", NOW))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entity(10_500L, 0, 6L)));
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.creditSlot(eq(ACCOUNT_ID), anyLong(), eq(500L), eq("USD"))).thenReturn(0);
+
+        assertThat(repository.applyBalanceDelta(ACCOUNT_ID, usd(500L), NOW))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(usd(10_500L)));
+
+        verify(accountJpaRepository, times(2)).applyBalanceDelta(ACCOUNT_ID, 500L, "USD", NOW);
+    }
+
+    @Test
+    void rejectedDebitOfAShardedAccountFoldsTheSlotsAndRetriesOnce() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, -1_200L, "USD", NOW))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entity(300L, 4, 9L)));
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(accountJpaRepository.lockBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.lockBalances(ACCOUNT_ID)).thenReturn(List.of(1_000L, 0L, 500L, 0L));
+
+        assertThat(repository.applyBalanceDelta(ACCOUNT_ID, usd(-1_200L), NOW))
+                .hasValueSatisfying(account -> assertThat(account.getBalance()).isEqualTo(usd(300L)));
+
+        InOrder order = inOrder(accountJpaRepository, balanceSlotJpaRepository);
+        order.verify(accountJpaRepository).lockBalanceSlotCount(ACCOUNT_ID);
+        order.verify(balanceSlotJpaRepository).lockBalances(ACCOUNT_ID);
+        order.verify(balanceSlotJpaRepository).resetBalances(ACCOUNT_ID);
+        order.verify(accountJpaRepository).addToBalance(ACCOUNT_ID, 1_500L, NOW);
+        verify(accountJpaRepository, times(2)).applyBalanceDelta(ACCOUNT_ID, -1_200L, "USD", NOW);
+    }
+
+    @Test
+    void rejectedDebitWithNothingParkedOnTheSlotsIsNotRetried() {
+        when(accountJpaRepository.applyBalanceDelta(ACCOUNT_ID, -1_200L, "USD", NOW)).thenReturn(Optional.empty());
+        when(accountJpaRepository.findBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(accountJpaRepository.lockBalanceSlotCount(ACCOUNT_ID)).thenReturn(Optional.of(4));
+        when(balanceSlotJpaRepository.lockBalances(ACCOUNT_ID)).thenReturn(List.of(0L, 0L, 0L, 0L));
+
+        assertThat(repository.applyBalanceDelta(ACCOUNT_ID, usd(-1_200L), NOW)).isEmpty();
+
+        verify(balanceSlotJpaRepository, never()).resetBalances(any());
+        verify(accountJpaRepository, never()).addToBalance(any(), anyLong(), any());
+        verify(accountJpaRepository, times(1)).applyBalanceDelta(ACCOUNT_ID, -1_200L, "USD", NOW);
+    }
+
+    private static MinorMoney usd(long minorUnits) {
+        return MinorMoney.ofMinor(minorUnits, "USD");
+    }
+
+    private static AccountEntity entity(long balance, int slotCount, long version) {
+        return AccountEntity.of(ACCOUNT_ID, "ACCT-G000000O", UUID.randomUUID(), balance, "USD",
+                AccountStatus.ACTIVE, slotCount, version);
+    }
+}
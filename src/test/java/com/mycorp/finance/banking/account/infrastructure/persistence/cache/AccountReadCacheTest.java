@@ -0,0 +1,154 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.cache;
+
+import com.mycorp.finance.banking.account.application.dto.AccountReadDto;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccountReadCacheTest {
+
+    private static final String NUMBER = "ACCT-G000000O";
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccountReadCache cache = new AccountReadCache(meterRegistry, 100, Duration.ofMinutes(1));
+
+    @Test
+    void missLoadsOnceAndHitsAreServedFromTheCache() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<AccountReadEntity>> loader = number -> {
+            loads.incrementAndGet();
+            return Optional.of(row(1_000L, AccountStatus.ACTIVE, 1L));
+        };
+
+        assertThat(cache.get(NUMBER, loader)).isPresent();
+        assertThat(cache.get(NUMBER, loader)).hasValueSatisfying(account -> assertThat(account.getBalanceAmount()).isEqualTo(1_000L));
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "account.read").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void absentAccountsAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<AccountReadEntity>> loader = number -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.get(NUMBER, loader)).isEmpty();
+        assertThat(cache.get(NUMBER, loader)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.contains(NUMBER)).isFalse();
+    }
+
+    @Test
+    void refreshUpdatesCachedAccountsOnly() {
+        LocalDateTime updatedAt = CREATED.plusMinutes(5);
+        cache.refresh(NUMBER, 2_000L, AccountStatus.ACTIVE, 2L, updatedAt);
+        assertThat(cache.contains(NUMBER)).isFalse();
+
+        load(row(1_000L, AccountStatus.ACTIVE, 1L));
+        cache.refresh(NUMBER, 2_000L, AccountStatus.CLOSED, 2L, updatedAt);
+
+        assertThat(cached()).satisfies(account -> {
+            assertThat(account.getBalanceAmount()).isEqualTo(2_000L);
+            assertThat(account.getStatus()).isEqualTo(AccountStatus.CLOSED);
+            assertThat(account.getUpdatedAt()).isEqualTo(updatedAt);
+            assertThat(account.getCreatedAt()).isEqualTo(CREATED);
+        });
+    }
+
+    @Test
+    void refreshesOfTheCachedOrAnOlderVersionAreIgnored() {
+        load(row(3_000L, AccountStatus.ACTIVE, 5L));
+
+        cache.refresh(NUMBER, 2_000L, AccountStatus.ACTIVE, 4L, CREATED.plusMinutes(5));
+        cache.refresh(NUMBER, 2_500L, AccountStatus.ACTIVE, 5L, CREATED.plusMinutes(6));
+
+        assertThat(cached().getBalanceAmount()).isEqualTo(3_000L);
+    }
+
+    @Test
+    void refreshAppliedOutOfOrderKeepsTheNewestVersion() {
+        load(row(1_000L, AccountStatus.ACTIVE, 1L));
+
+        cache.refresh(NUMBER, 3_000L, AccountStatus.ACTIVE, 3L, CREATED.plusMinutes(6));
+        cache.refresh(NUMBER, 2_000L, AccountStatus.ACTIVE, 2L, CREATED.plusMinutes(5));
+
+        assertThat(cached().getBalanceAmount()).isEqualTo(3_000L);
+    }
+
+    @Test
+    void refreshWithoutAVersionAlwaysApplies() {
+        load(row(1_000L, AccountStatus.ACTIVE, 5L));
+
+        cache.refresh(NUMBER, 2_000L, AccountStatus.ACTIVE, 0L, CREATED.plusMinutes(5));
+
+        assertThat(cached().getBalanceAmount()).isEqualTo(2_000L);
+    }
+
+    @Test
+    void evictRemovesTheAccount() {
+        load(row(1_000L, AccountStatus.ACTIVE, 1L));
+
+        cache.evict(NUMBER);
+
+        assertThat(cache.contains(NUMBER)).isFalse();
+    }
+
+    @Test
+    void writesInsideATransactionApplyOnlyAfterCommit() {
+        load(row(1_000L, AccountStatus.ACTIVE, 1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.refresh(NUMBER, 2_000L, AccountStatus.ACTIVE, 2L, CREATED.plusMinutes(5));
+            assertThat(cached().getBalanceAmount()).isEqualTo(1_000L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cached().getBalanceAmount()).isEqualTo(2_000L);
+    }
+
+    private void load(AccountReadEntity row) {
+        cache.get(NUMBER, number -> Optional.of(row));
+    }
+
+    private AccountReadDto cached() {
+        return cache.get(NUMBER, number -> {
+            throw new AssertionError("Expected a cached account");
+        }).orElseThrow();
+    }
+
+    private static AccountReadEntity row(long balance, AccountStatus status, long version) {
+        AccountReadEntity entity = mock(AccountReadEntity.class);
+        when(entity.getId()).thenReturn(UUID.randomUUID());
+        when(entity.getAccountNumber()).thenReturn(NUMBER);
+        when(entity.getBalanceAmount()).thenReturn(balance);
+        when(entity.getCurrencyCode()).thenReturn("USD");
+        when(entity.getStatus()).thenReturn(status);
+        when(entity.getCreatedAt()).thenReturn(CREATED);
+        when(entity.getUpdatedAt()).thenReturn(CREATED);
+        when(entity.getVersion()).thenReturn(version);
+        return entity;
+    }
+}
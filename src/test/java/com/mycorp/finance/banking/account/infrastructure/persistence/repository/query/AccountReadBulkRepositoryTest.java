@@ -0,0 +1,97 @@
+package com.mycorp.finance.banking.account.infrastructure.persistence.repository.query;
+
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.infrastructure.persistence.entity.query.AccountReadEntity;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AccountReadBulkRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final AccountReadBulkRepository repository = new AccountReadBulkRepository(jdbcTemplate);
+
+    @Test
+    void upsertOnlyReplacesOlderRowsAndNeverResurrectsTombstonedOnes() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[]{1});
+        AccountReadEntity account = account(UUID.randomUUID(), 7L);
+
+        repository.upsertAll(List.of(account), NOW);
+
+        Batch batch = captureBatch();
+        assertThat(batch.sql())
+                .contains("ON CONFLICT (id) DO UPDATE")
+                .contains("WHERE account_read.version < EXCLUDED.version OR EXCLUDED.version = 0")
+                .contains("WHERE NOT EXISTS ( SELECT 1 FROM account_read_tombstones t WHERE t.id = :id"
+                        + " AND (t.version >= :version OR t.version = 0 OR :version = 0))");
+        assertThat(batch.parameters()).hasSize(1);
+        SqlParameterSource row = batch.parameters()[0];
+        assertThat(row.getValue("id")).isEqualTo(account.getId());
+        assertThat(row.getValue("version")).isEqualTo(7L);
+        assertThat(row.getValue("status")).isEqualTo("ACTIVE");
+        assertThat(row.getValue("balanceAmount")).isEqualTo(12_345L);
+        assertThat(row.getValue("now")).isEqualTo(NOW);
+    }
+
+    @Test
+    void deleteRecordsTheHighestTombstoneVersionAndOnlyRemovesOlderRows() {
+        UUID id = UUID.randomUUID();
+
+        repository.deleteAll(Map.of(id, 9L));
+
+        Batch batch = captureBatch();
+        assertThat(batch.sql())
+                .contains("INSERT INTO account_read_tombstones (id, version) VALUES (:id, :version)")
+                .contains("SET version = GREATEST(account_read_tombstones.version, EXCLUDED.version)")
+                .contains("DELETE FROM account_read WHERE id = :id AND (version < :version OR :version = 0)");
+        assertThat(batch.parameters()).hasSize(1);
+        assertThat(batch.parameters()[0].getValue("id")).isEqualTo(id);
+        assertThat(batch.parameters()[0].getValue("version")).isEqualTo(9L);
+    }
+
+    @Test
+    void emptyBatchesDoNotReachTheDatabase() {
+        assertThat(repository.upsertAll(List.of(), NOW)).isEmpty();
+        repository.deleteAll(Map.of());
+        repository.insertAll("account_read_shadow", List.of(), NOW);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private Batch captureBatch() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource[]> parameters = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), parameters.capture());
+        return new Batch(sql.getValue().replaceAll("\\s+", " "), parameters.getValue());
+    }
+
+    private static AccountReadEntity account(UUID id, long version) {
+        AccountReadEntity account = mock(AccountReadEntity.class);
+        when(account.getId()).thenReturn(id);
+        when(account.getAccountNumber()).thenReturn("ACCT-G000000O");
+        when(account.getBalanceAmount()).thenReturn(12_345L);
+        when(account.getCurrencyCode()).thenReturn("USD");
+        when(account.getStatus()).thenReturn(AccountStatus.ACTIVE);
+        when(account.getVersion()).thenReturn(version);
+        return account;
+    }
+
+    private record Batch(String sql, SqlParameterSource[] parameters) {
+    }
+}
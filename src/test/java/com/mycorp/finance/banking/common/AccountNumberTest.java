@@ -0,0 +1,73 @@
+package com.mycorp.finance.banking.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountNumberTest {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int BODY_START = "ACCT-".length();
+
+    @Test
+    void sequenceNumbersAreWellFormedAndCarryAValidCheckCharacter() {
+        for (long sequence : new long[]{0, 1, 35, 36, 2_176_782_335L, 2_176_782_336L, AccountNumber.SEQUENCE_CAPACITY - 1}) {
+            AccountNumber number = AccountNumber.fromSequence(sequence);
+
+            assertThat(number.value()).matches("ACCT-[G-Z][0-9A-Z]{7}");
+            assertThat(number.isSequenceIssued()).isTrue();
+            assertThat(AccountNumber.of(number.value())).isEqualTo(number);
+        }
+    }
+
+    @Test
+    void distinctSequencesGiveDistinctNumbers() {
+        Set<String> numbers = new HashSet<>();
+        for (long sequence = 0; sequence < 10_000; sequence++) {
+            numbers.add(AccountNumber.fromSequence(sequence).value());
+        }
+        assertThat(numbers).hasSize(10_000);
+    }
+
+    @Test
+    void everySingleCharacterSubstitutionFailsTheCheck() {
+        String value = AccountNumber.fromSequence(123_456_789L).value();
+
+        for (int i = BODY_START; i < value.length(); i++) {
+            for (char replacement : DIGITS.toCharArray()) {
+                if (replacement == value.charAt(i)) {
+                    continue;
+                }
+                String changed = value.substring(0, i) + replacement + value.substring(i + 1);
+                assertThat(AccountNumber.of(changed).isSequenceIssued())
+                        .as("substitution at %d in %s", i, changed)
+                        .isFalse();
+            }
+        }
+    }
+
+    @Test
+    void legacyHexNumbersAreNotMistakenForSequenceNumbers() {
+        assertThat(AccountNumber.of("ACCT-1A2B3C4D").isSequenceIssued()).isFalse();
+        assertThat(AccountNumber.of("ACCT-FFFFFFFF").isSequenceIssued()).isFalse();
+    }
+
+    @Test
+    void sequenceOutsideTheCapacityIsRejected() {
+        assertThatThrownBy(() -> AccountNumber.fromSequence(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumber.fromSequence(AccountNumber.SEQUENCE_CAPACITY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void malformedNumbersAreRejected() {
+        assertThatThrownBy(() -> AccountNumber.of(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumber.of("ACCT-1234567")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumber.of("ACCX-12345678")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumber.of("ACCT-1234567a")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.mycorp.finance.banking.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyUnitTest {
+
+    @Test
+    void unitsAreInternedPerCode() {
+        assertThat(CurrencyUnit.of("USD")).isSameAs(CurrencyUnit.of("USD"));
+        assertThat(CurrencyUnit.of(Currency.getInstance("EUR"))).isSameAs(CurrencyUnit.of("EUR"));
+    }
+
+    @Test
+    void exponentFollowsTheMinorUnitOfTheCurrency() {
+        assertThat(CurrencyUnit.of("USD").getExponent()).isEqualTo(2);
+        assertThat(CurrencyUnit.of("USD").getMinorPerMajor()).isEqualTo(100);
+        assertThat(CurrencyUnit.of("KRW").getExponent()).isZero();
+        assertThat(CurrencyUnit.of("JPY").getMinorPerMajor()).isEqualTo(1);
+        assertThat(CurrencyUnit.of("KWD").getExponent()).isEqualTo(3);
+    }
+
+    @Test
+    void pseudoCurrenciesWithoutMinorUnitUseExponentZero() {
+        assertThat(CurrencyUnit.of("XAU").getExponent()).isZero();
+    }
+
+    @Test
+    void unknownCodesAreRejected() {
+        assertThatThrownBy(() -> CurrencyUnit.of("ZZZ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toMinorUnitsRescalesExactly() {
+        CurrencyUnit usd = CurrencyUnit.of("USD");
+
+        assertThat(usd.toMinorUnits(1234, 2)).isEqualTo(1234);
+        assertThat(usd.toMinorUnits(12340, 3)).isEqualTo(1234);
+        assertThat(usd.toMinorUnits(12, 0)).isEqualTo(1200);
+        assertThatThrownBy(() -> usd.toMinorUnits(12345, 3)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mycorp.finance.banking.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MinorMoneyTest {
+
+    private static final CurrencyUnit USD = CurrencyUnit.of("USD");
+    private static final CurrencyUnit KRW = CurrencyUnit.of("KRW");
+    private static final CurrencyUnit KWD = CurrencyUnit.of("KWD");
+
+    @Test
+    void ofMajorConvertsToMinorUnitsOfTheCurrencyExponent() {
+        assertThat(MinorMoney.ofMajor(new BigDecimal("12.34"), USD).getMinorUnits()).isEqualTo(1234);
+        assertThat(MinorMoney.ofMajor(new BigDecimal("1500"), KRW).getMinorUnits()).isEqualTo(1500);
+        assertThat(MinorMoney.ofMajor(new BigDecimal("1.005"), KWD).getMinorUnits()).isEqualTo(1005);
+        assertThat(MinorMoney.ofMajor(new BigDecimal("7"), USD).getMinorUnits()).isEqualTo(700);
+    }
+
+    @Test
+    void ofMajorRejectsAmountsThatNeedRounding() {
+        assertThatThrownBy(() -> MinorMoney.ofMajor(new BigDecimal("0.001"), USD))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MinorMoney.ofMajor(new BigDecimal("0.5"), KRW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ofMajorRejectsAmountsBeyondLongRange() {
+        assertThatThrownBy(() -> MinorMoney.ofMajor(new BigDecimal("1e18"), USD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ofMajorRejectsAMissingCurrencyByName() {
+        assertThatThrownBy(() -> MinorMoney.ofMajor(BigDecimal.ONE, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("currency");
+    }
+
+    @Test
+    void toMajorRoundTripsAtTheCurrencyScale() {
+        MinorMoney money = MinorMoney.ofMinor(1234, USD);
+
+        assertThat(money.toMajor()).isEqualTo(new BigDecimal("12.34"));
+        assertThat(MinorMoney.ofMajor(money.toMajor(), USD)).isEqualTo(money);
+        assertThat(money.toString()).isEqualTo("12.34 USD");
+    }
+
+    @Test
+    void arithmeticStaysInMinorUnits() {
+        MinorMoney a = MinorMoney.ofMinor(1000, USD);
+        MinorMoney b = MinorMoney.ofMinor(250, USD);
+
+        assertThat(a.add(b).getMinorUnits()).isEqualTo(1250);
+        assertThat(b.subtract(a).getMinorUnits()).isEqualTo(-750);
+        assertThat(b.subtract(a).isNegative()).isTrue();
+        assertThat(a.negate().getMinorUnits()).isEqualTo(-1000);
+        assertThat(b.isLessThan(a)).isTrue();
+        assertThat(a.compareTo(b)).isPositive();
+    }
+
+    @Test
+    void arithmeticOverflowFailsInsteadOfWrapping() {
+        MinorMoney max = MinorMoney.ofMinor(Long.MAX_VALUE, USD);
+
+        assertThatThrownBy(() -> max.add(MinorMoney.ofMinor(1, USD))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> MinorMoney.ofMinor(Long.MIN_VALUE, USD).negate()).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void mixingCurrenciesIsRejected() {
+        MinorMoney dollars = MinorMoney.ofMinor(100, USD);
+        MinorMoney won = MinorMoney.ofMinor(100, KRW);
+
+        assertThatThrownBy(() -> dollars.add(won)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dollars.isLessThan(won)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(dollars).isNotEqualTo(won);
+    }
+
+    @Test
+    void equalityUsesAmountAndCurrency() {
+        assertThat(MinorMoney.ofMinor(100, "USD")).isEqualTo(MinorMoney.ofMinor(100, USD));
+        assertThat(MinorMoney.ofMinor(100, "USD")).hasSameHashCodeAs(MinorMoney.ofMinor(100, USD));
+        assertThat(MinorMoney.ofMinor(100, USD)).isNotEqualTo(MinorMoney.ofMinor(101, USD));
+    }
+}
@@ -0,0 +1,31 @@
+package com.mycorp.finance.banking.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyTest {
+
+    @Test
+    void amountIsScaledToTheFractionDigitsOfTheCurrency() {
+        assertThat(Money.of(new BigDecimal("12.3"), Currency.getInstance("USD")).getAmount()).isEqualTo(new BigDecimal("12.30"));
+        assertThat(Money.of(new BigDecimal("1500"), Currency.getInstance("KRW")).getAmount()).isEqualTo(new BigDecimal("1500"));
+        assertThat(Money.of(new BigDecimal("1.005"), Currency.getInstance("KWD")).getAmount()).isEqualTo(new BigDecimal("1.005"));
+    }
+
+    @Test
+    void amountsFinerThanTheMinorUnitAreRoundedHalfEven() {
+        assertThat(Money.of(new BigDecimal("12.345"), Currency.getInstance("USD")).getAmount()).isEqualTo(new BigDecimal("12.34"));
+        assertThat(Money.of(new BigDecimal("1500.5"), Currency.getInstance("KRW")).getAmount()).isEqualTo(new BigDecimal("1500"));
+    }
+
+    @Test
+    void threeDigitCurrenciesConvertToMinorMoneyWithoutLosingTheLastDigit() {
+        Money money = Money.of(new BigDecimal("1.005"), Currency.getInstance("KWD"));
+
+        assertThat(money.toMinorMoney()).isEqualTo(MinorMoney.ofMinor(1005, "KWD"));
+    }
+}
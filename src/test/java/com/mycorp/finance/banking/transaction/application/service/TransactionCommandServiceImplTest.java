@@ -0,0 +1,125 @@
+package com.mycorp.finance.banking.transaction.application.service;
+
+import com.mycorp.finance.banking.account.domain.event.AccountEventPublisher;
+import com.mycorp.finance.banking.account.domain.model.Account;
+import com.mycorp.finance.banking.account.domain.model.enums.AccountStatus;
+import com.mycorp.finance.banking.account.domain.repository.AccountCommandRepository;
+import com.mycorp.finance.banking.common.AccountNumber;
+import com.mycorp.finance.banking.common.MinorMoney;
+import com.mycorp.finance.banking.transaction.application.dto.TransferCommand;
+import com.mycorp.finance.banking.transaction.domain.repository.TransactionCommandRepository;
+import com.mycorp.finance.banking.transaction.domain.service.TransferValidationService;
+import com.mycorp.finance.global.exception.BalanceUpdateConflictException;
+import com.mycorp.finance.global.exception.InsufficientBalanceException;
+import com.mycorp.finance.global.exception.UnauthorizedAccountAccessException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionCommandServiceImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final UUID OWNER = UUID.randomUUID();
+    private static final UUID LOW_ID = new UUID(0, 1);
+    private static final UUID HIGH_ID = new UUID(0, 2);
+
+    private final AccountCommandRepository accountCommandRepository = mock(AccountCommandRepository.class);
+    private final TransactionCommandRepository transactionCommandRepository = mock(TransactionCommandRepository.class);
+    private final AccountEventPublisher eventPublisher = mock(AccountEventPublisher.class);
+    private final TransactionCommandServiceImpl service = new TransactionCommandServiceImpl(
+            accountCommandRepository, transactionCommandRepository, new TransferValidationService(), eventPublisher, CLOCK);
+
+    @Test
+    void legsAreAppliedInAscendingAccountIdOrder() {
+        when(accountCommandRepository.applyBalanceDelta(HIGH_ID, usd(-1_000), NOW))
+                .thenReturn(Optional.of(account(HIGH_ID, OWNER, 9_000)));
+        when(accountCommandRepository.applyBalanceDelta(LOW_ID, usd(1_000), NOW))
+                .thenReturn(Optional.of(account(LOW_ID, UUID.randomUUID(), 1_000)));
+
+        String transactionId = service.transfer(transfer(OWNER, HIGH_ID, LOW_ID, "10.00"));
+
+        assertThat(transactionId).isNotBlank();
+        InOrder order = inOrder(accountCommandRepository);
+        order.verify(accountCommandRepository).applyBalanceDelta(LOW_ID, usd(1_000), NOW);
+        order.verify(accountCommandRepository).applyBalanceDelta(HIGH_ID, usd(-1_000), NOW);
+        verify(transactionCommandRepository).save(any());
+        verify(eventPublisher, times(2)).publishAccountUpdated(any());
+    }
+
+    @Test
+    void transferFromAnotherCustomersAccountIsRefused() {
+        when(accountCommandRepository.applyBalanceDelta(LOW_ID, usd(-1_000), NOW))
+                .thenReturn(Optional.of(account(LOW_ID, UUID.randomUUID(), 9_000)));
+        when(accountCommandRepository.applyBalanceDelta(HIGH_ID, usd(1_000), NOW))
+                .thenReturn(Optional.of(account(HIGH_ID, OWNER, 1_000)));
+
+        assertThatThrownBy(() -> service.transfer(transfer(OWNER, LOW_ID, HIGH_ID, "10.00")))
+                .isInstanceOf(UnauthorizedAccountAccessException.class);
+
+        verify(transactionCommandRepository, never()).save(any());
+        verify(eventPublisher, never()).publishAccountUpdated(any());
+    }
+
+    @Test
+    void rejectedDebitOfAnotherCustomersAccountRevealsNoReason() {
+        when(accountCommandRepository.applyBalanceDelta(eq(LOW_ID), any(), eq(NOW))).thenReturn(Optional.empty());
+        when(accountCommandRepository.findById(LOW_ID)).thenReturn(Optional.of(account(LOW_ID, UUID.randomUUID(), 0)));
+
+        assertThatThrownBy(() -> service.transfer(transfer(OWNER, LOW_ID, HIGH_ID, "10.00")))
+                .isInstanceOf(UnauthorizedAccountAccessException.class);
+    }
+
+    @Test
+    void rejectedDebitIsExplainedByTheReloadedAccounts() {
+        when(accountCommandRepository.applyBalanceDelta(eq(LOW_ID), any(), eq(NOW))).thenReturn(Optional.empty());
+        when(accountCommandRepository.findById(LOW_ID)).thenReturn(Optional.of(account(LOW_ID, OWNER, 500)));
+        when(accountCommandRepository.findById(HIGH_ID)).thenReturn(Optional.of(account(HIGH_ID, UUID.randomUUID(), 0)));
+
+        assertThatThrownBy(() -> service.transfer(transfer(OWNER, LOW_ID, HIGH_ID, "10.00")))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    void rejectionThatValidationCannotExplainIsAConflict() {
+        // The guard rejected the debit, but by the time the accounts are reloaded the funds are there
+        when(accountCommandRepository.applyBalanceDelta(eq(LOW_ID), any(), eq(NOW))).thenReturn(Optional.empty());
+        when(accountCommandRepository.findById(LOW_ID)).thenReturn(Optional.of(account(LOW_ID, OWNER, 50_000)));
+        when(accountCommandRepository.findById(HIGH_ID)).thenReturn(Optional.of(account(HIGH_ID, UUID.randomUUID(), 0)));
+
+        assertThatThrownBy(() -> service.transfer(transfer(OWNER, LOW_ID, HIGH_ID, "10.00")))
+                .isInstanceOf(BalanceUpdateConflictException.class);
+    }
+
+    private static TransferCommand transfer(UUID customerId, UUID source, UUID target, String amount) {
+        return new TransferCommand(customerId, source, target, new BigDecimal(amount), Currency.getInstance("USD"));
+    }
+
+    private static MinorMoney usd(long minorUnits) {
+        return MinorMoney.ofMinor(minorUnits, "USD");
+    }
+
+    private static Account account(UUID id, UUID customerId, long balance) {
+        return Account.reconstruct(id, AccountNumber.fromSequence(id.getLeastSignificantBits()), customerId,
+                usd(balance), AccountStatus.ACTIVE, 0, 1L, NOW, NOW);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycorp.finance.customer.infrastructure.persistence.repository.query;
+
+import com.mycorp.finance.customer.infrastructure.persistence.entity.query.CustomerReadEntity;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerReadBulkRepositoryTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final CustomerReadBulkRepository repository = new CustomerReadBulkRepository(jdbcTemplate);
+
+    @Test
+    void upsertOnlyReplacesOlderRowsAndNeverResurrectsTombstonedOnes() {
+        repository.upsertAll(List.of(customer(UUID.randomUUID(), 3L)));
+
+        String sql = capturedSql();
+        assertThat(sql)
+                .contains("WHERE customer_read.version < EXCLUDED.version OR EXCLUDED.version = 0")
+                .contains("SELECT 1 FROM customer_read_tombstones t WHERE t.id = :id"
+                        + " AND (t.version >= :version OR t.version = 0 OR :version = 0)");
+    }
+
+    @Test
+    void profileUpdatesOnlyApplyToOlderRowsAndCountWhatWasWritten() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1, 0, Statement.SUCCESS_NO_INFO});
+        List<CustomerReadEntity> profiles = List.of(
+                customer(UUID.randomUUID(), 2L), customer(UUID.randomUUID(), 5L), customer(UUID.randomUUID(), 0L));
+
+        int updated = repository.updateProfiles(profiles);
+
+        assertThat(updated).isEqualTo(2);
+        ArgumentCaptor<SqlParameterSource[]> parameters = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), parameters.capture());
+        assertThat(normalize(sql.getValue())).contains("WHERE id = :id AND (version < :version OR :version = 0)");
+        assertThat(parameters.getValue()).extracting(row -> row.getValue("version")).containsExactly(2L, 5L, 0L);
+    }
+
+    @Test
+    void deleteRecordsTheHighestTombstoneVersionAndOnlyRemovesOlderRows() {
+        UUID id = UUID.randomUUID();
+
+        repository.deleteAll(Map.of(id, 4L));
+
+        ArgumentCaptor<SqlParameterSource[]> parameters = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), parameters.capture());
+        assertThat(normalize(sql.getValue()))
+                .contains("SET version = GREATEST(customer_read_tombstones.version, EXCLUDED.version)")
+                .contains("DELETE FROM customer_read WHERE id = :id AND (version < :version OR :version = 0)");
+        assertThat(parameters.getValue()[0].getValue("id")).isEqualTo(id);
+        assertThat(parameters.getValue()[0].getValue("version")).isEqualTo(4L);
+    }
+
+    @Test
+    void deletedCustomersAreRecognisedByTheirTombstone() {
+        UUID id = UUID.randomUUID();
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+                .thenReturn(true);
+
+        assertThat(repository.isDeleted(id)).isTrue();
+    }
+
+    private String capturedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), any(SqlParameterSource[].class));
+        return normalize(sql.getValue());
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ");
+    }
+
+    private static CustomerReadEntity customer(UUID id, long version) {
+        CustomerReadEntity customer = mock(CustomerReadEntity.class);
+        when(customer.getId()).thenReturn(id);
+        when(customer.getName()).thenReturn("Jane Doe");
+        when(customer.getEmail()).thenReturn("jane@example.com");
+        when(customer.getVersion()).thenReturn(version);
+        return customer;
+    }
+}
@@ -0,0 +1,141 @@
+package com.mycorp.finance.customer.infrastructure.security;
+
+import com.mycorp.finance.global.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BcryptPasswordEncoderImplTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void encodedPasswordsMatchOnlyTheirRawPassword() {
+        try (BcryptPasswordEncoderImpl encoder = encoder(4, 2, 8, Duration.ofSeconds(5))) {
+            String hash = encoder.encode("s3cret!");
+
+            assertThat(encoder.matches("s3cret!", hash)).isTrue();
+            assertThat(encoder.matches("wrong", hash)).isFalse();
+            assertThat(outcomeCount("encode", "success")).isEqualTo(1);
+            assertThat(outcomeCount("matches", "success")).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void callsBeyondTheQueueAreRejectedAndQueuedCallsTimeOut() throws Exception {
+        // One worker busy with a slow hash (cost 14, about a second), one queue slot
+        try (BcryptPasswordEncoderImpl encoder = encoder(14, 1, 1, Duration.ofMillis(300))) {
+            ExecutorService callers = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> running = callers.submit(() -> encoder.encode("first"));
+                awaitGauge("executor.active", 1);
+                Future<String> queued = callers.submit(() -> encoder.encode("second"));
+                awaitGauge("executor.queued", 1);
+
+                assertThatThrownBy(() -> encoder.encode("third"))
+                        .isInstanceOf(PasswordHashingOverloadedException.class);
+
+                assertThatThrownBy(() -> queued.get(10, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(PasswordHashingOverloadedException.class);
+                assertThat(encoder.matches("first", running.get(30, TimeUnit.SECONDS))).isTrue();
+            } finally {
+                callers.shutdownNow();
+            }
+
+            assertThat(outcomeCount("encode", "rejected")).isEqualTo(1);
+            assertThat(outcomeCount("encode", "timeout")).isEqualTo(1);
+            assertThat(outcomeCount("encode", "success")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void timedOutCallsFreeTheirQueueSlot() throws Exception {
+        try (BcryptPasswordEncoderImpl encoder = encoder(14, 1, 1, Duration.ofMillis(200))) {
+            ExecutorService callers = Executors.newSingleThreadExecutor();
+            try {
+                Future<String> running = callers.submit(() -> encoder.encode("first"));
+                awaitGauge("executor.active", 1);
+
+                // Each call takes the single queue slot, times out and gives it back to the next one
+                assertThatThrownBy(() -> encoder.encode("second")).isInstanceOf(PasswordHashingOverloadedException.class);
+                assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(PasswordHashingOverloadedException.class);
+                assertThat(gauge("executor.queued")).isZero();
+
+                running.get(30, TimeUnit.SECONDS);
+            } finally {
+                callers.shutdownNow();
+            }
+
+            assertThat(outcomeCount("encode", "timeout")).isEqualTo(2);
+            assertThat(outcomeCount("encode", "rejected")).isZero();
+        }
+    }
+
+    @Test
+    void hashesOfTheConfiguredCostDoNotNeedRehash() {
+        try (BcryptPasswordEncoderImpl encoder = encoder(4, 1, 8, Duration.ofSeconds(5))) {
+            assertThat(encoder.needsRehash(encoder.encode("s3cret!"))).isFalse();
+        }
+        try (BcryptPasswordEncoderImpl encoder = encoder(10, 1, 8, Duration.ofSeconds(5))) {
+            assertThat(encoder.needsRehash("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isFalse();
+            assertThat(encoder.needsRehash("$2y$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isFalse();
+        }
+    }
+
+    @Test
+    void hashesOfAnotherCostNeedRehashInBothDirections() {
+        try (BcryptPasswordEncoderImpl encoder = encoder(10, 1, 8, Duration.ofSeconds(5))) {
+            assertThat(encoder.needsRehash("$2a$12$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isTrue();
+            assertThat(encoder.needsRehash("$2b$08$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isTrue();
+        }
+        try (BcryptPasswordEncoderImpl encoder = encoder(8, 1, 8, Duration.ofSeconds(5))) {
+            assertThat(encoder.needsRehash("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isTrue();
+        }
+    }
+
+    @Test
+    void unparsableHashesAreNotReportedForRehash() {
+        try (BcryptPasswordEncoderImpl encoder = encoder(10, 1, 8, Duration.ofSeconds(5))) {
+            assertThat(encoder.needsRehash(null)).isFalse();
+            assertThat(encoder.needsRehash("")).isFalse();
+            assertThat(encoder.needsRehash("plaintext")).isFalse();
+            assertThat(encoder.needsRehash("$2a$xx$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isFalse();
+            assertThat(encoder.needsRehash("$2a$10")).isFalse();
+        }
+    }
+
+    private BcryptPasswordEncoderImpl encoder(int strength, int threads, int queueCapacity, Duration queueTimeout) {
+        return new BcryptPasswordEncoderImpl(meterRegistry, strength, threads, queueCapacity, queueTimeout);
+    }
+
+    private long outcomeCount(String operation, String outcome) {
+        Timer timer = meterRegistry.find("password.hash").tag("operation", operation).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("name", "password-hashing").gauge().value();
+    }
+
+    private void awaitGauge(String name, double value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (gauge(name) != value) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(name + " did not reach " + value);
+            }
+            Thread.sleep(5);
+        }
+    }
+}
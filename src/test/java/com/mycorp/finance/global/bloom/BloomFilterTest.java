@@ -0,0 +1,87 @@
+package com.mycorp.finance.global.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<String> values = randomValues(10_000, 1);
+
+        values.forEach(filter::put);
+
+        // Lengths 0..40 cover every tail length of the 16-byte hash blocks
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void addedValuesAreFoundEvenWhenTheFilterIsOverfilled() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+        List<String> values = randomValues(5_000, 2);
+
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void concurrentPutsLoseNoValues() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(40_000, 0.01);
+        List<String> values = randomValues(40_000, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int t = 0; t < 4; t++) {
+            List<String> slice = values.subList(t * 10_000, (t + 1) * 10_000);
+            executor.execute(() -> slice.forEach(filter::put));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        randomValues(10_000, 4).forEach(filter::put);
+
+        long falsePositives = randomValues(10_000, 5).stream()
+                .map(value -> "absent-" + value)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives).isLessThan(300); // 1% target, generous margin
+    }
+
+    @Test
+    void invalidSizingIsRejected() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> randomValues(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = i % 41;
+            for (int c = 0; c < length; c++) {
+                value.append((char) ('a' + random.nextInt(26)));
+            }
+            values.add(value.append('#').append(i).toString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,111 @@
+package com.mycorp.finance.global.bloom;
+
+import com.mycorp.finance.global.projection.ProjectionEventReplayer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NegativeLookupFilterFeedTest {
+
+    private static final String GROUP = "account-query-group";
+    private static final List<String> TOPICS = List.of("account-events-topic");
+    private static final TopicPartition P0 = new TopicPartition("account-events-topic", 0);
+    private static final TopicPartition P1 = new TopicPartition("account-events-topic", 1);
+
+    private final List<String> steps = new ArrayList<>();
+    private final List<String> table = new ArrayList<>(List.of("ACCT-1", "ACCT-2", "ACCT-3"));
+    private final ProjectionEventReplayer replayer = mock(ProjectionEventReplayer.class);
+    private final KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+    private final TableFilter filter = new TableFilter();
+    private final TestFeed feed = new TestFeed();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(registry.getListenerContainer("testFeed")).thenReturn(container);
+        doAnswer(invocation -> steps.add("listener")).when(container).start();
+        when(replayer.committedOffsets(GROUP, TOPICS)).thenAnswer(invocation -> {
+            steps.add("offsets");
+            return Map.of(P0, 42L);
+        });
+    }
+
+    @Test
+    void coldFilterAnswersMaybeForEveryKey() {
+        assertThat(filter.mightContain("ACCT-UNKNOWN")).isTrue();
+    }
+
+    @Test
+    void offsetsAreRecordedBeforeTheListenerStartsAndTheTableIsScannedLast() {
+        feed.start();
+
+        assertThat(steps).containsExactly("offsets", "listener", "scan");
+    }
+
+    @Test
+    void warmFilterFindsScannedAndFedKeysAndRejectsOthers() {
+        feed.start();
+        feed.add("ACCT-9");
+
+        assertThat(List.of("ACCT-1", "ACCT-2", "ACCT-3", "ACCT-9")).allMatch(filter::mightContain);
+        assertThat(filter.mightContain("ACCT-UNKNOWN")).isFalse();
+    }
+
+    @Test
+    void filterStaysColdWhenTheProjectionOffsetsCannotBeRead() throws Exception {
+        when(replayer.committedOffsets(GROUP, TOPICS)).thenThrow(new TimeoutException("broker unavailable"));
+
+        feed.start();
+
+        verify(container, never()).start();
+        assertThat(steps).doesNotContain("scan");
+        assertThat(filter.mightContain("ACCT-UNKNOWN")).isTrue();
+    }
+
+    @Test
+    void assignedPartitionsStartAtTheRecordedOffsetsAndNewOnesAtTheBeginning() {
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+        feed.start();
+
+        feed.onPartitionsAssigned(Map.of(P0, 0L, P1, 0L), callback);
+
+        verify(callback).seek("account-events-topic", 0, 42L);
+        verify(callback).seekToBeginning("account-events-topic", 1);
+    }
+
+    private class TableFilter extends NegativeLookupFilter {
+
+        TableFilter() {
+            super("test", 1_000, 0.01, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public void warm() {
+            steps.add("scan");
+            warm((after, limit) -> table.stream().filter(key -> key.compareTo(after) > 0).limit(limit).toList(), 2);
+        }
+    }
+
+    private class TestFeed extends NegativeLookupFilterFeed {
+
+        TestFeed() {
+            super(filter, replayer, registry, "testFeed", GROUP, TOPICS);
+        }
+    }
+}
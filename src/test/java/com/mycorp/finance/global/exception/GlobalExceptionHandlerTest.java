@@ -0,0 +1,31 @@
+package com.mycorp.finance.global.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void saturatedPasswordHashingIsAnsweredWith429AndRetryAfter() {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/auth/login"));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handlePasswordHashingOverloaded(
+                new PasswordHashingOverloadedException("Authentication is overloaded, retry later"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).satisfies(error -> {
+            assertThat(error.status()).isEqualTo(429);
+            assertThat(error.message()).isEqualTo("Authentication is overloaded, retry later");
+            assertThat(error.path()).isEqualTo("/api/auth/login");
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycorp.finance.global.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyOrderedExecutorTest {
+
+    private record Item(int key, int seq) {
+    }
+
+    @Test
+    void itemsOfOneKeyAreAppliedInOrderOnOneLane() {
+        List<Item> items = new ArrayList<>();
+        for (int seq = 0; seq < 2_000; seq++) {
+            items.add(new Item(seq % 37, seq));
+        }
+        Map<Integer, List<Integer>> applied = new ConcurrentHashMap<>();
+        Map<Integer, Set<String>> threadsPerKey = new ConcurrentHashMap<>();
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor("test-lane", 4)) {
+            int written = executor.process(items, Item::key, batch -> {
+                for (Item item : batch) {
+                    applied.computeIfAbsent(item.key(), key -> new CopyOnWriteArrayList<>()).add(item.seq());
+                    threadsPerKey.computeIfAbsent(item.key(), key -> ConcurrentHashMap.newKeySet())
+                            .add(Thread.currentThread().getName());
+                }
+                return batch.size();
+            });
+
+            assertThat(written).isEqualTo(items.size());
+        }
+
+        assertThat(applied).hasSize(37);
+        applied.values().forEach(seqs -> assertThat(seqs).isSorted());
+        threadsPerKey.values().forEach(threads -> assertThat(threads).hasSize(1));
+    }
+
+    @Test
+    void batchesAreSplitAcrossLanes() {
+        List<Item> items = new ArrayList<>();
+        for (int seq = 0; seq < 100; seq++) {
+            items.add(new Item(seq, seq));
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor("test-lane", 4)) {
+            executor.process(items, Item::key, batch -> {
+                threads.add(Thread.currentThread().getName());
+                return batch.size();
+            });
+        }
+
+        assertThat(threads).hasSize(4).allMatch(name -> name.startsWith("test-lane-"));
+    }
+
+    @Test
+    void singleLaneRunsTheWholeBatchOnTheCallingThread() {
+        List<Item> items = List.of(new Item(1, 0), new Item(2, 1), new Item(1, 2));
+        List<List<Item>> batches = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor("test-lane", 1)) {
+            executor.process(items, Item::key, batch -> {
+                batches.add(batch);
+                threads.add(Thread.currentThread());
+                return batch.size();
+            });
+        }
+
+        assertThat(batches).containsExactly(items);
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void failingLaneFailsTheBatchWithItsOwnException() {
+        List<Item> items = List.of(new Item(0, 0), new Item(1, 1), new Item(2, 2), new Item(3, 3));
+
+        try (KeyOrderedExecutor executor = new KeyOrderedExecutor("test-lane", 4)) {
+            assertThatThrownBy(() -> executor.process(items, Item::key, batch -> {
+                if (batch.get(0).key() == 2) {
+                    throw new IllegalStateException("lane failed");
+                }
+                return batch.size();
+            })).isInstanceOf(IllegalStateException.class).hasMessage("lane failed");
+        }
+    }
+
+    @Test
+    void nonPositiveLaneCountIsRejected() {
+        assertThatThrownBy(() -> new KeyOrderedExecutor("test-lane", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
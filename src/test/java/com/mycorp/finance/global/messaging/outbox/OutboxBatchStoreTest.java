@@ -0,0 +1,73 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxBatchStoreTest {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository = mock(OutboxEventJpaRepository.class);
+    private final OutboxRelayLeaseJpaRepository leaseJpaRepository = mock(OutboxRelayLeaseJpaRepository.class);
+    private final OutboxBatchStore store = new OutboxBatchStore(outboxEventJpaRepository, leaseJpaRepository);
+
+    @Test
+    void leaseIsTakenByItsOwnerOrOnceExpiredOnTheDatabaseClock() throws NoSuchMethodException {
+        String sql = OutboxRelayLeaseJpaRepository.class
+                .getMethod("acquire", String.class, String.class, long.class)
+                .getAnnotation(Query.class).value()
+                .replaceAll("\\s+", " ");
+
+        assertThat(sql)
+                .contains("VALUES (:name, :owner, now() + :leaseMs * interval '1 millisecond')")
+                .contains("WHERE outbox_relay_leases.owner = EXCLUDED.owner OR outbox_relay_leases.expires_at < now()");
+    }
+
+    @Test
+    void claimReadsNothingWithoutTheLease() {
+        when(leaseJpaRepository.acquire("outbox-relay", "relay-1", 30_000L)).thenReturn(0);
+
+        assertThat(store.claim("relay-1", 30_000L, 100)).isEmpty();
+
+        verify(outboxEventJpaRepository, never()).findByOrderByIdAsc(any());
+    }
+
+    @Test
+    void claimReadsTheOldestEventsUnderTheLease() {
+        OutboxEventEntity event = mock(OutboxEventEntity.class);
+        when(leaseJpaRepository.acquire("outbox-relay", "relay-1", 30_000L)).thenReturn(1);
+        when(outboxEventJpaRepository.findByOrderByIdAsc(Limit.of(100))).thenReturn(List.of(event));
+
+        assertThat(store.claim("relay-1", 30_000L, 100)).containsExactly(event);
+    }
+
+    @Test
+    void renewReportsALostLease() {
+        when(leaseJpaRepository.acquire("outbox-relay", "relay-1", 30_000L)).thenReturn(0);
+
+        assertThat(store.renew("relay-1", 30_000L)).isFalse();
+    }
+
+    @Test
+    void emptyAcknowledgementsDeleteNothing() {
+        store.delete(List.of());
+
+        verifyNoInteractions(outboxEventJpaRepository);
+    }
+
+    @Test
+    void acknowledgedEventsAreDeletedInOneBatch() {
+        store.delete(List.of(1L, 2L));
+
+        verify(outboxEventJpaRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+}
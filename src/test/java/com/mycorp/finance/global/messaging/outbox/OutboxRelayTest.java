@@ -0,0 +1,146 @@
+package com.mycorp.finance.global.messaging.outbox;
+
+import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent;
+import org.apache.avro.specific.SpecificRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final String TOPIC = "customer-deleted";
+
+    private final OutboxBatchStore outboxBatchStore = mock(OutboxBatchStore.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OutboxRelay relay = new OutboxRelay(outboxBatchStore, kafkaTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(relay, "leaseMs", 30_000L);
+        when(outboxBatchStore.renew(anyString(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void nothingIsSentWhileAnotherInstanceHoldsTheLease() {
+        when(outboxBatchStore.claim(anyString(), eq(30_000L), eq(100))).thenReturn(List.of());
+
+        assertThat(relay.relayBatch()).isZero();
+
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxBatchStore, never()).delete(any());
+    }
+
+    @Test
+    void acknowledgedEventsAreDeletedAfterTheFlush() {
+        claimed(event(1L, "a"), event(2L, "b"));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any(SpecificRecord.class))).thenReturn(acked());
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        InOrder order = inOrder(kafkaTemplate, outboxBatchStore);
+        order.verify(kafkaTemplate).flush();
+        order.verify(outboxBatchStore).delete(List.of(1L, 2L));
+        verify(outboxBatchStore, never()).renew(anyString(), anyLong());
+    }
+
+    @Test
+    void eventsOfOneKeyAreSentInWavesAndTheLeaseIsRenewedBetweenThem() {
+        claimed(event(1L, "a"), event(2L, "a"), event(3L, "b"));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any(SpecificRecord.class))).thenReturn(acked());
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+
+        InOrder order = inOrder(kafkaTemplate, outboxBatchStore);
+        order.verify(kafkaTemplate).send(eq(TOPIC), eq("a"), any(SpecificRecord.class));
+        order.verify(kafkaTemplate).send(eq(TOPIC), eq("b"), any(SpecificRecord.class));
+        order.verify(kafkaTemplate).flush();
+        order.verify(outboxBatchStore).renew(anyString(), eq(30_000L));
+        order.verify(kafkaTemplate).send(eq(TOPIC), eq("a"), any(SpecificRecord.class));
+        order.verify(kafkaTemplate).flush();
+        order.verify(outboxBatchStore).delete(List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    void lostLeaseStopsTheRunButStillDeletesWhatWasAcknowledged() {
+        claimed(event(1L, "a"), event(2L, "a"));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any(SpecificRecord.class))).thenReturn(acked());
+        when(outboxBatchStore.renew(anyString(), anyLong())).thenReturn(false);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), eq("a"), any(SpecificRecord.class));
+        verify(outboxBatchStore).delete(List.of(1L));
+    }
+
+    @Test
+    void onceAKeyFailsItsLaterEventsStayInTheOutbox() {
+        claimed(event(1L, "a"), event(2L, "b"), event(3L, "a"));
+        when(kafkaTemplate.send(eq(TOPIC), eq("a"), any(SpecificRecord.class))).thenReturn(failed(), acked());
+        when(kafkaTemplate.send(eq(TOPIC), eq("b"), any(SpecificRecord.class))).thenReturn(acked());
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), eq("a"), any(SpecificRecord.class));
+        verify(outboxBatchStore).delete(List.of(2L));
+    }
+
+    @Test
+    void undecodablePayloadIsKeptLikeAFailedSend() {
+        OutboxEventEntity unknown = OutboxEventEntity.of(TOPIC, "a", "com.example.RemovedEvent", new byte[0], LocalDateTime.now());
+        ReflectionTestUtils.setField(unknown, "id", 1L);
+        claimed(unknown, event(2L, "b"));
+        when(kafkaTemplate.send(eq(TOPIC), eq("b"), any(SpecificRecord.class))).thenReturn(acked());
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        verify(kafkaTemplate, never()).send(eq(TOPIC), eq("a"), any(SpecificRecord.class));
+        verify(outboxBatchStore).delete(List.of(2L));
+    }
+
+    private void claimed(OutboxEventEntity... events) {
+        when(outboxBatchStore.claim(anyString(), anyLong(), anyInt())).thenReturn(List.of(events));
+    }
+
+    private static OutboxEventEntity event(long id, String key) {
+        CustomerDeletedEvent payload = CustomerDeletedEvent.newBuilder()
+                .setCustomerId(key)
+                .setDeletedAt("2025-06-01T12:00:00")
+                .build();
+        OutboxEventEntity event = OutboxEventEntity.of(TOPIC, key, CustomerDeletedEvent.class.getName(),
+                OutboxPayloadCodec.encode(payload), LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private static CompletableFuture<SendResult<String, SpecificRecord>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, SpecificRecord>> failed() {
+        return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+    }
+}
@@ -0,0 +1,221 @@
+package com.mycorp.finance.global.projection;
+
+import com.mycorp.finance.customer.infrastructure.messaging.schema.CustomerDeletedEvent;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectionRebuildServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final Map<TopicPartition, Long> OFFSETS = Map.of(new TopicPartition("account-updated", 0), 42L);
+
+    private final ProjectionTableSwapper tableSwapper = mock(ProjectionTableSwapper.class);
+    private final ProjectionEventReplayer eventReplayer = mock(ProjectionEventReplayer.class);
+    private final FakeRebuilder rebuilder = new FakeRebuilder(5);
+
+    private ProjectionRebuildService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(eventReplayer.committedOffsets("account-projection", List.of("account-updated"))).thenReturn(OFFSETS);
+        when(tableSwapper.createShadow("account_read")).thenReturn("account_read_rebuild");
+
+        service = new ProjectionRebuildService(List.of(rebuilder), tableSwapper, eventReplayer, CLOCK);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void rebuildCopiesAllPagesIntoTheShadowSwapsItInAndReplaysFromTheRecordedOffsets() throws Exception {
+        assertThat(service.start("account")).isPresent();
+
+        ProjectionRebuildStatus status = awaitFinished("account");
+
+        assertThat(status.state()).isEqualTo(ProjectionRebuildStatus.State.COMPLETED);
+        assertThat(status.totalRows()).isEqualTo(5);
+        assertThat(status.copiedRows()).isEqualTo(5);
+        assertThat(rebuilder.inserted).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(rebuilder.inserted.stream().flatMap(List::stream)).containsExactlyElementsOf(rebuilder.source);
+
+        assertThat(rebuilder.swapped).isTrue();
+
+        InOrder order = inOrder(eventReplayer, tableSwapper);
+        order.verify(eventReplayer).committedOffsets("account-projection", List.of("account-updated"));
+        order.verify(tableSwapper).createShadow("account_read");
+        order.verify(tableSwapper).swap("account_read", "account_read_rebuild");
+        order.verify(eventReplayer).replay(eq("account-projection"), eq(OFFSETS), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replayedEventsAreAppliedByTheRebuilder() throws Exception {
+        service.start("account");
+        awaitFinished("account");
+
+        ArgumentCaptor<ToIntFunction<List<SpecificRecord>>> apply = ArgumentCaptor.forClass(ToIntFunction.class);
+        verify(eventReplayer).replay(eq("account-projection"), eq(OFFSETS), apply.capture());
+        List<SpecificRecord> events = List.of(CustomerDeletedEvent.newBuilder()
+                .setCustomerId(UUID.randomUUID().toString())
+                .setDeletedAt("2025-06-01T12:00:00")
+                .build());
+
+        assertThat(apply.getValue().applyAsInt(events)).isEqualTo(1);
+        assertThat(rebuilder.replayed).containsExactly(events);
+    }
+
+    @Test
+    void failedRebuildKeepsTheLiveTableAndReplaysNothing() throws Exception {
+        rebuilder.failOnInsert = new IllegalStateException("query DB unavailable");
+
+        service.start("account");
+        ProjectionRebuildStatus status = awaitFinished("account");
+
+        assertThat(status.state()).isEqualTo(ProjectionRebuildStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("query DB unavailable");
+        verify(tableSwapper, never()).swap(anyString(), anyString());
+        verify(eventReplayer, never()).replay(anyString(), any(), any());
+        assertThat(rebuilder.swapped).isFalse();
+    }
+
+    @Test
+    void secondStartWhileRunningIsRefused() throws Exception {
+        rebuilder.blockLoads = new CountDownLatch(1);
+
+        assertThat(service.start("account")).isPresent();
+        assertThat(service.start("account")).isEmpty();
+
+        rebuilder.blockLoads.countDown();
+        assertThat(awaitFinished("account").state()).isEqualTo(ProjectionRebuildStatus.State.COMPLETED);
+        assertThat(service.start("account")).isPresent();
+        awaitFinished("account");
+    }
+
+    @Test
+    void unknownProjectionIsRejected() {
+        assertThatThrownBy(() -> service.start("ledger")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProjectionRebuildStatus awaitFinished(String projection) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            ProjectionRebuildStatus status = service.status(projection).orElseThrow();
+            if (status.state() != ProjectionRebuildStatus.State.RUNNING) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Rebuild of " + projection + " did not finish");
+    }
+
+    private static final class FakeRebuilder implements ProjectionRebuilder<UUID> {
+
+        private final List<UUID> source;
+        private final List<List<UUID>> inserted = new ArrayList<>();
+        private final List<List<SpecificRecord>> replayed = new ArrayList<>();
+        private volatile boolean swapped;
+        private volatile RuntimeException failOnInsert;
+        private volatile CountDownLatch blockLoads;
+
+        private FakeRebuilder(int rows) {
+            this.source = LongStream.rangeClosed(1, rows).mapToObj(i -> new UUID(0, i)).toList();
+        }
+
+        @Override
+        public String name() {
+            return "account";
+        }
+
+        @Override
+        public String readTable() {
+            return "account_read";
+        }
+
+        @Override
+        public String consumerGroup() {
+            return "account-projection";
+        }
+
+        @Override
+        public List<String> topics() {
+            return List.of("account-updated");
+        }
+
+        @Override
+        public long countSourceRows() {
+            return source.size();
+        }
+
+        @Override
+        public List<UUID> loadChunk(UUID afterId, int limit) {
+            CountDownLatch latch = blockLoads;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return source.stream()
+                    .filter(id -> afterId == null || id.compareTo(afterId) > 0)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public UUID idOf(UUID row) {
+            return row;
+        }
+
+        @Override
+        public void insertChunk(String table, List<UUID> rows) {
+            if (failOnInsert != null) {
+                throw failOnInsert;
+            }
+            inserted.add(rows);
+        }
+
+        @Override
+        public void afterSwap() {
+            swapped = true;
+        }
+
+        @Override
+        public int replay(List<SpecificRecord> events) {
+            replayed.add(events);
+            return events.size();
+        }
+    }
+}
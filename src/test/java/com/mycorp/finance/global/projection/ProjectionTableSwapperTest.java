@@ -0,0 +1,46 @@
+package com.mycorp.finance.global.projection;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectionTableSwapperTest {
+
+    private final JdbcOperations jdbc = mock(JdbcOperations.class);
+    private final ProjectionTableSwapper tableSwapper = new ProjectionTableSwapper(jdbcTemplate(jdbc));
+
+    @Test
+    void shadowTableIsRecreatedLikeTheLiveTable() {
+        String shadow = tableSwapper.createShadow("account_read");
+
+        assertThat(shadow).isEqualTo("account_read_rebuild");
+        InOrder order = inOrder(jdbc);
+        order.verify(jdbc).execute("DROP TABLE IF EXISTS account_read_rebuild");
+        order.verify(jdbc).execute("CREATE TABLE account_read_rebuild (LIKE account_read INCLUDING ALL)");
+    }
+
+    @Test
+    void swapAnalyzesTheShadowAndRenamesItOverTheLiveTable() {
+        tableSwapper.swap("account_read", "account_read_rebuild");
+
+        InOrder order = inOrder(jdbc);
+        order.verify(jdbc).execute("ANALYZE account_read_rebuild");
+        order.verify(jdbc).execute("DROP TABLE IF EXISTS account_read_retired");
+        order.verify(jdbc).execute("ALTER TABLE account_read RENAME TO account_read_retired");
+        order.verify(jdbc).execute("ALTER TABLE account_read_rebuild RENAME TO account_read");
+        order.verify(jdbc).execute("DROP TABLE account_read_retired");
+        order.verifyNoMoreInteractions();
+    }
+
+    private static NamedParameterJdbcTemplate jdbcTemplate(JdbcOperations jdbc) {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbc);
+        return jdbcTemplate;
+    }
+}
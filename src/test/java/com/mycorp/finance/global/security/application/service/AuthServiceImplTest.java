@@ -0,0 +1,193 @@
+package com.mycorp.finance.global.security.application.service;
+
+import com.mycorp.finance.customer.domain.model.vo.Email;
+import com.mycorp.finance.customer.domain.model.vo.Password;
+import com.mycorp.finance.global.exception.InvalidRefreshTokenException;
+import com.mycorp.finance.global.security.application.dto.TokenResponse;
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+import com.mycorp.finance.global.security.domain.model.AuthUser;
+import com.mycorp.finance.global.security.domain.model.RefreshToken;
+import com.mycorp.finance.global.security.domain.repository.AuthRepository;
+import com.mycorp.finance.global.security.domain.repository.RefreshTokenRepository;
+import com.mycorp.finance.global.security.infrastructure.config.PasswordEncoder;
+import com.mycorp.finance.global.security.infrastructure.jwt.JwtKeyRing;
+import com.mycorp.finance.global.security.infrastructure.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final Duration TTL = Duration.ofDays(30);
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private final AuthRepository authRepository = mock(AuthRepository.class);
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthServiceImpl(authRepository, refreshTokenRepository, passwordEncoder,
+                jwtTokenProvider, mock(JwtKeyRing.class), Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(authService, "accessTokenValidityMs", 900_000L);
+        ReflectionTestUtils.setField(authService, "refreshTokenTtl", TTL);
+
+        when(jwtTokenProvider.createToken(any(), any())).thenReturn("access-token");
+        when(authRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(user(AuthRole.CUSTOMER)));
+    }
+
+    @Test
+    void loginStartsATokenFamilyStoringOnlyTheHash() {
+        when(authRepository.findByEmail("jane@example.com")).thenReturn(Optional.of(user(AuthRole.CUSTOMER)));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+
+        TokenResponse response = authService.login(new Email("jane@example.com"), "s3cret!");
+
+        RefreshToken issued = savedToken();
+        assertThat(response.token()).isEqualTo("access-token");
+        assertThat(response.expiresIn()).isEqualTo(900);
+        assertThat(issued.getTokenHash()).isEqualTo(sha256(response.refreshToken())).isNotEqualTo(response.refreshToken());
+        assertThat(issued.getCustomerId()).isEqualTo(CUSTOMER_ID);
+        assertThat(issued.getExpiresAt()).isEqualTo(NOW.plus(TTL));
+        assertThat(issued.isConsumed()).isFalse();
+    }
+
+    @Test
+    void refreshRotatesTheTokenWithinItsFamily() {
+        RefreshToken current = stored("presented", null, null, NOW.plus(TTL));
+
+        TokenResponse response = authService.refresh("presented");
+
+        verify(refreshTokenRepository).markRotated(current.getId(), NOW);
+        RefreshToken next = savedToken();
+        assertThat(next.getId()).isNotEqualTo(current.getId());
+        assertThat(next.getFamilyId()).isEqualTo(current.getFamilyId());
+        assertThat(next.getCustomerId()).isEqualTo(CUSTOMER_ID);
+        assertThat(next.getTokenHash()).isEqualTo(sha256(response.refreshToken()));
+        assertThat(next.getExpiresAt()).isEqualTo(NOW.plus(TTL));
+        assertThat(response.refreshToken()).isNotEqualTo("presented");
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void refreshReadsTheCurrentRole() {
+        when(authRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(user(AuthRole.ADMIN)));
+        stored("presented", null, null, NOW.plus(TTL));
+
+        authService.refresh("presented");
+
+        verify(jwtTokenProvider).createToken(CUSTOMER_ID, AuthRole.ADMIN);
+    }
+
+    @Test
+    void replayedRotatedTokenRevokesItsWholeFamily() {
+        RefreshToken current = stored("presented", NOW.minusSeconds(60), null, NOW.plus(TTL));
+
+        assertThatThrownBy(() -> authService.refresh("presented"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId(), NOW);
+        verify(refreshTokenRepository, never()).markRotated(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+        verify(jwtTokenProvider, never()).createToken(any(), any());
+    }
+
+    @Test
+    void replayedRevokedTokenRevokesItsWholeFamily() {
+        RefreshToken current = stored("presented", null, NOW.minusSeconds(60), NOW.plus(TTL));
+
+        assertThatThrownBy(() -> authService.refresh("presented"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId(), NOW);
+    }
+
+    @Test
+    void revocationOfAReplayIsCommittedDespiteTheRejection() throws NoSuchMethodException {
+        Transactional transactional = AuthServiceImpl.class.getMethod("refresh", String.class)
+                .getAnnotation(Transactional.class);
+
+        assertThat(transactional.noRollbackFor()).contains(InvalidRefreshTokenException.class);
+        assertThat(transactional.readOnly()).isFalse();
+    }
+
+    @Test
+    void expiredTokenIsRejectedWithoutRevokingTheFamily() {
+        stored("presented", null, null, NOW);
+
+        assertThatThrownBy(() -> authService.refresh("presented"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.refresh("unknown"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void logoutRevokesTheFamilyOfTheToken() {
+        RefreshToken current = stored("presented", null, null, NOW.plus(TTL));
+
+        authService.logout("presented");
+
+        verify(refreshTokenRepository).revokeFamily(current.getFamilyId(), NOW);
+    }
+
+    private RefreshToken stored(String value, Instant rotatedAt, Instant revokedAt, Instant expiresAt) {
+        RefreshToken token = RefreshToken.reconstruct(UUID.randomUUID(), CUSTOMER_ID, UUID.randomUUID(),
+                sha256(value), expiresAt, rotatedAt, revokedAt);
+        when(refreshTokenRepository.findByTokenHashForUpdate(sha256(value))).thenReturn(Optional.of(token));
+        return token;
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private static AuthUser user(AuthRole role) {
+        return AuthUser.fromExisting(CUSTOMER_ID, new Email("jane@example.com"), Password.fromHashed("$2a$10$hash"), role);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-secret-key-of-at-least-thirty-two-bytes";
+
+    @Test
+    void asymmetricTokensRoundTripAndCarryTheActiveKeyId() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtKeyRing ring = ring("ES256", "", properties("es-1", key("es-1", pair, true)));
+        JwtTokenProvider provider = provider(ring);
+        UUID customerId = UUID.randomUUID();
+
+        String token = provider.createToken(customerId, AuthRole.CUSTOMER);
+
+        assertThat(customerOf(provider, token)).contains(customerId);
+        assertThat(Jwts.parserBuilder().setSigningKey(pair.getPublic()).build().parseClaimsJws(token).getHeader().getKeyId())
+                .isEqualTo("es-1");
+    }
+
+    @Test
+    void tokensWithoutRoleClaimAreCustomerTokens() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtKeyRing ring = ring("RS256", "", properties("rs-1", key("rs-1", pair, true)));
+        UUID customerId = UUID.randomUUID();
+        String withoutRole = Jwts.builder()
+                .setHeaderParam("kid", "rs-1")
+                .setSubject(customerId.toString())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(pair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertThat(provider(ring).authenticate(withoutRole)).contains(new VerifiedJwt(customerId, AuthRole.CUSTOMER));
+        assertThat(provider(ring).authenticate(provider(ring).createToken(customerId, AuthRole.ADMIN)))
+                .contains(new VerifiedJwt(customerId, AuthRole.ADMIN));
+    }
+
+    @Test
+    void retiredKeysKeepVerifyingWhileTheActiveKeySignsNewTokens() {
+        KeyPair retired = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        KeyPair active = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtTokenProvider before = provider(ring("RS256", "", properties("rs-1", key("rs-1", retired, true))));
+        JwtTokenProvider after = provider(ring("RS256", "",
+                properties("rs-2", key("rs-1", retired, false), key("rs-2", active, true))));
+        UUID customerId = UUID.randomUUID();
+
+        assertThat(customerOf(after, before.createToken(customerId, AuthRole.CUSTOMER))).contains(customerId);
+        assertThat(customerOf(before, after.createToken(customerId, AuthRole.CUSTOMER))).isEmpty();
+    }
+
+    @Test
+    void tokensWithoutKeyIdOnlyVerifyAgainstTheSharedSecret() {
+        JwtKeyRing hmac = ring("HS256", SECRET, new JwtKeyRingProperties());
+        JwtKeyRing switched = ring("RS256", SECRET,
+                properties("rs-1", key("rs-1", Keys.keyPairFor(SignatureAlgorithm.RS256), true)));
+        JwtKeyRing withoutSecret = ring("RS256", "",
+                properties("rs-1", key("rs-1", Keys.keyPairFor(SignatureAlgorithm.RS256), true)));
+        UUID customerId = UUID.randomUUID();
+        String legacyToken = provider(hmac).createToken(customerId, AuthRole.CUSTOMER);
+
+        assertThat(customerOf(provider(switched), legacyToken)).contains(customerId);
+        assertThat(customerOf(provider(withoutSecret), legacyToken)).isEmpty();
+    }
+
+    @Test
+    void hmacTokenNamingAnAsymmetricKeyIsRejected() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtKeyRing ring = ring("RS256", SECRET, properties("rs-1", key("rs-1", pair, true)));
+        String forged = Jwts.builder()
+                .setHeaderParam("kid", "rs-1")
+                .setSubject(UUID.randomUUID().toString())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(customerOf(provider(ring), forged)).isEmpty();
+    }
+
+    @Test
+    void verifyOnlyNodeCannotSign() {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtKeyRing ring = ring("RS256", "", properties(null, key("rs-1", pair, false)));
+
+        assertThatThrownBy(() -> provider(ring).createToken(UUID.randomUUID(), AuthRole.CUSTOMER)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void activeKeyMustBeListed() {
+        assertThatThrownBy(() -> ring("RS256", "",
+                properties("rs-9", key("rs-1", Keys.keyPairFor(SignatureAlgorithm.RS256), true))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void jwksPublishesEveryPublicKeyAndParsesBackToTheSameKey() {
+        KeyPair rsa = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtKeyRing ring = ring("RS256", "", properties("rs-1", key("rs-1", rsa, true)));
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) ring.jwks().get("keys");
+
+        assertThat(keys).singleElement().satisfies(jwk -> {
+            assertThat(jwk).containsEntry("kid", "rs-1").containsEntry("alg", "RS256").containsEntry("use", "sig")
+                    .doesNotContainKeys("d", "p", "q");
+            assertThat(Jwks.fromJwk(jwk)).isEqualTo(rsa.getPublic());
+        });
+    }
+
+    @Test
+    void ecJwkRoundTripsThroughFixedLengthCoordinates() {
+        PublicKey key = Keys.keyPairFor(SignatureAlgorithm.ES256).getPublic();
+
+        Map<String, Object> jwk = Jwks.toJwk("es-1", SignatureAlgorithm.ES256, key);
+
+        assertThat(Base64.getUrlDecoder().decode((String) jwk.get("x"))).hasSize(32);
+        assertThat(Base64.getUrlDecoder().decode((String) jwk.get("y"))).hasSize(32);
+        assertThat(Jwks.fromJwk(jwk)).isEqualTo(key);
+    }
+
+    @Test
+    void verifyOnlyNodeLoadsTheIssuersKeysFromItsJwksEndpoint() throws Exception {
+        JwtKeyRing issuer = ring("ES256", "", properties("es-1", key("es-1", Keys.keyPairFor(SignatureAlgorithm.ES256), true)));
+        AtomicReference<byte[]> published = new AtomicReference<>(new ObjectMapper().writeValueAsBytes(issuer.jwks()));
+        HttpServer server = jwksServer(published);
+        try {
+            JwtTokenProvider verifier = provider(ring("ES256", "", remote(server)));
+            UUID customerId = UUID.randomUUID();
+
+            assertThat(customerOf(verifier, provider(issuer).createToken(customerId, AuthRole.CUSTOMER))).contains(customerId);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void refreshDroppingAKeyClearsTheVerificationCache() throws Exception {
+        JwtKeyRing issuer = ring("ES256", "", properties("es-1", key("es-1", Keys.keyPairFor(SignatureAlgorithm.ES256), true)));
+        JwtKeyRing successor = ring("ES256", "", properties("es-2", key("es-2", Keys.keyPairFor(SignatureAlgorithm.ES256), true)));
+        AtomicReference<byte[]> published = new AtomicReference<>(new ObjectMapper().writeValueAsBytes(issuer.jwks()));
+        HttpServer server = jwksServer(published);
+        try {
+            JwtVerificationCache cache = new JwtVerificationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+            JwtKeyRing verifierRing = new JwtKeyRing("ES256", "", remote(server), cache);
+            JwtTokenProvider verifier = new JwtTokenProvider(verifierRing, 60_000, cache);
+            String token = provider(issuer).createToken(UUID.randomUUID(), AuthRole.CUSTOMER);
+            assertThat(verifier.authenticate(token)).isPresent();
+            assertThat(cache.get(token)).isPresent();
+
+            published.set(new ObjectMapper().writeValueAsBytes(successor.jwks()));
+            verifierRing.refreshRemoteKeys();
+
+            assertThat(cache.get(token)).isEmpty();
+            assertThat(verifier.authenticate(token)).isEmpty();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HttpServer jwksServer(AtomicReference<byte[]> published) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/auth/jwks", exchange -> {
+            byte[] jwks = published.get();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(jwks);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static JwtKeyRingProperties remote(HttpServer server) {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setJwksUri("http://127.0.0.1:" + server.getAddress().getPort() + "/api/auth/jwks");
+        return properties;
+    }
+
+    private static Optional<UUID> customerOf(JwtTokenProvider provider, String token) {
+        return provider.authenticate(token).map(VerifiedJwt::customerId);
+    }
+
+    private static JwtKeyRing ring(String algorithm, String secret, JwtKeyRingProperties properties) {
+        return new JwtKeyRing(algorithm, secret, properties, disabledCache());
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing ring) {
+        return new JwtTokenProvider(ring, 60_000, disabledCache());
+    }
+
+    private static JwtVerificationCache disabledCache() {
+        return new JwtVerificationCache(new SimpleMeterRegistry(), 0, Duration.ofMinutes(1));
+    }
+
+    private static JwtKeyRingProperties properties(String activeKeyId, JwtKeyRingProperties.Key... keys) {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static JwtKeyRingProperties.Key key(String id, KeyPair pair, boolean withPrivateKey) {
+        JwtKeyRingProperties.Key key = new JwtKeyRingProperties.Key();
+        key.setId(id);
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+}
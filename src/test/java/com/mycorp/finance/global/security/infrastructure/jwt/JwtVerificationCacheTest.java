@@ -0,0 +1,76 @@
+package com.mycorp.finance.global.security.infrastructure.jwt;
+
+import com.mycorp.finance.global.security.domain.model.AuthRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtVerificationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtVerificationCache cache = new JwtVerificationCache(meterRegistry, 100, Duration.ofMinutes(1));
+
+    @Test
+    void verifiedTokenIsServedFromTheCacheUntilItExpires() {
+        VerifiedJwt identity = new VerifiedJwt(UUID.randomUUID(), AuthRole.ADMIN);
+
+        cache.put(TOKEN, identity, System.currentTimeMillis() + 60_000);
+
+        assertThat(cache.get(TOKEN)).contains(identity);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verify").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void expiredTokenIsNeverServed() {
+        cache.put(TOKEN, customer(), System.currentTimeMillis() - 1);
+
+        assertThat(cache.get(TOKEN)).isEmpty();
+    }
+
+    @Test
+    void longLivedTokensAreReverifiedAfterTheMaximumAge() throws InterruptedException {
+        JwtVerificationCache shortLived = new JwtVerificationCache(new SimpleMeterRegistry(), 100, Duration.ofMillis(50));
+
+        shortLived.put(TOKEN, customer(), System.currentTimeMillis() + 3_600_000);
+        Thread.sleep(100);
+
+        assertThat(shortLived.get(TOKEN)).isEmpty();
+    }
+
+    @Test
+    void invalidateAllForgetsEveryToken() {
+        cache.put(TOKEN, customer(), System.currentTimeMillis() + 60_000);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(TOKEN)).isEmpty();
+    }
+
+    @Test
+    void tokensAreKeyedByTheirFullContent() {
+        cache.put(TOKEN, customer(), System.currentTimeMillis() + 60_000);
+
+        assertThat(cache.get(TOKEN + "x")).isEmpty();
+        assertThat(cache.get("header.payload.signaturf")).isEmpty();
+    }
+
+    @Test
+    void zeroMaximumSizeDisablesTheCache() {
+        JwtVerificationCache disabled = new JwtVerificationCache(new SimpleMeterRegistry(), 0, Duration.ofMinutes(1));
+
+        disabled.put(TOKEN, customer(), System.currentTimeMillis() + 60_000);
+
+        assertThat(disabled.get(TOKEN)).isEmpty();
+    }
+
+    private static VerifiedJwt customer() {
+        return new VerifiedJwt(UUID.randomUUID(), AuthRole.CUSTOMER);
+    }
+}